@@ -27,6 +27,7 @@ import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.impl.DefaultRaftServer;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.protocol.RaftServerProtocol;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.zeebe.EntryValidator;
@@ -565,6 +566,7 @@ public interface RaftServer {
     protected EntryValidator entryValidator = new NoopEntryValidator();
     protected int maxAppendsPerFollower = 2;
     protected int maxAppendBatchSize = 32 * 1024;
+    protected SnapshotChunkCompression snapshotCompression = SnapshotChunkCompression.NONE;
 
     protected Builder(final MemberId localMemberId) {
       this.localMemberId = checkNotNull(localMemberId, "localMemberId cannot be null");
@@ -706,6 +708,19 @@ public interface RaftServer {
       return this;
     }
 
+    /**
+     * Sets the codec with which snapshot chunks are compressed when they are sent to other members.
+     * Default is no compression.
+     *
+     * @param snapshotCompression the snapshot chunk compression codec
+     * @return The server builder.
+     */
+    public Builder withSnapshotCompression(final SnapshotChunkCompression snapshotCompression) {
+      this.snapshotCompression =
+          checkNotNull(snapshotCompression, "snapshotCompression cannot be null");
+      return this;
+    }
+
     public Builder withJournalIndexFactory(final Supplier<JournalIndex> journalIndexFactory) {
       this.journalIndexFactory = journalIndexFactory;
       return this;
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Limits the bytes of the append requests which are in flight to a member. The window grows by the
+ * acknowledged bytes as long as the round trip time of the appends stays close to the lowest
+ * observed round trip time. If the round trip time increases, e.g. because the member or the
+ * network can't keep up, the window is halved. If an append fails, the window is reset to its
+ * minimum size.
+ */
+final class AppendWindow {
+
+  // round trip times within this factor of the lowest round trip time are considered as not
+  // congested
+  private static final int RTT_TOLERANCE_FACTOR = 2;
+  // the round trip times are measured in milliseconds, which is too coarse for local networks
+  private static final long RTT_TOLERANCE_MS = 1;
+
+  private final long minSize;
+  private final long maxSize;
+  private long size;
+
+  AppendWindow(final long minSize, final long maxSize) {
+    this.minSize = minSize;
+    this.maxSize = Math.max(minSize, maxSize);
+    size = minSize;
+  }
+
+  /**
+   * Adapts the window to the round trip time of a completed append.
+   *
+   * @param bytes the bytes of the completed append
+   * @param rtt the round trip time of the append in milliseconds
+   * @param minRtt the lowest recently observed round trip time in milliseconds
+   */
+  void onAppendCompleted(final long bytes, final long rtt, final long minRtt) {
+    if (rtt <= minRtt * RTT_TOLERANCE_FACTOR + RTT_TOLERANCE_MS) {
+      size = Math.min(maxSize, size + bytes);
+    } else {
+      size = Math.max(minSize, size / 2);
+    }
+  }
+
+  void reset() {
+    size = minSize;
+  }
+
+  long getSize() {
+    return size;
+  }
+}
@@ -35,15 +35,19 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private boolean snapshotChunkMissing;
+  private boolean baseSnapshotMissing;
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -56,9 +60,12 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow =
+        new AppendWindow(maxAppendBatchSize, (long) maxAppendBatchSize * maxAppendsPerMember);
   }
 
   /** Resets the member state. */
@@ -66,10 +73,14 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    snapshotChunkMissing = false;
+    baseSnapshotMissing = false;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
+    appendWindow.reset();
     timeStats.clear();
     configuring = false;
     installing = false;
@@ -101,10 +112,39 @@ public final class RaftMemberContext {
     return inFlightAppendCount == 0
         || (appendSucceeded
             && inFlightAppendCount < maxAppendsPerMember
+            && inFlightAppendBytes < appendWindow.getSize()
             && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
                 >= appendTime);
   }
 
+  /**
+   * Returns the number of bytes which can be appended to the member without exceeding its append
+   * window. At least one entry is always appended, even if it exceeds the remaining window.
+   *
+   * @return the remaining bytes of the append window
+   */
+  public long getRemainingAppendWindow() {
+    return Math.max(0, appendWindow.getSize() - inFlightAppendBytes);
+  }
+
+  /**
+   * Returns the size of the append window, which limits the bytes of the in-flight append requests.
+   *
+   * @return the size of the append window in bytes
+   */
+  public long getAppendWindowSize() {
+    return appendWindow.getSize();
+  }
+
+  /**
+   * Returns the bytes of the append requests which are in flight.
+   *
+   * @return the in-flight bytes
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -135,7 +175,17 @@ public final class RaftMemberContext {
 
   /** Starts an append request to the member. */
   public void startAppend() {
+    startAppend(0);
+  }
+
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The bytes of the entries which are appended.
+   */
+  public void startAppend(final long bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
     appendTime = System.currentTimeMillis();
   }
 
@@ -145,13 +195,17 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Completes an append request to the member.
+   * Completes an append request to the member and adapts the append window to the round trip time
+   * of the append.
    *
+   * @param bytes The bytes of the entries which were appended.
    * @param time The time in milliseconds for the append.
    */
-  public void completeAppend(final long time) {
+  public void completeAppend(final long bytes, final long time) {
     inFlightAppendCount--;
+    inFlightAppendBytes = Math.max(0, inFlightAppendBytes - bytes);
     timeStats.addValue(time);
+    appendWindow.onAppendCompleted(bytes, time, (long) timeStats.getMin());
   }
 
   /**
@@ -198,6 +252,7 @@ public final class RaftMemberContext {
    * @return The member state.
    */
   public int incrementFailureCount() {
+    appendWindow.reset();
     if (failures++ == 0) {
       failureTime = System.currentTimeMillis();
     }
@@ -224,6 +279,8 @@ public final class RaftMemberContext {
         .add("nextIndex", reader != null ? reader.getNextIndex() : matchIndex + 1)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
+        .add("appendWindow", appendWindow.getSize())
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
@@ -377,6 +434,44 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns whether the member couldn't reuse the last sent snapshot chunk, such that it must be
+   * sent again with its content.
+   *
+   * @return Indicates whether the last sent snapshot chunk is missing on the member.
+   */
+  public boolean isSnapshotChunkMissing() {
+    return snapshotChunkMissing;
+  }
+
+  /**
+   * Sets whether the member couldn't reuse the last sent snapshot chunk.
+   *
+   * @param snapshotChunkMissing whether the last sent snapshot chunk is missing on the member
+   */
+  public void setSnapshotChunkMissing(final boolean snapshotChunkMissing) {
+    this.snapshotChunkMissing = snapshotChunkMissing;
+  }
+
+  /**
+   * Returns whether the member has no snapshot to reuse chunks from, such that no chunk of the
+   * snapshot which is currently sent is offered for reuse anymore.
+   *
+   * @return Indicates whether the member has no base snapshot.
+   */
+  public boolean isBaseSnapshotMissing() {
+    return baseSnapshotMissing;
+  }
+
+  /**
+   * Sets whether the member has no snapshot to reuse chunks from.
+   *
+   * @param baseSnapshotMissing whether the member has no base snapshot
+   */
+  public void setBaseSnapshotMissing(final boolean baseSnapshotMissing) {
+    this.baseSnapshotMissing = baseSnapshotMissing;
+  }
+
   /**
    * Returns the member response time.
    *
@@ -321,6 +321,7 @@ public class DefaultRaftServer implements RaftServer {
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
       raft.setEntryValidator(entryValidator);
+      raft.setSnapshotCompression(snapshotCompression);
 
       return new DefaultRaftServer(raft);
     }
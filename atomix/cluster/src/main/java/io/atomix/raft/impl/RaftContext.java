@@ -46,6 +46,7 @@ import io.atomix.raft.roles.LeaderRole;
 import io.atomix.raft.roles.PassiveRole;
 import io.atomix.raft.roles.PromotableRole;
 import io.atomix.raft.roles.RaftRole;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -95,6 +96,7 @@ public class RaftContext implements AutoCloseable {
   private final MetaStore meta;
   private final RaftLog raftLog;
   private final RaftLogWriter logWriter;
+  private final RaftLogFlusher logFlusher;
   private final RaftLogReader logReader;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
@@ -109,6 +111,7 @@ public class RaftContext implements AutoCloseable {
   private volatile long firstCommitIndex;
   private volatile boolean started;
   private EntryValidator entryValidator;
+  private SnapshotChunkCompression snapshotCompression = SnapshotChunkCompression.NONE;
   private final int maxAppendBatchSize;
   private final int maxAppendsPerFollower;
   // Used for randomizing election timeout
@@ -155,6 +158,13 @@ public class RaftContext implements AutoCloseable {
     raftLog = storage.openLog();
     logWriter = raftLog.writer();
     logReader = raftLog.openReader(1, RaftLogReader.Mode.ALL);
+    logFlusher =
+        new RaftLogFlusher(
+            logWriter,
+            threadContext,
+            raftLog.shouldFlushExplicitly(),
+            storage.flushDelay(),
+            storage.maxUnflushedBytes());
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -349,9 +359,9 @@ public class RaftContext implements AutoCloseable {
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       logWriter.commit(Math.min(commitIndex, logWriter.getLastIndex()));
-      if (raftLog.shouldFlushExplicitly() && isLeader()) {
+      if (isLeader() && !logFlusher.isFlushed(commitIndex)) {
         // leader counts itself in quorum, so in order to commit the leader must persist
-        logWriter.flush();
+        logFlusher.flush();
       }
       final long configurationIndex = cluster.getConfiguration().index();
       if (configurationIndex > previousCommitIndex && configurationIndex <= commitIndex) {
@@ -585,6 +595,7 @@ public class RaftContext implements AutoCloseable {
     unregisterHandlers(protocol);
 
     logCompactor.close();
+    logFlusher.close();
 
     // Close the log.
     try {
@@ -730,6 +741,25 @@ public class RaftContext implements AutoCloseable {
     entryValidator = validator;
   }
 
+  /**
+   * Returns the codec with which snapshot chunks are compressed when they are sent to other
+   * members.
+   *
+   * @return The snapshot chunk compression codec.
+   */
+  public SnapshotChunkCompression getSnapshotCompression() {
+    return snapshotCompression;
+  }
+
+  /**
+   * Sets the codec with which snapshot chunks are compressed when they are sent to other members.
+   *
+   * @param snapshotCompression The snapshot chunk compression codec.
+   */
+  public void setSnapshotCompression(final SnapshotChunkCompression snapshotCompression) {
+    this.snapshotCompression = snapshotCompression;
+  }
+
   /**
    * Returns the state last voted for candidate.
    *
@@ -787,6 +817,15 @@ public class RaftContext implements AutoCloseable {
     return logWriter;
   }
 
+  /**
+   * Returns the server log flusher, which coalesces the flushes of the log.
+   *
+   * @return The log flusher.
+   */
+  public RaftLogFlusher getLogFlusher() {
+    return logFlusher;
+  }
+
   /**
    * Returns the cluster service.
    *
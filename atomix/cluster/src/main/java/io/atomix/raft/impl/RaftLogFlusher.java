@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import io.atomix.raft.storage.log.RaftLogWriter;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group commit of the Raft log. Instead of flushing the log for every append request, the flushes
+ * of the entries which are appended within the flush delay are coalesced into one flush. The log is
+ * flushed immediately if the unflushed entries exceed the max unflushed bytes. The callbacks which
+ * wait for the entries are called once the entries are flushed, e.g. to acknowledge the entries to
+ * the leader.
+ *
+ * <p>If the log should not be flushed explicitly, then the entries are considered as flushed as
+ * soon as they are appended.
+ *
+ * <p>The flusher must only be used on the Raft thread.
+ */
+public final class RaftLogFlusher {
+
+  private final RaftLogWriter writer;
+  private final ThreadContext threadContext;
+  private final boolean flushExplicitly;
+  private final Duration flushDelay;
+  private final long maxUnflushedBytes;
+  private final List<Runnable> pendingCallbacks = new ArrayList<>();
+
+  private boolean flushScheduled;
+  private Scheduled scheduledFlush;
+  private boolean closed;
+
+  public RaftLogFlusher(
+      final RaftLogWriter writer,
+      final ThreadContext threadContext,
+      final boolean flushExplicitly,
+      final Duration flushDelay,
+      final long maxUnflushedBytes) {
+    this.writer = writer;
+    this.threadContext = threadContext;
+    this.flushExplicitly = flushExplicitly;
+    this.flushDelay = flushDelay;
+    this.maxUnflushedBytes = maxUnflushedBytes;
+  }
+
+  /**
+   * Returns whether all entries up to the given index are flushed.
+   *
+   * @param index the index of the entry
+   * @return true if the entries are flushed, or if the log is not flushed explicitly
+   */
+  public boolean isFlushed(final long index) {
+    return !flushExplicitly || writer.isFlushed(index);
+  }
+
+  /**
+   * Returns the index of the last entry, up to which all entries are flushed.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getFlushedIndex() {
+    return flushExplicitly ? writer.getLastFlushedIndex() : writer.getLastIndex();
+  }
+
+  /**
+   * Calls the given callback once all entries up to the given index are flushed. If the entries are
+   * already flushed, then the callback is called immediately. Otherwise, a flush is scheduled which
+   * also covers the entries which are appended until the flush is done.
+   *
+   * @param index the index of the entry
+   * @param callback the callback to call once the entry is flushed
+   */
+  public void flush(final long index, final Runnable callback) {
+    if (isFlushed(index)) {
+      callback.run();
+      return;
+    }
+
+    pendingCallbacks.add(callback);
+
+    if (writer.getUnflushedBytes() >= maxUnflushedBytes) {
+      flush();
+    } else {
+      scheduleFlush();
+    }
+  }
+
+  /** Flushes all appended entries immediately and calls the pending callbacks. */
+  public void flush() {
+    if (flushExplicitly && !writer.isFlushed(writer.getLastIndex())) {
+      writer.flush();
+    }
+
+    if (!pendingCallbacks.isEmpty()) {
+      final List<Runnable> callbacks = new ArrayList<>(pendingCallbacks);
+      pendingCallbacks.clear();
+      callbacks.forEach(Runnable::run);
+    }
+  }
+
+  /** Cancels the scheduled flush and drops the pending callbacks. */
+  public void close() {
+    closed = true;
+    pendingCallbacks.clear();
+
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+  }
+
+  private void scheduleFlush() {
+    if (flushScheduled) {
+      return;
+    }
+
+    flushScheduled = true;
+    if (flushDelay.isZero()) {
+      // flush after the currently queued tasks, which may append more entries
+      threadContext.execute(this::onScheduledFlush);
+    } else {
+      scheduledFlush = threadContext.schedule(flushDelay, this::onScheduledFlush);
+    }
+  }
+
+  private void onScheduledFlush() {
+    flushScheduled = false;
+    scheduledFlush = null;
+
+    if (!closed) {
+      flush();
+    }
+  }
+}
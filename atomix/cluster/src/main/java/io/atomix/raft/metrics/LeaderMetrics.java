@@ -16,7 +16,9 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import io.prometheus.client.Summary;
 
 public class LeaderMetrics extends RaftMetrics {
 
@@ -28,6 +30,33 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames("follower", "partitionGroupName", "partition")
           .register();
 
+  private static final Summary REPLICATION_LATENCY =
+      Summary.build()
+          .namespace("atomix")
+          .name("replication_latency")
+          .help("Latency to replicate entries to a follower, excluding heartbeats")
+          .quantile(0.5, 0.05)
+          .quantile(0.9, 0.01)
+          .quantile(0.99, 0.001)
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Gauge APPEND_WINDOW_SIZE =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_window_size_bytes")
+          .help("Maximum bytes of the append requests which can be in flight to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Gauge IN_FLIGHT_APPEND_BYTES =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_in_flight_bytes")
+          .help("Bytes of the append requests which are in flight to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
   public LeaderMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -35,4 +64,16 @@ public class LeaderMetrics extends RaftMetrics {
   public void appendComplete(final long latencyms, final String memberId) {
     APPEND_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
   }
+
+  public void replicationComplete(final long latencyms, final String memberId) {
+    REPLICATION_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
+  }
+
+  public void setAppendWindowSize(final long bytes, final String memberId) {
+    APPEND_WINDOW_SIZE.labels(memberId, partitionGroupName, partition).set(bytes);
+  }
+
+  public void setInFlightAppendBytes(final long bytes, final String memberId) {
+    IN_FLIGHT_APPEND_BYTES.labels(memberId, partitionGroupName, partition).set(bytes);
+  }
 }
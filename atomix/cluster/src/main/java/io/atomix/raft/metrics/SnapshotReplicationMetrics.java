@@ -15,7 +15,9 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
   private static final String NAMESPACE = "atomix";
@@ -36,6 +38,27 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter RAW_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Size of the sent snapshot chunk contents before compression in bytes")
+          .name("snapshot_replication_raw_bytes")
+          .register();
+  private static final Counter WIRE_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Size of the sent snapshot chunk contents after compression in bytes")
+          .name("snapshot_replication_wire_bytes")
+          .register();
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Time spent to compress a sent snapshot chunk")
+          .name("snapshot_replication_compression_time_in_s")
+          .register();
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
@@ -56,4 +79,13 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     DURATION.labels(partitionGroupName, partition).set(durationMillis);
   }
+
+  public void observeSentChunk(
+      final long rawBytes, final long wireBytes, final long compressionTimeNanos) {
+    RAW_BYTES.labels(partitionGroupName, partition).inc(rawBytes);
+    WIRE_BYTES.labels(partitionGroupName, partition).inc(wireBytes);
+    COMPRESSION_TIME
+        .labels(partitionGroupName, partition)
+        .observe(compressionTimeNanos / 1_000_000_000d);
+  }
 }
@@ -33,6 +33,7 @@ import io.atomix.primitive.partition.PartitionGroupConfig;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionManagementService;
 import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.concurrent.Futures;
@@ -277,7 +278,8 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
               .register(RaftPartitionGroupConfig.class)
               .register(RaftStorageConfig.class)
               .register(Void.class) // RaftCompactionConfig
-              .register(StorageLevel.class));
+              .register(StorageLevel.class)
+              .register(SnapshotChunkCompression.class));
     }
 
     @Override
@@ -392,6 +394,19 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the codec with which the leader compresses snapshot chunks sent to followers. Default is
+     * no compression.
+     *
+     * @param snapshotCompression the snapshot chunk compression codec
+     * @return the Raft partition group builder
+     */
+    public Builder withSnapshotCompression(final SnapshotChunkCompression snapshotCompression) {
+      config.setSnapshotCompression(
+          checkNotNull(snapshotCompression, "snapshotCompression cannot be null"));
+      return this;
+    }
+
     /**
      * Sets the storage level.
      *
@@ -480,6 +495,33 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the delay after which the appended entries are flushed. The flushes of the entries which
+     * are appended within the delay are coalesced into one flush.
+     *
+     * @param flushDelay the delay after which the appended entries are flushed
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushDelay(final Duration flushDelay) {
+      checkNotNull(flushDelay, "flushDelay cannot be null");
+      checkArgument(!flushDelay.isNegative(), "flushDelay must be positive");
+      config.getStorageConfig().setFlushDelay(flushDelay);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of appended bytes after which the entries are flushed immediately,
+     * without waiting for the flush delay.
+     *
+     * @param maxUnflushedBytes the maximum number of unflushed bytes
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxUnflushedBytes(final long maxUnflushedBytes) {
+      checkArgument(maxUnflushedBytes > 0, "maxUnflushedBytes must be positive");
+      config.getStorageConfig().setMaxUnflushedBytes(maxUnflushedBytes);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -23,6 +23,7 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -32,6 +33,8 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
+  private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+  private static final long DEFAULT_MAX_UNFLUSHED_BYTES = 1024 * 1024 * 4; // 4MB
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1; // 1GB
   private static final ReceivableSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
@@ -41,6 +44,8 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+  private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+  private long maxUnflushedBytes = DEFAULT_MAX_UNFLUSHED_BYTES;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
 
   @Optional("SnapshotStoreFactory")
@@ -141,6 +146,48 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns the delay after which the appended entries are flushed. The flushes of the entries
+   * which are appended within the delay are coalesced into one flush.
+   *
+   * @return the flush delay
+   */
+  public Duration getFlushDelay() {
+    return flushDelay;
+  }
+
+  /**
+   * Sets the delay after which the appended entries are flushed. The flushes of the entries which
+   * are appended within the delay are coalesced into one flush.
+   *
+   * @param flushDelay the flush delay
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setFlushDelay(final Duration flushDelay) {
+    this.flushDelay = flushDelay;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of appended bytes after which the entries are flushed immediately.
+   *
+   * @return the maximum number of unflushed bytes
+   */
+  public long getMaxUnflushedBytes() {
+    return maxUnflushedBytes;
+  }
+
+  /**
+   * Sets the maximum number of appended bytes after which the entries are flushed immediately.
+   *
+   * @param maxUnflushedBytes the maximum number of unflushed bytes
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setMaxUnflushedBytes(final long maxUnflushedBytes) {
+    this.maxUnflushedBytes = maxUnflushedBytes;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
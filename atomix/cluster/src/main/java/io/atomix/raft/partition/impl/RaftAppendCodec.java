@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.raft.zeebe.ZeebeEntryCodec;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec for {@link AppendRequest} and {@link AppendResponse}, which are sent for every
+ * heartbeat and replicated entry. The fields are written in a fixed layout instead of serializing
+ * the object graph with Kryo. {@link ZeebeEntry ZeebeEntries} are written as raw bytes with the
+ * {@link ZeebeEntryCodec}, other entries (e.g. configuration entries) are rare and are written with
+ * the fallback serializer.
+ */
+final class RaftAppendCodec {
+
+  private static final byte VERSION = 1;
+
+  private static final byte ZEEBE_ENTRY = 0;
+  private static final byte SERIALIZED_ENTRY = 1;
+
+  private static final int NULL_LENGTH = -1;
+
+  private static final int REQUEST_HEADER_LENGTH = Byte.BYTES + Long.BYTES * 4 + Integer.BYTES * 2;
+  private static final int SERIALIZED_ENTRY_HEADER_LENGTH = Byte.BYTES + Integer.BYTES;
+  private static final int RESPONSE_LENGTH = Byte.BYTES * 4 + Long.BYTES * 3;
+
+  private final Serializer fallbackSerializer;
+
+  RaftAppendCodec(final Serializer fallbackSerializer) {
+    this.fallbackSerializer = fallbackSerializer;
+  }
+
+  byte[] encodeAppendRequest(final AppendRequest request) {
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<RaftLogEntry> entries = request.entries();
+
+    // serialize the other entries upfront to calculate the length of the message
+    final List<byte[]> serializedEntries = new ArrayList<>();
+    int length = REQUEST_HEADER_LENGTH + leader.length;
+    for (final RaftLogEntry entry : entries) {
+      if (entry instanceof ZeebeEntry) {
+        length += Byte.BYTES + ZeebeEntryCodec.length((ZeebeEntry) entry);
+      } else {
+        final byte[] serializedEntry = fallbackSerializer.encode(entry);
+        serializedEntries.add(serializedEntry);
+        length += SERIALIZED_ENTRY_HEADER_LENGTH + serializedEntry.length;
+      }
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer
+        .put(VERSION)
+        .putLong(request.term())
+        .putLong(request.prevLogIndex())
+        .putLong(request.prevLogTerm())
+        .putLong(request.commitIndex())
+        .putInt(leader.length)
+        .put(leader)
+        .putInt(entries.size());
+
+    int serializedEntryIndex = 0;
+    for (final RaftLogEntry entry : entries) {
+      if (entry instanceof ZeebeEntry) {
+        buffer.put(ZEEBE_ENTRY);
+        ZeebeEntryCodec.encode((ZeebeEntry) entry, buffer);
+      } else {
+        final byte[] serializedEntry = serializedEntries.get(serializedEntryIndex++);
+        buffer.put(SERIALIZED_ENTRY).putInt(serializedEntry.length).put(serializedEntry);
+      }
+    }
+
+    return buffer.array();
+  }
+
+  AppendRequest decodeAppendRequest(final byte[] bytes) {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    checkVersion(buffer);
+
+    final long term = buffer.getLong();
+    final long prevLogIndex = buffer.getLong();
+    final long prevLogTerm = buffer.getLong();
+    final long commitIndex = buffer.getLong();
+    final String leader = getString(buffer);
+
+    final int entryCount = buffer.getInt();
+    final List<RaftLogEntry> entries = new ArrayList<>(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      final byte entryType = buffer.get();
+      if (entryType == ZEEBE_ENTRY) {
+        entries.add(ZeebeEntryCodec.decode(buffer));
+      } else {
+        final byte[] serializedEntry = new byte[buffer.getInt()];
+        buffer.get(serializedEntry);
+        entries.add(fallbackSerializer.decode(serializedEntry));
+      }
+    }
+
+    return new AppendRequest(term, leader, prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  byte[] encodeAppendResponse(final AppendResponse response) {
+    final RaftError error = response.error();
+    final byte[] errorType =
+        error != null ? error.type().name().getBytes(StandardCharsets.UTF_8) : null;
+    final byte[] errorMessage =
+        error != null && error.message() != null
+            ? error.message().getBytes(StandardCharsets.UTF_8)
+            : null;
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(
+            RESPONSE_LENGTH
+                + (error != null ? Integer.BYTES * 2 + errorType.length : 0)
+                + (errorMessage != null ? errorMessage.length : 0));
+
+    buffer
+        .put(VERSION)
+        .put(response.status().id())
+        .putLong(response.term())
+        .put(response.succeeded() ? (byte) 1 : (byte) 0)
+        .putLong(response.lastLogIndex())
+        .putLong(response.lastSnapshotIndex());
+
+    if (error != null) {
+      buffer.put((byte) 1);
+      putBytes(buffer, errorType);
+      putBytes(buffer, errorMessage);
+    } else {
+      buffer.put((byte) 0);
+    }
+
+    return buffer.array();
+  }
+
+  AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    checkVersion(buffer);
+
+    final Status status = buffer.get() == Status.OK.id() ? Status.OK : Status.ERROR;
+    final long term = buffer.getLong();
+    final boolean succeeded = buffer.get() == 1;
+    final long lastLogIndex = buffer.getLong();
+    final long lastSnapshotIndex = buffer.getLong();
+
+    RaftError error = null;
+    if (buffer.get() == 1) {
+      final RaftError.Type type = RaftError.Type.valueOf(getString(buffer));
+      error = new RaftError(type, getString(buffer));
+    }
+
+    return new AppendResponse(status, error, term, succeeded, lastLogIndex, lastSnapshotIndex);
+  }
+
+  private static void checkVersion(final ByteBuffer buffer) {
+    final byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to decode append message of version %d, but got version %d",
+              VERSION, version));
+    }
+  }
+
+  private static void putBytes(final ByteBuffer buffer, final byte[] bytes) {
+    if (bytes == null) {
+      buffer.putInt(NULL_LENGTH);
+    } else {
+      buffer.putInt(bytes.length).put(bytes);
+    }
+  }
+
+  private static String getString(final ByteBuffer buffer) {
+    final int length = buffer.getInt();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+
+    final String value =
+        new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+}
@@ -35,6 +35,7 @@ class RaftMessageContext {
   final String pollSubject;
   final String voteSubject;
   final String appendSubject;
+  final String appendCodecSubject;
   final String leaderHeartbeatSubject;
   private final String prefix;
 
@@ -56,6 +57,7 @@ class RaftMessageContext {
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
     appendSubject = getSubject(prefix, "append");
+    appendCodecSubject = getSubject(prefix, "append-v2");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -41,17 +42,25 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final long APPEND_CODEC_RECHECK_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
+  private final RaftAppendCodec appendCodec;
+  // members which didn't support the append codec, with the time when it was checked
+  private final Map<String, Long> membersWithoutAppendCodec = new ConcurrentHashMap<>();
 
   public RaftServerCommunicator(
       final String prefix,
@@ -63,6 +72,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     this.clusterCommunicator =
         Preconditions.checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
     metrics = new RaftRequestMetrics(partitionName);
+    appendCodec = new RaftAppendCodec(serializer);
   }
 
   @Override
@@ -110,10 +120,80 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.voteSubject, request, memberId);
   }
 
+  /**
+   * Sends the append request with the {@link RaftAppendCodec} if the member supports it, otherwise
+   * with the serializer. Whether a member supports the codec is detected by the subject of the
+   * codec: if the member has no handler for it, but for the serialized requests, then it runs an
+   * older version and the codec is tried again after a minute.
+   */
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    if (!supportsAppendCodec(memberId)) {
+      return sendAndReceive(context.appendSubject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .<AppendRequest, AppendResponse>send(
+            context.appendCodecSubject,
+            request,
+            appendCodec::encodeAppendRequest,
+            appendCodec::decodeAppendResponse,
+            MemberId.from(memberId.id()))
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                return CompletableFuture.completedFuture(response);
+              } else if (isNoRemoteHandler(error)) {
+                return appendWithoutCodec(memberId, request);
+              } else {
+                return CompletableFuture.<AppendResponse>failedFuture(error);
+              }
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<AppendResponse> appendWithoutCodec(
+      final MemberId memberId, final AppendRequest request) {
+    return clusterCommunicator
+        .<AppendRequest, AppendResponse>send(
+            context.appendSubject,
+            request,
+            serializer::encode,
+            serializer::decode,
+            MemberId.from(memberId.id()))
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                // the member handles the serialized requests, but not the codec
+                membersWithoutAppendCodec.put(memberId.id(), System.currentTimeMillis());
+              }
+            });
+  }
+
+  private boolean supportsAppendCodec(final MemberId memberId) {
+    final Long checkedAt = membersWithoutAppendCodec.get(memberId.id());
+    if (checkedAt == null) {
+      return true;
+    }
+
+    if (System.currentTimeMillis() - checkedAt >= APPEND_CODEC_RECHECK_INTERVAL_MS) {
+      membersWithoutAppendCodec.remove(memberId.id());
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean isNoRemoteHandler(final Throwable error) {
+    Throwable cause = error;
+    while (cause != null) {
+      if (cause instanceof MessagingException.NoRemoteHandler) {
+        return true;
+      }
+      cause = cause.getCause();
+    }
+    return false;
   }
 
   @Override
@@ -244,11 +324,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<AppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.subscribe(
+        context.appendCodecSubject,
+        appendCodec::decodeAppendRequest,
+        handler.<AppendRequest>compose(this::recordReceivedMetrics),
+        appendCodec::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendSubject);
+    clusterCommunicator.unsubscribe(context.appendCodecSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
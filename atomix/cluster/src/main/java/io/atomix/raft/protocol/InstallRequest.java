@@ -59,6 +59,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // true if the data contains no content, as the follower should reuse the chunk of its latest
+  // snapshot
+  private final boolean reuseChunk;
 
   public InstallRequest(
       final long currentTerm,
@@ -71,7 +74,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final boolean reuseChunk) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -82,6 +86,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.data = data;
     this.initial = initial;
     this.complete = complete;
+    this.reuseChunk = reuseChunk;
     this.term = term;
   }
 
@@ -180,6 +185,16 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns whether the follower should reuse the chunk of its latest snapshot, which has the same
+   * name and checksum. In this case the data contains the chunk without its content.
+   *
+   * @return Indicates whether the follower should reuse the chunk.
+   */
+  public boolean reuseChunk() {
+    return reuseChunk;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
@@ -193,7 +208,8 @@ public class InstallRequest extends AbstractRaftRequest {
         nextChunkId,
         data,
         initial,
-        complete);
+        complete,
+        reuseChunk);
   }
 
   @Override
@@ -212,6 +228,7 @@ public class InstallRequest extends AbstractRaftRequest {
         && version == that.version
         && initial == that.initial
         && complete == that.complete
+        && reuseChunk == that.reuseChunk
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
@@ -232,6 +249,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reuseChunk", reuseChunk)
         .toString();
   }
 
@@ -248,6 +266,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private ByteBuffer data;
     private boolean complete;
     private boolean initial;
+    private boolean reuseChunk;
     private long term;
 
     /**
@@ -374,6 +393,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets whether the follower should reuse the chunk of its latest snapshot.
+     *
+     * @param reuseChunk whether the follower should reuse the chunk
+     * @return the request builder
+     */
+    public Builder withReuseChunk(final boolean reuseChunk) {
+      this.reuseChunk = reuseChunk;
+      return this;
+    }
+
     /** @throws IllegalStateException if member is null */
     @Override
     public InstallRequest build() {
@@ -389,7 +419,8 @@ public class InstallRequest extends AbstractRaftRequest {
           nextChunkId,
           data,
           initial,
-          complete);
+          complete,
+          reuseChunk);
     }
 
     @Override
@@ -16,19 +16,34 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+
 import io.atomix.raft.RaftError;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, install responses
+ * indicate whether the follower couldn't reuse the requested chunk, such that the leader has to
+ * send it with its content, and whether the follower has no snapshot to reuse chunks from at all.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // true if the follower couldn't reuse the requested chunk
+  private final boolean chunkMissing;
+  // true if the follower has no snapshot to reuse chunks from
+  private final boolean noBaseSnapshot;
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final boolean chunkMissing,
+      final boolean noBaseSnapshot) {
     super(status, error);
+    this.chunkMissing = chunkMissing;
+    this.noBaseSnapshot = noBaseSnapshot;
   }
 
   /**
@@ -40,13 +55,88 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns whether the follower couldn't reuse the chunk of the request, which then must be sent
+   * again with its content.
+   *
+   * @return Indicates whether the requested chunk is missing on the follower.
+   */
+  public boolean chunkMissing() {
+    return chunkMissing;
+  }
+
+  /**
+   * Returns whether the follower has no snapshot to reuse chunks from, such that no further chunk
+   * should be offered for reuse.
+   *
+   * @return Indicates whether the follower has no base snapshot.
+   */
+  public boolean noBaseSnapshot() {
+    return noBaseSnapshot;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, chunkMissing, noBaseSnapshot);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.chunkMissing == chunkMissing
+          && response.noBaseSnapshot == noBaseSnapshot;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("chunkMissing", chunkMissing)
+          .add("noBaseSnapshot", noBaseSnapshot)
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private boolean chunkMissing;
+    private boolean noBaseSnapshot;
+
+    /**
+     * Sets whether the follower couldn't reuse the requested chunk.
+     *
+     * @param chunkMissing whether the requested chunk is missing on the follower
+     * @return the response builder
+     */
+    public Builder withChunkMissing(final boolean chunkMissing) {
+      this.chunkMissing = chunkMissing;
+      return this;
+    }
+
+    /**
+     * Sets whether the follower has no snapshot to reuse chunks from.
+     *
+     * @param noBaseSnapshot whether the follower has no base snapshot
+     * @return the response builder
+     */
+    public Builder withNoBaseSnapshot(final boolean noBaseSnapshot) {
+      this.noBaseSnapshot = noBaseSnapshot;
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, chunkMissing, noBaseSnapshot);
     }
   }
 }
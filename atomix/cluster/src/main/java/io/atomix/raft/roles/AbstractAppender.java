@@ -23,6 +23,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -34,6 +35,7 @@ import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
@@ -57,6 +59,7 @@ abstract class AbstractAppender implements AutoCloseable {
   protected boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
 
   AbstractAppender(final RaftContext raft) {
     this.raft = checkNotNull(raft, "context cannot be null");
@@ -64,6 +67,7 @@ abstract class AbstractAppender implements AutoCloseable {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
+    snapshotReplicationMetrics = new SnapshotReplicationMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
   }
 
@@ -153,6 +157,9 @@ abstract class AbstractAppender implements AutoCloseable {
     // counted towards the size of the batch.
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
+    // The batch is also limited by the remaining append window of the member, so that a slow
+    // member is not flooded with entries.
+    final long maxBatchSize = Math.min(maxBatchSizePerAppend, member.getRemainingAppendWindow());
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -161,7 +168,7 @@ abstract class AbstractAppender implements AutoCloseable {
       final Indexed<RaftLogEntry> entry = reader.next();
       entries.add(entry.entry());
       size += entry.size();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -178,7 +185,9 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final long appendBytes = getEntriesSize(request);
+    member.startAppend(appendBytes);
+    updateAppendWindowMetrics(member);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -191,10 +200,12 @@ abstract class AbstractAppender implements AutoCloseable {
               final long appendLatency = System.currentTimeMillis() - timestamp;
               metrics.appendComplete(appendLatency, member.getMember().memberId().id());
               if (!request.entries().isEmpty()) {
-                member.completeAppend(appendLatency);
+                member.completeAppend(appendBytes, appendLatency);
+                metrics.replicationComplete(appendLatency, member.getMember().memberId().id());
               } else {
                 member.completeAppend();
               }
+              updateAppendWindowMetrics(member);
 
               if (open) {
                 if (error == null) {
@@ -212,6 +223,27 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  private void updateAppendWindowMetrics(final RaftMemberContext member) {
+    final String memberId = member.getMember().memberId().id();
+    metrics.setAppendWindowSize(member.getAppendWindowSize(), memberId);
+    metrics.setInFlightAppendBytes(member.getInFlightAppendBytes(), memberId);
+  }
+
+  /**
+   * Returns the bytes of the entries of the given request, which are counted against the append
+   * window of the member. The size of an entry is approximated by the size of its data, other
+   * entries like configuration entries are small and rare.
+   */
+  private static long getEntriesSize(final AppendRequest request) {
+    long size = 0;
+    for (final RaftLogEntry entry : request.entries()) {
+      if (entry instanceof ZeebeEntry) {
+        size += ((ZeebeEntry) entry).data().remaining();
+      }
+    }
+    return size;
+  }
+
   /** Handles an append failure. */
   protected void handleAppendResponseFailure(
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
@@ -469,6 +501,8 @@ abstract class AbstractAppender implements AutoCloseable {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      member.setSnapshotChunkMissing(false);
+      member.setBaseSnapshotMissing(false);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -477,7 +511,17 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     try {
-      final SnapshotChunk chunk = reader.next();
+      final ByteBuffer chunkId = reader.nextId();
+
+      // The member may already hold the file of the chunk in its latest snapshot. Then only the
+      // checksum of the file is sent, unless the member reported that it doesn't hold the file or
+      // that it has no snapshot at all.
+      final Optional<SnapshotChunk> reusableChunk =
+          member.isSnapshotChunkMissing() || member.isBaseSnapshotMissing()
+              ? Optional.empty()
+              : reader.nextReusable();
+      member.setSnapshotChunkMissing(false);
+      final SnapshotChunk chunk = reusableChunk.isPresent() ? reusableChunk.get() : reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -491,11 +535,12 @@ abstract class AbstractAppender implements AutoCloseable {
               .withTerm(persistedSnapshot.getTerm())
               .withTimestamp(persistedSnapshot.getTimestamp().unixTimestamp())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withData(compressSnapshotChunk(chunk).toByteBuffer())
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReuseChunk(reusableChunk.isPresent())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -510,6 +555,16 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  private SnapshotChunkImpl compressSnapshotChunk(final SnapshotChunk chunk) {
+    final long startTime = System.nanoTime();
+    final var compressedChunk = new SnapshotChunkImpl(chunk, raft.getSnapshotCompression());
+    snapshotReplicationMetrics.observeSentChunk(
+        compressedChunk.getContentLength(),
+        compressedChunk.getTransferredContentLength(),
+        System.nanoTime() - startTime);
+    return compressedChunk;
+  }
+
   /** Connects to the member and sends a snapshot request. */
   protected void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -572,9 +627,15 @@ abstract class AbstractAppender implements AutoCloseable {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // If the member couldn't reuse the chunk, send the same chunk again with its content.
+    if (response.chunkMissing()) {
+      member.getSnapshotChunkReader().seek(request.chunkId());
+      member.setSnapshotChunkMissing(true);
+      member.setBaseSnapshotMissing(response.noBaseSnapshot());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
-    if (request.complete()) {
+    else if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
       member.setSnapshotIndex(request.index());
@@ -51,6 +51,7 @@ final class LeaderAppender extends AbstractAppender {
   private final Map<Long, CompletableFuture<Long>> appendFutures = new HashMap<>();
   private final List<TimestampedFuture<Long>> heartbeatFutures = new ArrayList<>();
   private final long heartbeatTime;
+  private boolean commitOnFlush;
 
   LeaderAppender(final LeaderRole leader) {
     super(leader.raft);
@@ -93,6 +94,7 @@ final class LeaderAppender extends AbstractAppender {
     return appendFutures.computeIfAbsent(
         index,
         i -> {
+          flushEntries(i);
           for (final RaftMemberContext member : raft.getCluster().getActiveMemberStates()) {
             appendEntries(member);
           }
@@ -100,6 +102,28 @@ final class LeaderAppender extends AbstractAppender {
         });
   }
 
+  /**
+   * Flushes the entries up to the given index in parallel to the replication. The leader counts
+   * itself in the quorum, so the entries are committed only after they are flushed.
+   */
+  private void flushEntries(final long index) {
+    if (commitOnFlush) {
+      // the pending flush covers all entries which are appended until it is done
+      return;
+    }
+
+    commitOnFlush = true;
+    raft.getLogFlusher()
+        .flush(
+            index,
+            () -> {
+              commitOnFlush = false;
+              if (open) {
+                commitEntries();
+              }
+            });
+  }
+
   /**
    * Triggers a heartbeat to a majority of the cluster.
    *
@@ -482,8 +506,11 @@ final class LeaderAppender extends AbstractAppender {
       return;
     }
 
-    // Calculate the current commit index as the median matchIndex.
-    final long commitIndex = members.get(getQuorumIndex()).getMatchIndex();
+    // Calculate the current commit index as the median matchIndex. The leader counts itself in the
+    // quorum, so only the entries which it has flushed can be committed.
+    final long commitIndex =
+        Math.min(
+            members.get(getQuorumIndex()).getMatchIndex(), raft.getLogFlusher().getFlushedIndex());
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
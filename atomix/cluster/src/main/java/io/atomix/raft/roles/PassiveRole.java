@@ -240,9 +240,24 @@ public class PassiveRole extends InactiveRole {
       }
     }
 
+    if (request.reuseChunk() && !reusePendingSnapshotChunk(snapshotChunk)) {
+      // expect the same chunk again, which is then sent with its content; without a snapshot, the
+      // leader doesn't have to offer the remaining chunks for reuse either
+      pendingSnapshot.setNextExpected(request.chunkId());
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.OK)
+                  .withChunkMissing(true)
+                  .withNoBaseSnapshot(
+                      raft.getPersistedSnapshotStore().getLatestSnapshot().isEmpty())
+                  .build()));
+    }
+
     boolean snapshotChunkConsumptionFailed;
     try {
-      snapshotChunkConsumptionFailed = !pendingSnapshot.apply(snapshotChunk);
+      snapshotChunkConsumptionFailed =
+          !request.reuseChunk() && !pendingSnapshot.apply(snapshotChunk);
     } catch (final Exception e) {
       log.error("Failed to write pending snapshot chunk {}, rolling back", pendingSnapshot, e);
       snapshotChunkConsumptionFailed = true;
@@ -291,6 +306,15 @@ public class PassiveRole extends InactiveRole {
         logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
   }
 
+  private boolean reusePendingSnapshotChunk(final SnapshotChunkImpl snapshotChunk) {
+    try {
+      return pendingSnapshot.reuse(snapshotChunk);
+    } catch (final Exception e) {
+      log.warn("Failed to reuse pending snapshot chunk {}", pendingSnapshot, e);
+      return false;
+    }
+  }
+
   @Override
   public CompletableFuture<JoinResponse> onJoin(final JoinRequest request) {
     raft.checkThread();
@@ -609,13 +633,10 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    if (raft.getLog().shouldFlushExplicitly()) {
-      raft.getLogWriter().flush();
-    }
-
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge.
+    // The flush is shared with the append requests which are received in the meantime.
+    final long appendedIndex = lastLogIndex;
+    raft.getLogFlusher().flush(appendedIndex, () -> succeedAppend(appendedIndex, future));
   }
 
   private boolean tryToAppend(
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2020  camunda services GmbH (info@camunda.com)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package io.atomix.raft.snapshot.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The codecs with which the content of a snapshot chunk can be compressed for its transfer. The
+ * codec is chosen by the sender of a snapshot and written into each chunk, such that the receiver
+ * can always decompress the content, whatever codec the sender is configured with.
+ */
+public enum SnapshotChunkCompression {
+  /** The content is transferred as is. */
+  NONE(CompressionCodec.NONE) {
+    @Override
+    byte[] compress(final byte[] content) {
+      return content;
+    }
+
+    @Override
+    byte[] decompress(final byte[] compressedContent, final int contentLength) {
+      return compressedContent;
+    }
+  },
+
+  /**
+   * The content is compressed with DEFLATE at its fastest level, which still shrinks SST files
+   * whose blocks are compressed with a light codec or not at all.
+   */
+  DEFLATE(CompressionCodec.DEFLATE) {
+    @Override
+    byte[] compress(final byte[] content) {
+      final var deflater = new Deflater(Deflater.BEST_SPEED);
+      try {
+        deflater.setInput(content);
+        deflater.finish();
+
+        final var output = new ByteArrayOutputStream(content.length);
+        final var buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+          final int length = deflater.deflate(buffer);
+          output.write(buffer, 0, length);
+        }
+        return output.toByteArray();
+      } finally {
+        deflater.end();
+      }
+    }
+
+    @Override
+    byte[] decompress(final byte[] compressedContent, final int contentLength) {
+      final var inflater = new Inflater();
+      try {
+        inflater.setInput(compressedContent);
+
+        final var content = new byte[contentLength];
+        int offset = 0;
+        while (!inflater.finished() && offset < contentLength) {
+          final int length = inflater.inflate(content, offset, contentLength - offset);
+          if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          offset += length;
+        }
+
+        if (offset != contentLength || !inflater.finished()) {
+          throw new IllegalStateException(
+              String.format(
+                  "Expected to decompress %d bytes of snapshot chunk content, but got %d bytes",
+                  contentLength, offset));
+        }
+        return content;
+      } catch (final DataFormatException e) {
+        throw new IllegalStateException("Expected to decompress snapshot chunk content", e);
+      } finally {
+        inflater.end();
+      }
+    }
+  };
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final CompressionCodec codec;
+
+  SnapshotChunkCompression(final CompressionCodec codec) {
+    this.codec = codec;
+  }
+
+  abstract byte[] compress(byte[] content);
+
+  abstract byte[] decompress(byte[] compressedContent, int contentLength);
+
+  CompressionCodec getCodec() {
+    return codec;
+  }
+
+  static SnapshotChunkCompression of(final CompressionCodec codec) {
+    switch (codec) {
+      case NONE:
+      case NULL_VAL:
+        return NONE;
+      case DEFLATE:
+        return DEFLATE;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Expected a known compression codec, but got %s", codec));
+    }
+  }
+}
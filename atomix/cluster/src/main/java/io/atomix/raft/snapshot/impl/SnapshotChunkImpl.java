@@ -35,16 +35,41 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private long fileBlockPosition;
+  private long totalFileSize;
+  private SnapshotChunkCompression compression = SnapshotChunkCompression.NONE;
+  private int contentLength;
+  private byte[] decompressedContent;
 
   public SnapshotChunkImpl() {}
 
   public SnapshotChunkImpl(final SnapshotChunk chunk) {
+    this(chunk, SnapshotChunkCompression.NONE);
+  }
+
+  /**
+   * @param chunk the chunk to copy
+   * @param compression the codec to compress the content of the chunk with; if it doesn't shrink
+   *     the content, the content is kept uncompressed
+   */
+  public SnapshotChunkImpl(final SnapshotChunk chunk, final SnapshotChunkCompression compression) {
     snapshotId = chunk.getSnapshotId();
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
-    content.wrap(chunk.getContent());
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
+
+    final var rawContent = chunk.getContent();
+    final var compressedContent = compression.compress(rawContent);
+    contentLength = rawContent.length;
+    if (compressedContent.length < rawContent.length) {
+      this.compression = compression;
+      content.wrap(compressedContent);
+    } else {
+      content.wrap(rawContent);
+    }
   }
 
   @Override
@@ -64,6 +89,11 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    fileBlockPosition = 0;
+    totalFileSize = 0;
+    compression = SnapshotChunkCompression.NONE;
+    contentLength = 0;
+    decompressedContent = null;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +121,10 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
+        .compression(compression.getCodec())
+        .uncompressedLength(contentLength)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,10 +137,28 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    fileBlockPosition = decoder.fileBlockPosition();
+    totalFileSize = decoder.totalFileSize();
+    compression = SnapshotChunkCompression.of(decoder.compression());
+    contentLength = decoder.uncompressedLength();
+    decompressedContent = null;
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
     }
+
+    // chunks of older versions are never compressed
+    if (contentLength == SnapshotChunkDecoder.uncompressedLengthNullValue()) {
+      contentLength = content.capacity();
+    }
+
+    // chunks of older versions contain whole files
+    if (fileBlockPosition == SnapshotChunkDecoder.fileBlockPositionNullValue()) {
+      fileBlockPosition = 0;
+    }
+    if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
+      totalFileSize = content.capacity();
+    }
   }
 
   @Override
@@ -129,9 +181,41 @@ public final class SnapshotChunkImpl
     return checksum;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
   @Override
   public byte[] getContent() {
-    return BufferUtil.bufferAsArray(content);
+    if (compression == SnapshotChunkCompression.NONE) {
+      return BufferUtil.bufferAsArray(content);
+    }
+
+    if (decompressedContent == null) {
+      decompressedContent =
+          compression.decompress(BufferUtil.bufferAsArray(content), contentLength);
+    }
+    return decompressedContent;
+  }
+
+  public SnapshotChunkCompression getCompression() {
+    return compression;
+  }
+
+  /** @return the length of the uncompressed content */
+  public int getContentLength() {
+    return contentLength;
+  }
+
+  /** @return the length of the content as it is transferred, i.e. after compression */
+  public int getTransferredContentLength() {
+    return content.capacity();
   }
 
   @Override
@@ -153,6 +237,14 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
+        + ", compression="
+        + compression
+        + ", contentLength="
+        + contentLength
         + "} "
         + super.toString();
   }
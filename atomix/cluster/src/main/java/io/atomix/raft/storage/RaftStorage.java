@@ -37,6 +37,7 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -69,6 +70,8 @@ public final class RaftStorage {
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
   private final boolean flushExplicitly;
+  private final Duration flushDelay;
+  private final long maxUnflushedBytes;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final ReceivableSnapshotStore persistedSnapshotStore;
@@ -84,6 +87,8 @@ public final class RaftStorage {
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
       final boolean flushExplicitly,
+      final Duration flushDelay,
+      final long maxUnflushedBytes,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final ReceivableSnapshotStore persistedSnapshotStore,
@@ -97,6 +102,8 @@ public final class RaftStorage {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
     this.flushExplicitly = flushExplicitly;
+    this.flushDelay = flushDelay;
+    this.maxUnflushedBytes = maxUnflushedBytes;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -305,10 +312,13 @@ public final class RaftStorage {
    *
    * <p>The log will be deleted by simply reading {@code log} file names from disk and deleting log
    * files directly. Deleting log files does not involve rebuilding indexes or reading any logs into
-   * memory.
+   * memory. The index files of the segments are deleted as well.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isSegmentIndexFile(prefix, f));
   }
 
   @Override
@@ -338,6 +348,26 @@ public final class RaftStorage {
     return flushExplicitly;
   }
 
+  /**
+   * Returns the delay after which the appended entries are flushed. The flushes of the entries
+   * which are appended within the delay are coalesced into one flush.
+   *
+   * @return The delay after which the appended entries are flushed.
+   */
+  public Duration flushDelay() {
+    return flushDelay;
+  }
+
+  /**
+   * Returns the maximum number of appended bytes after which the entries are flushed immediately,
+   * without waiting for the flush delay.
+   *
+   * @return The maximum number of unflushed bytes.
+   */
+  public long maxUnflushedBytes() {
+    return maxUnflushedBytes;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -379,6 +409,8 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024; // 1GB
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
+    private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+    private static final long DEFAULT_MAX_UNFLUSHED_BYTES = 1024 * 1024 * 4; // 4MB
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -390,6 +422,8 @@ public final class RaftStorage {
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+    private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+    private long maxUnflushedBytes = DEFAULT_MAX_UNFLUSHED_BYTES;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private ReceivableSnapshotStore persistedSnapshotStore;
@@ -552,6 +586,35 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the delay after which the appended entries are flushed, if the logs are flushed
+     * explicitly. The flushes of the entries which are appended within the delay are coalesced into
+     * one flush, and followers acknowledge the entries after they are flushed. A delay of zero
+     * coalesces only the appends which are already queued on the Raft thread.
+     *
+     * @param flushDelay the delay after which the appended entries are flushed
+     * @return the storage builder.
+     */
+    public Builder withFlushDelay(final Duration flushDelay) {
+      checkNotNull(flushDelay, "flushDelay cannot be null");
+      checkArgument(!flushDelay.isNegative(), "flushDelay must be positive");
+      this.flushDelay = flushDelay;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of appended bytes after which the entries are flushed immediately,
+     * without waiting for the flush delay.
+     *
+     * @param maxUnflushedBytes the maximum number of unflushed bytes
+     * @return the storage builder.
+     */
+    public Builder withMaxUnflushedBytes(final long maxUnflushedBytes) {
+      checkArgument(maxUnflushedBytes > 0, "maxUnflushedBytes must be positive");
+      this.maxUnflushedBytes = maxUnflushedBytes;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -624,6 +687,8 @@ public final class RaftStorage {
           maxEntriesPerSegment,
           freeDiskSpace,
           flushExplicitly,
+          flushDelay,
+          maxUnflushedBytes,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
@@ -184,11 +184,15 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     /**
      * Sets the log serialization namespace, returning the builder for method chaining.
      *
+     * <p>The namespace serializes all entries of the segments which were written before {@link
+     * io.atomix.raft.zeebe.ZeebeEntry ZeebeEntries} were written as raw bytes, and all other
+     * entries of the newer segments.
+     *
      * @param namespace The journal namespace.
      * @return The journal builder.
      */
     public Builder withNamespace(final Namespace namespace) {
-      journalBuilder.withNamespace(namespace);
+      journalBuilder.withNamespace(new RaftLogNamespace(namespace)).withLegacyNamespace(namespace);
       return this;
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import com.google.common.collect.ImmutableList;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.raft.zeebe.ZeebeEntryCodec;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.NamespaceImpl.RegistrationBlock;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes the entries of the Raft log. {@link ZeebeEntry ZeebeEntries} are written as raw bytes
+ * with the {@link ZeebeEntryCodec}, such that their data is copied once in bulk, instead of being
+ * serialized with Kryo. Other entries (e.g. configuration entries) are rare and are written with
+ * the given namespace. Each entry starts with a byte which marks in which of both ways it is
+ * written.
+ *
+ * <p>The segments which were written before are read and written with the given namespace only; see
+ * {@link io.atomix.storage.journal.SegmentedJournal.Builder#withLegacyNamespace(Namespace)}.
+ */
+final class RaftLogNamespace implements Namespace {
+
+  private static final byte ZEEBE_ENTRY = 0;
+  private static final byte SERIALIZED_ENTRY = 1;
+
+  private final Namespace namespace;
+
+  RaftLogNamespace(final Namespace namespace) {
+    this.namespace = namespace;
+  }
+
+  @Override
+  public byte[] serialize(final Object obj) {
+    if (obj instanceof ZeebeEntry) {
+      final ZeebeEntry entry = (ZeebeEntry) obj;
+      final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES + ZeebeEntryCodec.length(entry));
+      serialize(entry, buffer);
+      return buffer.array();
+    }
+
+    final byte[] serializedEntry = namespace.serialize(obj);
+    return ByteBuffer.allocate(Byte.BYTES + serializedEntry.length)
+        .put(SERIALIZED_ENTRY)
+        .put(serializedEntry)
+        .array();
+  }
+
+  @Override
+  public void serialize(final Object obj, final ByteBuffer buffer) {
+    if (!buffer.hasRemaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int position = buffer.position();
+    if (obj instanceof ZeebeEntry) {
+      buffer.put(ZEEBE_ENTRY);
+      try {
+        ZeebeEntryCodec.encode((ZeebeEntry) obj, buffer);
+      } catch (final BufferOverflowException e) {
+        buffer.position(position);
+        throw e;
+      }
+    } else {
+      buffer.put(SERIALIZED_ENTRY);
+      namespace.serialize(obj, buffer);
+    }
+  }
+
+  @Override
+  public <T> T deserialize(final byte[] bytes) {
+    return deserialize(ByteBuffer.wrap(bytes));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T deserialize(final ByteBuffer buffer) {
+    final byte entryType = buffer.get();
+    switch (entryType) {
+      case ZEEBE_ENTRY:
+        return (T) ZeebeEntryCodec.decode(buffer);
+      case SERIALIZED_ENTRY:
+        return namespace.deserialize(buffer);
+      default:
+        throw new IllegalStateException(
+            String.format(
+                "Expected to read an entry of type %d or %d, but got type %d",
+                ZEEBE_ENTRY, SERIALIZED_ENTRY, entryType));
+    }
+  }
+
+  @Override
+  public ImmutableList<RegistrationBlock> getRegisteredBlocks() {
+    return namespace.getRegisteredBlocks();
+  }
+}
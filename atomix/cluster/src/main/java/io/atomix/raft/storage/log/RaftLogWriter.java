@@ -18,12 +18,75 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.journal.DelegatingJournalWriter;
+import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.SegmentedJournalWriter;
 
-/** Raft log writer. */
+/**
+ * Raft log writer. Keeps track of the entries which were appended since the last flush, so that the
+ * callers can decide whether the entries they depend on are already persisted.
+ */
 public class RaftLogWriter extends DelegatingJournalWriter<RaftLogEntry> {
 
+  private static final long NO_UNFLUSHED_INDEX = Long.MAX_VALUE;
+
+  private long firstUnflushedIndex = NO_UNFLUSHED_INDEX;
+  private long unflushedBytes;
+
   public RaftLogWriter(final SegmentedJournalWriter<RaftLogEntry> writer) {
     super(writer);
   }
+
+  @Override
+  public <T extends RaftLogEntry> Indexed<T> append(final T entry) {
+    final Indexed<T> indexed = super.append(entry);
+    onAppend(indexed.index(), indexed.size());
+    return indexed;
+  }
+
+  @Override
+  public void append(final Indexed<RaftLogEntry> entry) {
+    super.append(entry);
+    onAppend(entry.index(), entry.size());
+  }
+
+  @Override
+  public void flush() {
+    super.flush();
+    firstUnflushedIndex = NO_UNFLUSHED_INDEX;
+    unflushedBytes = 0;
+  }
+
+  /**
+   * Returns whether all entries up to the given index are flushed.
+   *
+   * @param index the index of the entry
+   * @return true if the entries up to the given index were flushed since they were appended
+   */
+  public boolean isFlushed(final long index) {
+    return index < firstUnflushedIndex;
+  }
+
+  /**
+   * Returns the index of the last entry, up to which all entries are flushed.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getLastFlushedIndex() {
+    return Math.min(getLastIndex(), firstUnflushedIndex - 1);
+  }
+
+  /**
+   * Returns the number of bytes which were appended since the last flush.
+   *
+   * @return the number of unflushed bytes
+   */
+  public long getUnflushedBytes() {
+    return unflushedBytes;
+  }
+
+  private void onAppend(final long index, final int size) {
+    // entries can be appended again after the log was truncated, so the lowest index is kept
+    firstUnflushedIndex = Math.min(firstUnflushedIndex, index);
+    unflushedBytes += size;
+  }
 }
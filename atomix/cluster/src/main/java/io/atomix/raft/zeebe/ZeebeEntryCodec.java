@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.zeebe;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes a {@link ZeebeEntry} in a raw, length-prefixed layout, which is shared by the journal and
+ * the append messages: the term, the timestamp, the lowest and the highest position, followed by
+ * the length of the data and the data itself. The data is copied once in bulk when the entry is
+ * written, and once when it is read.
+ */
+public final class ZeebeEntryCodec {
+
+  public static final int HEADER_LENGTH = Long.BYTES * 4 + Integer.BYTES;
+
+  private ZeebeEntryCodec() {}
+
+  /** @return the number of bytes which the entry is written with */
+  public static int length(final ZeebeEntry entry) {
+    return HEADER_LENGTH + entry.data().remaining();
+  }
+
+  /**
+   * Writes the entry at the position of the buffer, and advances the position.
+   *
+   * @throws BufferOverflowException if the entry doesn't fit into the remaining buffer, in which
+   *     case nothing is written
+   */
+  public static void encode(final ZeebeEntry entry, final ByteBuffer buffer) {
+    final ByteBuffer data = entry.data();
+    if (buffer.remaining() < HEADER_LENGTH + data.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    buffer
+        .putLong(entry.term())
+        .putLong(entry.timestamp())
+        .putLong(entry.lowestPosition())
+        .putLong(entry.highestPosition())
+        .putInt(data.remaining())
+        .put(data.duplicate());
+  }
+
+  /** Reads the entry at the position of the buffer, and advances the position. */
+  public static ZeebeEntry decode(final ByteBuffer buffer) {
+    final long term = buffer.getLong();
+    final long timestamp = buffer.getLong();
+    final long lowestPosition = buffer.getLong();
+    final long highestPosition = buffer.getLong();
+    final ByteBuffer data = ByteBuffer.allocate(buffer.getInt());
+    buffer.get(data.array());
+
+    return new ZeebeEntry(term, timestamp, lowestPosition, highestPosition, data);
+  }
+}
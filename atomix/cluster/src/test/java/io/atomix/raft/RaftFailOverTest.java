@@ -190,6 +190,27 @@ public class RaftFailOverTest {
     assertThat(snapshot.getTerm()).isEqualTo(snapshot.getTerm());
   }
 
+  @Test
+  public void shouldReplicateSnapshotReusingChunksOfPreviousSnapshotOnJoin() throws Exception {
+    // given
+    raftRule.appendEntries(20);
+    raftRule.doSnapshot(10L, 3);
+    final var follower = raftRule.shutdownFollower();
+    raftRule.appendEntries(20);
+    final long snapshotIndex = 30L;
+    raftRule.doSnapshot(snapshotIndex, 5);
+    final var leaderSnapshot = raftRule.getSnapshotFromLeader();
+
+    // when
+    raftRule.joinCluster(follower);
+
+    // then
+    assertThat(raftRule.allNodesHaveSnapshotWithIndex(snapshotIndex)).isTrue();
+    final var snapshot = raftRule.getSnapshotOnNode(follower);
+
+    assertThat(snapshot).isEqualTo(leaderSnapshot);
+  }
+
   @Test
   public void shouldReplicateEntriesAfterSnapshotOnJoin() throws Exception {
     // given
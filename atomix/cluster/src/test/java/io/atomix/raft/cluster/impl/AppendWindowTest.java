@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class AppendWindowTest {
+
+  private final AppendWindow window = new AppendWindow(100, 400);
+
+  @Test
+  public void shouldStartWithMinSize() {
+    assertThat(window.getSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldGrowByAcknowledgedBytesUpToMaxSize() {
+    // when
+    window.onAppendCompleted(150, 10, 10);
+
+    // then
+    assertThat(window.getSize()).isEqualTo(250);
+
+    // when
+    window.onAppendCompleted(500, 10, 10);
+
+    // then
+    assertThat(window.getSize()).isEqualTo(400);
+  }
+
+  @Test
+  public void shouldShrinkIfRoundTripTimeIncreases() {
+    // given
+    window.onAppendCompleted(300, 10, 10);
+
+    // when
+    window.onAppendCompleted(100, 50, 10);
+
+    // then
+    assertThat(window.getSize()).isEqualTo(200);
+
+    // when
+    window.onAppendCompleted(100, 50, 10);
+    window.onAppendCompleted(100, 50, 10);
+
+    // then
+    assertThat(window.getSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldResetToMinSize() {
+    // given
+    window.onAppendCompleted(300, 10, 10);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.getSize()).isEqualTo(100);
+  }
+}
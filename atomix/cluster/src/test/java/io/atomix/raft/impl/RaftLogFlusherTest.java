@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogWriter;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RaftLogFlusherTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<Long> flushedIndexes = new ArrayList<>();
+  private RaftLog raftLog;
+  private RaftLogWriter writer;
+  private ThreadContext threadContext;
+  private DeterministicScheduler scheduler;
+
+  @Before
+  public void setup() throws IOException {
+    raftLog =
+        RaftLog.builder()
+            .withName("test")
+            .withDirectory(temporaryFolder.newFolder())
+            .withNamespace(RaftNamespaces.RAFT_STORAGE)
+            .build();
+    writer = raftLog.writer();
+    threadContext = DeterministicSingleThreadContext.createContext();
+    scheduler = ((DeterministicSingleThreadContext) threadContext).getDeterministicScheduler();
+  }
+
+  @After
+  public void tearDown() {
+    raftLog.close();
+  }
+
+  @Test
+  public void shouldCoalesceFlushesWithinDelay() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ofMillis(10), Long.MAX_VALUE);
+
+    // when
+    final long firstIndex = append();
+    flusher.flush(firstIndex, () -> flushedIndexes.add(firstIndex));
+    final long secondIndex = append();
+    flusher.flush(secondIndex, () -> flushedIndexes.add(secondIndex));
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+    assertThat(flusher.isFlushed(firstIndex)).isFalse();
+
+    scheduler.tick(10, TimeUnit.MILLISECONDS);
+    assertThat(flushedIndexes).containsExactly(firstIndex, secondIndex);
+    assertThat(flusher.isFlushed(secondIndex)).isTrue();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(secondIndex);
+  }
+
+  @Test
+  public void shouldFlushAfterQueuedTasksWithoutDelay() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ZERO, Long.MAX_VALUE);
+    final long index = append();
+
+    // when
+    flusher.flush(index, () -> flushedIndexes.add(index));
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+
+    scheduler.runUntilIdle();
+    assertThat(flushedIndexes).containsExactly(index);
+  }
+
+  @Test
+  public void shouldFlushImmediatelyIfMaxUnflushedBytesExceeded() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ofMillis(10), 1);
+    final long index = append();
+
+    // when
+    flusher.flush(index, () -> flushedIndexes.add(index));
+
+    // then
+    assertThat(flushedIndexes).containsExactly(index);
+    assertThat(flusher.isFlushed(index)).isTrue();
+  }
+
+  @Test
+  public void shouldCallCallbackImmediatelyIfAlreadyFlushed() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ofMillis(10), Long.MAX_VALUE);
+    final long index = append();
+    flusher.flush();
+
+    // when
+    flusher.flush(index, () -> flushedIndexes.add(index));
+
+    // then
+    assertThat(flushedIndexes).containsExactly(index);
+  }
+
+  @Test
+  public void shouldNotConsiderReappendedEntryAsFlushed() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ofMillis(10), Long.MAX_VALUE);
+    append();
+    final long index = append();
+    flusher.flush();
+
+    // when
+    writer.truncate(index - 1);
+    append();
+
+    // then
+    assertThat(flusher.isFlushed(index - 1)).isTrue();
+    assertThat(flusher.isFlushed(index)).isFalse();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(index - 1);
+  }
+
+  @Test
+  public void shouldConsiderEntriesAsFlushedIfNotFlushingExplicitly() {
+    // given
+    final RaftLogFlusher flusher =
+        new RaftLogFlusher(writer, threadContext, false, Duration.ofMillis(10), Long.MAX_VALUE);
+    final long index = append();
+
+    // when
+    flusher.flush(index, () -> flushedIndexes.add(index));
+
+    // then
+    assertThat(flushedIndexes).containsExactly(index);
+    assertThat(flusher.getFlushedIndex()).isEqualTo(index);
+  }
+
+  @Test
+  public void shouldNotCallCallbacksAfterClose() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ofMillis(10), Long.MAX_VALUE);
+    final long index = append();
+    flusher.flush(index, () -> flushedIndexes.add(index));
+
+    // when
+    flusher.close();
+    scheduler.tick(10, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+  }
+
+  private RaftLogFlusher newFlusher(final Duration flushDelay, final long maxUnflushedBytes) {
+    return new RaftLogFlusher(writer, threadContext, true, flushDelay, maxUnflushedBytes);
+  }
+
+  private long append() {
+    return writer.append(new InitializeEntry(1, System.currentTimeMillis())).index();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.storage.log.entry.ConfigurationEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class RaftAppendCodecTest {
+
+  private final RaftAppendCodec codec =
+      new RaftAppendCodec(Serializer.using(RaftNamespaces.RAFT_PROTOCOL));
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final ByteBuffer data = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    final ZeebeEntry zeebeEntry = new ZeebeEntry(2, 123L, 10L, 12L, data);
+    final ConfigurationEntry configurationEntry =
+        new ConfigurationEntry(
+            2,
+            124L,
+            new ArrayList<>(
+                List.of(
+                    new DefaultRaftMember(
+                        MemberId.from("1"), RaftMember.Type.ACTIVE, Instant.ofEpochMilli(1)))));
+    final AppendRequest request =
+        new AppendRequest(2, "1", 5L, 1L, List.of(zeebeEntry, configurationEntry), 4L);
+
+    // when
+    final AppendRequest decoded = codec.decodeAppendRequest(codec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.term()).isEqualTo(2);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("1"));
+    assertThat(decoded.prevLogIndex()).isEqualTo(5L);
+    assertThat(decoded.prevLogTerm()).isEqualTo(1L);
+    assertThat(decoded.commitIndex()).isEqualTo(4L);
+    assertThat(data.position()).isZero();
+
+    final List<RaftLogEntry> entries = decoded.entries();
+    assertThat(entries).hasSize(2);
+    assertThat(entries.get(0)).isEqualTo(zeebeEntry);
+    assertThat(((ZeebeEntry) entries.get(0)).timestamp()).isEqualTo(123L);
+    assertThat(entries.get(1)).isInstanceOf(ConfigurationEntry.class);
+    assertThat(((ConfigurationEntry) entries.get(1)).members())
+        .extracting(RaftMember::memberId)
+        .containsExactly(MemberId.from("1"));
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeHeartbeat() {
+    // given
+    final AppendRequest request = new AppendRequest(3, "2", 0L, 0L, List.of(), 0L);
+
+    // when
+    final AppendRequest decoded = codec.decodeAppendRequest(codec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendResponse() {
+    // given
+    final AppendResponse response = new AppendResponse(Status.OK, null, 3, true, 10L, 5L);
+
+    // when
+    final AppendResponse decoded = codec.decodeAppendResponse(codec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.OK);
+    assertThat(decoded.error()).isNull();
+    assertThat(decoded.term()).isEqualTo(3);
+    assertThat(decoded.succeeded()).isTrue();
+    assertThat(decoded.lastLogIndex()).isEqualTo(10L);
+    assertThat(decoded.lastSnapshotIndex()).isEqualTo(5L);
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendResponseWithError() {
+    // given
+    final AppendResponse response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, null),
+            3,
+            false,
+            10L,
+            5L);
+
+    // when
+    final AppendResponse decoded = codec.decodeAppendResponse(codec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isNull();
+    assertThat(decoded.succeeded()).isFalse();
+  }
+}
@@ -27,6 +27,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -114,6 +115,25 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
         return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
       }
 
+      @Override
+      public Optional<SnapshotChunk> nextReusable() {
+        if (iterator.isEmpty()) {
+          return Optional.empty();
+        }
+
+        final var nextEntry = iterator.firstEntry();
+        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        final var content = StringUtil.getBytes(nextEntry.getValue());
+        return Optional.of(
+            new TestSnapshotChunkImpl(
+                id,
+                nextEntry.getKey(),
+                new byte[0],
+                chunks.size(),
+                TestSnapshotChunkImpl.checksum(content),
+                content.length));
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -181,6 +201,23 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     return true;
   }
 
+  @Override
+  public boolean reuse(final SnapshotChunk chunk) {
+    final var latestSnapshot = testSnapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return false;
+    }
+
+    final var content = ((InMemorySnapshot) latestSnapshot.get()).chunks.get(chunk.getChunkName());
+    if (content == null
+        || TestSnapshotChunkImpl.checksum(StringUtil.getBytes(content)) != chunk.getChecksum()) {
+      return false;
+    }
+
+    chunks.put(chunk.getChunkName(), content);
+    return true;
+  }
+
   @Override
   public void abort() {}
 
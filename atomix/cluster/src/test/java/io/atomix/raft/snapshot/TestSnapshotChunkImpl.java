@@ -16,20 +16,35 @@
 package io.atomix.raft.snapshot;
 
 import io.zeebe.snapshots.raft.SnapshotChunk;
+import java.util.zip.CRC32;
 
-class TestSnapshotChunkImpl implements SnapshotChunk {
+public class TestSnapshotChunkImpl implements SnapshotChunk {
 
   final int totalCount;
   final String chunkName;
   private final byte[] content;
   private final String snapshotId;
+  private final long checksum;
+  private final long totalFileSize;
 
-  TestSnapshotChunkImpl(
+  public TestSnapshotChunkImpl(
       final String snapshotId, final String chunkName, final byte[] content, final int totalCount) {
+    this(snapshotId, chunkName, content, totalCount, checksum(content), content.length);
+  }
+
+  TestSnapshotChunkImpl(
+      final String snapshotId,
+      final String chunkName,
+      final byte[] content,
+      final int totalCount,
+      final long checksum,
+      final long totalFileSize) {
     this.content = content;
     this.snapshotId = snapshotId;
     this.totalCount = totalCount;
     this.chunkName = chunkName;
+    this.checksum = checksum;
+    this.totalFileSize = totalFileSize;
   }
 
   @Override
@@ -49,7 +64,7 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
 
   @Override
   public long getChecksum() {
-    return 0;
+    return checksum;
   }
 
   @Override
@@ -61,4 +76,20 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getSnapshotChecksum() {
     return 0;
   }
+
+  @Override
+  public long getFileBlockPosition() {
+    return 0;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
+  static long checksum(final byte[] content) {
+    final CRC32 crc32 = new CRC32();
+    crc32.update(content);
+    return crc32.getValue();
+  }
 }
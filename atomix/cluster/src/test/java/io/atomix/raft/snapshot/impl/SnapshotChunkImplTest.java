@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.snapshot.TestSnapshotChunkImpl;
+import java.util.Random;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SnapshotChunkImplTest {
+
+  @Test
+  public void shouldTransferCompressedContent() {
+    // given
+    final var content = "snapshot ".repeat(1024).getBytes();
+    final var chunk = new TestSnapshotChunkImpl("1-1-1", "1.sst", content, 1);
+
+    // when
+    final var compressedChunk = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.DEFLATE);
+    final var receivedChunk = receive(compressedChunk);
+
+    // then
+    assertThat(compressedChunk.getCompression()).isEqualTo(SnapshotChunkCompression.DEFLATE);
+    assertThat(compressedChunk.getTransferredContentLength()).isLessThan(content.length);
+    assertThat(receivedChunk.getCompression()).isEqualTo(SnapshotChunkCompression.DEFLATE);
+    assertThat(receivedChunk.getContentLength()).isEqualTo(content.length);
+    assertThat(receivedChunk.getContent()).isEqualTo(content);
+    assertThat(receivedChunk.getChecksum()).isEqualTo(chunk.getChecksum());
+    assertThat(receivedChunk.getChunkName()).isEqualTo("1.sst");
+  }
+
+  @Test
+  public void shouldTransferIncompressibleContentUncompressed() {
+    // given
+    final var content = new byte[1024];
+    new Random(1).nextBytes(content);
+    final var chunk = new TestSnapshotChunkImpl("1-1-1", "1.sst", content, 1);
+
+    // when
+    final var compressedChunk = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.DEFLATE);
+    final var receivedChunk = receive(compressedChunk);
+
+    // then
+    assertThat(compressedChunk.getCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+    assertThat(compressedChunk.getTransferredContentLength()).isEqualTo(content.length);
+    assertThat(receivedChunk.getContent()).isEqualTo(content);
+  }
+
+  @Test
+  public void shouldTransferContentWithoutCompression() {
+    // given
+    final var content = "snapshot ".repeat(1024).getBytes();
+    final var chunk = new TestSnapshotChunkImpl("1-1-1", "1.sst", content, 1);
+
+    // when
+    final var receivedChunk = receive(new SnapshotChunkImpl(chunk));
+
+    // then
+    assertThat(receivedChunk.getCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+    assertThat(receivedChunk.getTransferredContentLength()).isEqualTo(content.length);
+    assertThat(receivedChunk.getContent()).isEqualTo(content);
+  }
+
+  private SnapshotChunkImpl receive(final SnapshotChunkImpl chunk) {
+    final var buffer = new UnsafeBuffer(chunk.toByteBuffer());
+    final var receivedChunk = new SnapshotChunkImpl();
+    assertThat(receivedChunk.tryWrap(buffer)).isTrue();
+    return receivedChunk;
+  }
+}
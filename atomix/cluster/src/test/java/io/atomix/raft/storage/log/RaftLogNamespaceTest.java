@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.raft.zeebe.ZeebeEntryCodec;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class RaftLogNamespaceTest {
+
+  private final RaftLogNamespace namespace = new RaftLogNamespace(RaftNamespaces.RAFT_STORAGE);
+
+  @Test
+  public void shouldSerializeZeebeEntryRaw() {
+    // given
+    final ByteBuffer data = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    final ZeebeEntry entry = new ZeebeEntry(2, 123L, 10L, 12L, data);
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+    // when
+    namespace.serialize(entry, buffer);
+    buffer.flip();
+
+    // then
+    assertThat(buffer.remaining()).isEqualTo(Byte.BYTES + ZeebeEntryCodec.length(entry));
+    final ZeebeEntry deserialized = namespace.deserialize(buffer);
+    assertThat(deserialized).isEqualTo(entry);
+    assertThat(deserialized.timestamp()).isEqualTo(123L);
+    assertThat(data.position()).isZero();
+  }
+
+  @Test
+  public void shouldSerializeOtherEntries() {
+    // given
+    final InitializeEntry entry = new InitializeEntry(3, 456L);
+
+    // when
+    final InitializeEntry deserialized = namespace.deserialize(namespace.serialize(entry));
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldNotWriteZeebeEntryIfItDoesNotFit() {
+    // given
+    final ZeebeEntry entry = new ZeebeEntry(2, 123L, 10L, 12L, ByteBuffer.allocate(32));
+    final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES + ZeebeEntryCodec.length(entry) - 1);
+
+    // when - then
+    assertThatThrownBy(() -> namespace.serialize(entry, buffer))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(buffer.position()).isZero();
+  }
+}
@@ -26,6 +26,8 @@ import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -51,6 +53,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalSegment<E> segment;
   private final int maxEntrySize;
   private final JournalIndex index;
+  private final JournalSegmentIndexFile indexFile;
   private final Namespace namespace;
   private final ByteBuffer memory;
   private final long firstIndex;
@@ -61,10 +64,12 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
+      final JournalSegmentIndexFile indexFile,
       final Namespace namespace) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
+    this.indexFile = indexFile;
     this.namespace = namespace;
     firstIndex = segment.index();
     channel =
@@ -72,7 +77,9 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
             StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
     memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     memory.limit(0);
-    reset(0);
+    if (!restore()) {
+      reset(0);
+    }
   }
 
   @Override
@@ -105,7 +112,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       memory.position(Integer.BYTES + Integer.BYTES);
       try {
         namespace.serialize(entry, memory);
-      } catch (final KryoException e) {
+      } catch (final KryoException | BufferOverflowException e) {
         throw new StorageException.TooLarge(
             "Entry size exceeds maximum allowed bytes (" + maxEntrySize + ")");
       }
@@ -144,6 +151,8 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       final Indexed<E> indexedEntry = new Indexed<>(index, entry, length);
       lastEntry = indexedEntry;
       this.index.index(lastEntry, (int) position);
+      indexFile.onEntry(
+          index, (int) position, (int) channel.position(), this.index.isIndexed(index));
       return (Indexed<T>) indexedEntry;
     } catch (final IOException e) {
       throw new StorageException(e);
@@ -172,6 +181,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   @Override
   public void reset(final long index) {
     long nextIndex = firstIndex;
+    indexFile.reset();
 
     // Clear the buffer indexes.
     try {
@@ -211,6 +221,11 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
           memory.limit(limit);
           lastEntry = new Indexed<>(nextIndex, entry, length);
           this.index.index(lastEntry, (int) position);
+          indexFile.onEntry(
+              nextIndex,
+              (int) position,
+              (int) (channel.position() + memory.position()),
+              this.index.isIndexed(nextIndex));
           nextIndex++;
         } else {
           break;
@@ -245,6 +260,87 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  /**
+   * Restores the last entry and the index from the index file of the segment, instead of reading
+   * the whole segment. The indexed entries and the last entry are still verified.
+   *
+   * @return true if the writer was restored, false if the segment must be read completely
+   */
+  private boolean restore() {
+    if (!indexFile.read()) {
+      return false;
+    }
+
+    try {
+      // verify all entries before anything is indexed
+      final List<Indexed<E>> indexedEntries = new ArrayList<>(indexFile.size());
+      for (int i = 0; i < indexFile.size(); i++) {
+        final Indexed<E> indexedEntry = readEntry(indexFile.index(i), indexFile.position(i));
+        if (indexedEntry == null) {
+          return false;
+        }
+        indexedEntries.add(indexedEntry);
+      }
+
+      final int position = indexFile.lastEntryPosition();
+      final int endPosition = indexFile.endPosition();
+      final Indexed<E> indexedEntry = readEntry(indexFile.lastIndex(), position);
+      if (indexedEntry == null
+          || position + Integer.BYTES + Integer.BYTES + indexedEntry.size() != endPosition
+          || !isZeroed(endPosition)) {
+        return false;
+      }
+
+      for (int i = 0; i < indexedEntries.size(); i++) {
+        index.index(indexedEntries.get(i), indexFile.position(i));
+      }
+      lastEntry = indexedEntry;
+      channel.position(endPosition);
+      return true;
+    } catch (final KryoException | BufferUnderflowException | IndexOutOfBoundsException e) {
+      return false;
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private Indexed<E> readEntry(final long index, final int position) throws IOException {
+    if (position < JournalSegmentDescriptor.BYTES) {
+      return null;
+    }
+
+    memory.clear().limit(Integer.BYTES + Integer.BYTES);
+    if (channel.read(memory, position) < Integer.BYTES + Integer.BYTES) {
+      return null;
+    }
+
+    final int length = memory.getInt(0);
+    final long checksum = memory.getInt(Integer.BYTES) & 0xFFFFFFFFL;
+    if (length <= 0 || length > maxEntrySize) {
+      return null;
+    }
+
+    memory.clear().limit(length);
+    if (channel.read(memory, position + Integer.BYTES + Integer.BYTES) < length) {
+      return null;
+    }
+
+    final Checksum crc32 = new CRC32();
+    crc32.update(memory.array(), 0, length);
+    if (checksum != crc32.getValue()) {
+      return null;
+    }
+
+    memory.flip();
+    final E entry = namespace.deserialize(memory);
+    return new Indexed<>(index, entry, length);
+  }
+
+  private boolean isZeroed(final int position) throws IOException {
+    memory.clear().limit(Integer.BYTES);
+    return channel.read(memory, position) < Integer.BYTES || memory.getInt(0) == 0;
+  }
+
   @Override
   public void truncate(final long index) {
     // If the index is greater than or equal to the last index, skip the truncate.
@@ -259,7 +355,11 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       // Truncate the index.
       this.index.truncate(index);
 
+      // The segment may be written again, so the index file is outdated.
+      indexFile.delete();
+
       if (index < segment.index()) {
+        indexFile.reset();
         channel.position(JournalSegmentDescriptor.BYTES);
         channel.write(zero());
         channel.position(JournalSegmentDescriptor.BYTES);
@@ -40,6 +40,7 @@ public class JournalSegment<E> implements AutoCloseable {
   private final StorageLevel storageLevel;
   private final int maxEntrySize;
   private final JournalIndex index;
+  private final JournalSegmentIndexFile indexFile;
   private final Namespace namespace;
   private final JournalWriter<E> writer;
   private final Set<JournalReader<E>> readers = Sets.newConcurrentHashSet();
@@ -57,6 +58,7 @@ public class JournalSegment<E> implements AutoCloseable {
     this.storageLevel = storageLevel;
     this.maxEntrySize = maxEntrySize;
     index = journalIndex;
+    indexFile = new JournalSegmentIndexFile(file.indexFile(), descriptor);
     this.namespace = namespace;
     writer = createWriter(file, storageLevel, maxEntrySize, namespace);
   }
@@ -166,9 +168,11 @@ public class JournalSegment<E> implements AutoCloseable {
       final int maxEntrySize,
       final Namespace namespace) {
     if (storageLevel == StorageLevel.MAPPED) {
-      return new MappedJournalSegmentWriter<>(file, this, maxEntrySize, index, namespace);
+      return new MappedJournalSegmentWriter<>(
+          file, this, maxEntrySize, index, indexFile, namespace);
     } else {
-      return new FileChannelJournalSegmentWriter<>(file, this, maxEntrySize, index, namespace);
+      return new FileChannelJournalSegmentWriter<>(
+          file, this, maxEntrySize, index, indexFile, namespace);
     }
   }
 
@@ -207,9 +211,19 @@ public class JournalSegment<E> implements AutoCloseable {
     this.index.compact(index);
   }
 
+  /**
+   * Seals the segment when the journal rolls over to the next segment. The index file of the
+   * segment is written, so that the segment doesn't need to be read completely when it is loaded
+   * again. The segment must be flushed before.
+   */
+  void seal() {
+    indexFile.write();
+  }
+
   /** Deletes the segment. */
   public void delete() {
     try {
+      indexFile.delete();
       Files.deleteIfExists(file.file().toPath());
     } catch (final IOException e) {
       throw new StorageException(e);
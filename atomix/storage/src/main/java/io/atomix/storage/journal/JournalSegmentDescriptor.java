@@ -35,9 +35,10 @@ import java.nio.ByteBuffer;
  *   <li>{@code index} (64-bit signed integer) - The effective first index of the segment. This
  *       indicates the index at which the first entry should be written to the segment. Indexes are
  *       monotonically increasing thereafter.
- *   <li>{@code version} (64-bit signed integer) - The version of the segment. Versions are
- *       monotonically increasing starting at {@code 1}. Versions will only be incremented whenever
- *       the segment is rewritten to another memory/disk space, e.g. after log compaction.
+ *   <li>{@code version} (32-bit signed integer) - The version of the format in which the entries of
+ *       the segment are written. Segments of version {@code 1} are written with the legacy
+ *       namespace of the journal, segments of version {@code 2} with its current namespace; see
+ *       {@link SegmentedJournal.Builder#withLegacyNamespace}.
  *   <li>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in
  *       the segment.
  *   <li>{@code maxEntries} (32-bit signed integer) - The total number of expected entries in the
@@ -62,7 +63,9 @@ public final class JournalSegmentDescriptor {
   public static final int BYTES = 64;
 
   // Current segment version.
-  @VisibleForTesting static final int VERSION = 1;
+  @VisibleForTesting static final int VERSION = 2;
+  // Version of the segments which are written with the legacy namespace of the journal.
+  static final int LEGACY_VERSION = 1;
 
   // The lengths of each field in the header.
   private static final int VERSION_LENGTH = Integer.BYTES; // 32-bit signed integer
@@ -124,7 +127,8 @@ public final class JournalSegmentDescriptor {
   /**
    * Returns the segment version.
    *
-   * <p>Versions are monotonically increasing starting at {@code 1}.
+   * <p>Versions are monotonically increasing starting at {@code 1}. Segments with a lower version
+   * than the current version are read and written with the legacy namespace of the journal.
    *
    * @return The segment version.
    */
@@ -226,6 +230,18 @@ public final class JournalSegmentDescriptor {
       buffer.putInt(VERSION_POSITION, VERSION);
     }
 
+    /**
+     * Sets the segment version, which is the current version by default.
+     *
+     * @param version The segment version.
+     * @return The segment descriptor builder.
+     */
+    @VisibleForTesting
+    Builder withVersion(final int version) {
+      buffer.putInt(VERSION_POSITION, version);
+      return this;
+    }
+
     /**
      * Sets the segment identifier.
      *
@@ -33,6 +33,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -81,6 +82,22 @@ public final class JournalSegmentFile {
     return fileName.startsWith(journalName);
   }
 
+  /**
+   * Returns a boolean value indicating whether the given file appears to be the index file of a
+   * segment.
+   *
+   * @param journalName the name of the journal
+   * @param file the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isSegmentIndexFile(final String journalName, final File file) {
+    final String fileName = file.getName();
+    return fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION)
+        && isSegmentFile(
+            journalName,
+            fileName.substring(0, fileName.length() - INDEX_EXTENSION.length()) + EXTENSION);
+  }
+
   /** Creates a segment file for the given directory, log name, segment ID, and segment version. */
   static File createSegmentFile(final String name, final File directory, final long id) {
     return new File(
@@ -96,6 +113,18 @@ public final class JournalSegmentFile {
     return file;
   }
 
+  /**
+   * Returns the index file of the segment, which is stored next to the segment file.
+   *
+   * @return The index file of the segment.
+   */
+  File indexFile() {
+    final String name = file.getName();
+    final int extensionSeparator = name.lastIndexOf(EXTENSION_SEPARATOR);
+    return new File(
+        file.getParentFile(), name.substring(0, extensionSeparator + 1) + INDEX_EXTENSION);
+  }
+
   FileChannel openChannel(final StandardOpenOption... options) {
     try {
       return FileChannel.open(file.toPath(), options);
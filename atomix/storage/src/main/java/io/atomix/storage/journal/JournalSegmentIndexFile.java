@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index file of a segment, which is written next to the segment file when the journal rolls over to
+ * the next segment. When the segment is loaded again, the segment writer restores the last entry
+ * and the journal index from the index file, instead of reading and verifying every entry of the
+ * segment.
+ *
+ * <p>The format of the index file is as follows:
+ *
+ * <ul>
+ *   <li>32-bit version
+ *   <li>64-bit segment id
+ *   <li>64-bit first index of the segment
+ *   <li>64-bit last index of the segment
+ *   <li>32-bit position of the last entry
+ *   <li>32-bit position after the last entry
+ *   <li>32-bit number of indexed entries
+ *   <li>64-bit index and 32-bit position of each entry which is added to the journal index
+ *   <li>32-bit CRC32 checksum of the preceding bytes
+ * </ul>
+ *
+ * <p>The index file is only an optimization. If it is missing or doesn't match the segment, the
+ * segment is read completely.
+ */
+final class JournalSegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentIndexFile.class);
+
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES * 3 + Integer.BYTES * 3;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Integer.BYTES;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final File file;
+  private final JournalSegmentDescriptor descriptor;
+
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+  private long lastIndex;
+  private int lastEntryPosition;
+  private int endPosition;
+
+  JournalSegmentIndexFile(final File file, final JournalSegmentDescriptor descriptor) {
+    this.file = file;
+    this.descriptor = descriptor;
+    reset();
+  }
+
+  /** Removes all entries, e.g. before the segment is read again. */
+  void reset() {
+    size = 0;
+    lastIndex = descriptor.index() - 1;
+    lastEntryPosition = JournalSegmentDescriptor.BYTES;
+    endPosition = JournalSegmentDescriptor.BYTES;
+  }
+
+  /**
+   * Records an entry of the segment. Entries must be recorded in the order of their indexes.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry in the segment
+   * @param endPosition the position after the entry in the segment
+   * @param indexed whether the entry is added to the journal index
+   */
+  void onEntry(final long index, final int position, final int endPosition, final boolean indexed) {
+    if (indexed) {
+      if (size == indexes.length) {
+        indexes = Arrays.copyOf(indexes, size * 2);
+        positions = Arrays.copyOf(positions, size * 2);
+      }
+
+      indexes[size] = index;
+      positions[size] = position;
+      size++;
+    }
+
+    lastIndex = index;
+    lastEntryPosition = position;
+    this.endPosition = endPosition;
+  }
+
+  /**
+   * Writes the recorded entries to the index file. The segment must be flushed before, as the index
+   * file must not refer to entries which are not persisted. If the index file can't be written, no
+   * index file is left behind.
+   */
+  void write() {
+    if (lastIndex < descriptor.index()) {
+      delete();
+      return;
+    }
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + size * ENTRY_LENGTH + CHECKSUM_LENGTH);
+    buffer
+        .putInt(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(lastIndex)
+        .putInt(lastEntryPosition)
+        .putInt(endPosition)
+        .putInt(size);
+    for (int i = 0; i < size; i++) {
+      buffer.putLong(indexes[i]).putInt(positions[i]);
+    }
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc32.getValue());
+    buffer.flip();
+
+    // write a temporary file first, so that the index file is never partially written
+    final Path path = file.toPath();
+    final Path temporaryPath = path.resolveSibling(file.getName() + ".tmp");
+    try {
+      try (final FileChannel channel =
+          FileChannel.open(
+              temporaryPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+
+      Files.move(
+          temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      // the segment can still be loaded without the index file
+      LOG.warn("Failed to write index file {}, the segment is read completely on load", file, e);
+      delete();
+    }
+  }
+
+  /**
+   * Reads the entries from the index file, replacing the recorded entries. The index file is only
+   * read if it belongs to the segment and its checksum is valid.
+   *
+   * @return true if the index file was read, false if it doesn't exist or is not valid
+   */
+  boolean read() {
+    reset();
+    if (!file.exists()) {
+      return false;
+    }
+
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, the segment is read completely", file, e);
+      return false;
+    }
+
+    if (!isValid(buffer)) {
+      LOG.warn("Index file {} is not valid, the segment is read completely", file);
+      return false;
+    }
+
+    buffer.position(Integer.BYTES + Long.BYTES * 2);
+    final long lastIndex = buffer.getLong();
+    final int lastEntryPosition = buffer.getInt();
+    final int endPosition = buffer.getInt();
+    final int size = buffer.getInt();
+
+    indexes = new long[Math.max(INITIAL_CAPACITY, size)];
+    positions = new int[indexes.length];
+    for (int i = 0; i < size; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+    }
+
+    this.size = size;
+    this.lastIndex = lastIndex;
+    this.lastEntryPosition = lastEntryPosition;
+    this.endPosition = endPosition;
+    return true;
+  }
+
+  private boolean isValid(final ByteBuffer buffer) {
+    final int length = buffer.remaining();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final int size = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (size < 0 || length != HEADER_LENGTH + size * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, length - CHECKSUM_LENGTH);
+    if ((int) crc32.getValue() != buffer.getInt(length - CHECKSUM_LENGTH)) {
+      return false;
+    }
+
+    final long lastIndex = buffer.getLong(Integer.BYTES + Long.BYTES * 2);
+    final int lastEntryPosition = buffer.getInt(Integer.BYTES + Long.BYTES * 3);
+    final int endPosition = buffer.getInt(Integer.BYTES * 2 + Long.BYTES * 3);
+    return buffer.getInt(0) == VERSION
+        && buffer.getLong(Integer.BYTES) == descriptor.id()
+        && buffer.getLong(Integer.BYTES + Long.BYTES) == descriptor.index()
+        && lastIndex >= descriptor.index()
+        && lastEntryPosition >= JournalSegmentDescriptor.BYTES
+        && lastEntryPosition < endPosition
+        && endPosition <= descriptor.maxSegmentSize();
+  }
+
+  /** Deletes the index file, e.g. if the segment is truncated or deleted. */
+  void delete() {
+    try {
+      Files.deleteIfExists(file.toPath().resolveSibling(file.getName() + ".tmp"));
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  long index(final int i) {
+    return indexes[i];
+  }
+
+  int position(final int i) {
+    return positions[i];
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastEntryPosition() {
+    return lastEntryPosition;
+  }
+
+  int endPosition() {
+    return endPosition;
+  }
+}
@@ -24,6 +24,8 @@ import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.CRC32;
 import org.agrona.IoUtil;
 
@@ -49,6 +51,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalSegment<E> segment;
   private final int maxEntrySize;
   private final JournalIndex index;
+  private final JournalSegmentIndexFile indexFile;
   private final Namespace namespace;
   private final long firstIndex;
   private Indexed<E> lastEntry;
@@ -59,14 +62,18 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
+      final JournalSegmentIndexFile indexFile,
       final Namespace namespace) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
+    this.indexFile = indexFile;
     this.namespace = namespace;
     firstIndex = segment.index();
     buffer = mapFile(file, segment);
-    reset(0);
+    if (!restore()) {
+      reset(0);
+    }
   }
 
   private static MappedByteBuffer mapFile(
@@ -144,6 +151,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     final Indexed<E> indexedEntry = new Indexed<>(index, entry, length);
     lastEntry = indexedEntry;
     this.index.index(lastEntry, position);
+    indexFile.onEntry(index, position, buffer.position(), this.index.isIndexed(index));
     return (Indexed<T>) indexedEntry;
   }
 
@@ -169,6 +177,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   @Override
   public void reset(final long index) {
     long nextIndex = firstIndex;
+    indexFile.reset();
 
     // Clear the buffer indexes.
     buffer.position(JournalSegmentDescriptor.BYTES);
@@ -200,6 +209,8 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
           final E entry = namespace.deserialize(slice);
           lastEntry = new Indexed<>(nextIndex, entry, length);
           this.index.index(lastEntry, position);
+          indexFile.onEntry(
+              nextIndex, position, buffer.position() + length, this.index.isIndexed(nextIndex));
           nextIndex++;
         } else {
           break;
@@ -220,6 +231,73 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  /**
+   * Restores the last entry and the index from the index file of the segment, instead of reading
+   * the whole segment. The indexed entries and the last entry are still verified.
+   *
+   * @return true if the writer was restored, false if the segment must be read completely
+   */
+  private boolean restore() {
+    if (!indexFile.read()) {
+      return false;
+    }
+
+    try {
+      // verify all entries before anything is indexed
+      final List<Indexed<E>> indexedEntries = new ArrayList<>(indexFile.size());
+      for (int i = 0; i < indexFile.size(); i++) {
+        final Indexed<E> indexedEntry = readEntry(indexFile.index(i), indexFile.position(i));
+        if (indexedEntry == null) {
+          return false;
+        }
+        indexedEntries.add(indexedEntry);
+      }
+
+      final int position = indexFile.lastEntryPosition();
+      final int endPosition = indexFile.endPosition();
+      final Indexed<E> indexedEntry = readEntry(indexFile.lastIndex(), position);
+      if (indexedEntry == null
+          || position + Integer.BYTES + Integer.BYTES + indexedEntry.size() != endPosition
+          || (endPosition + Integer.BYTES <= buffer.limit() && buffer.getInt(endPosition) != 0)) {
+        return false;
+      }
+
+      for (int i = 0; i < indexedEntries.size(); i++) {
+        index.index(indexedEntries.get(i), indexFile.position(i));
+      }
+      lastEntry = indexedEntry;
+      buffer.position(endPosition);
+      return true;
+    } catch (final KryoException | BufferUnderflowException | IndexOutOfBoundsException e) {
+      return false;
+    }
+  }
+
+  private Indexed<E> readEntry(final long index, final int position) {
+    if (position < JournalSegmentDescriptor.BYTES
+        || position + Integer.BYTES + Integer.BYTES > buffer.limit()) {
+      return null;
+    }
+
+    final int length = buffer.getInt(position);
+    final int entryPosition = position + Integer.BYTES + Integer.BYTES;
+    if (length <= 0 || length > maxEntrySize || entryPosition + length > buffer.limit()) {
+      return null;
+    }
+
+    final ByteBuffer slice = buffer.duplicate();
+    slice.position(entryPosition).limit(entryPosition + length);
+    final CRC32 crc32 = new CRC32();
+    crc32.update(slice);
+    if ((buffer.getInt(position + Integer.BYTES) & 0xFFFFFFFFL) != crc32.getValue()) {
+      return null;
+    }
+
+    slice.position(entryPosition);
+    final E entry = namespace.deserialize(slice.slice());
+    return new Indexed<>(index, entry, length);
+  }
+
   @Override
   public void truncate(final long index) {
     // If the index is greater than or equal to the last index, skip the truncate.
@@ -233,7 +311,11 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     // Truncate the index.
     this.index.truncate(index);
 
+    // The segment may be written again, so the index file is outdated.
+    indexFile.delete();
+
     if (index < segment.index()) {
+      indexFile.reset();
       buffer.position(JournalSegmentDescriptor.BYTES);
       buffer.putInt(0);
       buffer.putInt(0);
@@ -55,6 +55,7 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final StorageLevel storageLevel;
   private final File directory;
   private final Namespace namespace;
+  private final Namespace legacyNamespace;
   private final int maxSegmentSize;
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
@@ -71,6 +72,7 @@ public class SegmentedJournal<E> implements Journal<E> {
       final StorageLevel storageLevel,
       final File directory,
       final Namespace namespace,
+      final Namespace legacyNamespace,
       final int maxSegmentSize,
       final int maxEntrySize,
       final int maxEntriesPerSegment,
@@ -80,6 +82,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.namespace = checkNotNull(namespace, "namespace cannot be null");
+    this.legacyNamespace = legacyNamespace == null ? namespace : legacyNamespace;
     this.maxSegmentSize = maxSegmentSize;
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
@@ -489,8 +492,17 @@ public class SegmentedJournal<E> implements Journal<E> {
    */
   protected JournalSegment<E> newSegment(
       final JournalSegmentFile segmentFile, final JournalSegmentDescriptor descriptor) {
+    // segments which were written before the current entry format are kept in the legacy format,
+    // including the entries which are appended to them
+    final Namespace segmentNamespace =
+        descriptor.version() < JournalSegmentDescriptor.VERSION ? legacyNamespace : namespace;
     return new JournalSegment<>(
-        segmentFile, descriptor, storageLevel, maxEntrySize, namespace, journalIndexFactory.get());
+        segmentFile,
+        descriptor,
+        storageLevel,
+        maxEntrySize,
+        segmentNamespace,
+        journalIndexFactory.get());
   }
 
   /** Loads a segment. */
@@ -697,6 +709,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     protected StorageLevel storageLevel = StorageLevel.DISK;
     protected File directory = new File(DEFAULT_DIRECTORY);
     protected Namespace namespace;
+    protected Namespace legacyNamespace;
     protected int maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
     protected int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
     protected int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
@@ -768,6 +781,20 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the namespace of the segments which were written in the legacy format, i.e. with a
+     * descriptor version lower than the current {@link JournalSegmentDescriptor#version() version}.
+     * Entries appended to such segments are written with it as well, such that each segment is
+     * written in one format. By default, it is the journal namespace.
+     *
+     * @param legacyNamespace The serializer of the legacy segments.
+     * @return The journal builder.
+     */
+    public Builder<E> withLegacyNamespace(final Namespace legacyNamespace) {
+      this.legacyNamespace = checkNotNull(legacyNamespace, "legacyNamespace cannot be null");
+      return this;
+    }
+
     /**
      * Sets the maximum segment size in bytes, returning the builder for method chaining.
      *
@@ -855,6 +882,7 @@ public class SegmentedJournal<E> implements Journal<E> {
           storageLevel,
           directory,
           namespace,
+          legacyNamespace,
           maxSegmentSize,
           maxEntrySize,
           maxEntriesPerSegment,
@@ -130,6 +130,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   private void createNewSegment() {
     currentWriter.flush();
+    currentSegment.seal();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -29,6 +29,18 @@ public interface JournalIndex {
    */
   void index(Indexed indexed, int position);
 
+  /**
+   * Returns whether an entry with the given index is added to the index by {@link #index(Indexed,
+   * int)}. The positions of these entries are stored in the index file of a segment, so that the
+   * index can be restored without reading the whole segment.
+   *
+   * @param index the index of the entry
+   * @return true if an entry with the given index is added to the index
+   */
+  default boolean isIndexed(final long index) {
+    return true;
+  }
+
   /**
    * Looks up the position of the given index.
    *
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.Arrays;
+
+/**
+ * Maps non-negative long keys to long values, which are kept in sorted primitive arrays and are
+ * searched with a binary search. If the values grow with the keys, the map can be searched by value
+ * as well.
+ *
+ * <p>The map is written by a single thread, but it can be read concurrently; the arrays are
+ * replaced and published when they grow or when an entry is inserted out of order, instead of being
+ * modified in place.
+ */
+public final class SortedLongMap {
+
+  public static final long NO_KEY = -1L;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private volatile Entries entries = new Entries(INITIAL_CAPACITY);
+
+  /** Adds the entry, or replaces the value of the key if it is already contained. */
+  public void put(final long key, final long value) {
+    Entries entries = this.entries;
+    final int head = entries.head;
+    final int tail = entries.tail;
+
+    if (tail == head || entries.keys[tail - 1] < key) {
+      if (tail == entries.keys.length) {
+        entries = entries.copy(-1, key, value);
+        this.entries = entries;
+      }
+
+      entries.keys[entries.tail] = key;
+      entries.values[entries.tail] = value;
+      entries.tail++;
+      return;
+    }
+
+    final int slot = Arrays.binarySearch(entries.keys, head, tail, key);
+    if (slot >= 0) {
+      entries.values[slot] = value;
+    } else {
+      this.entries = entries.copy(-(slot + 1), key, value);
+    }
+  }
+
+  /**
+   * @param key the key to look up
+   * @return the highest key which is lower or equal to the given key, or {@link #NO_KEY} if there
+   *     is none
+   */
+  public long floorKey(final long key) {
+    final Entries entries = this.entries;
+    final int slot = floorSlot(entries.keys, entries.head, entries.tail, key);
+    return slot >= 0 ? entries.keys[slot] : NO_KEY;
+  }
+
+  /**
+   * Looks up an entry by its value, which requires that the values grow with the keys.
+   *
+   * @param value the value to look up
+   * @return the key of the entry with the highest value which is lower or equal to the given value,
+   *     or {@link #NO_KEY} if there is none
+   */
+  public long floorKeyByValue(final long value) {
+    final Entries entries = this.entries;
+    final int slot = floorSlot(entries.values, entries.head, entries.tail, value);
+    return slot >= 0 ? entries.keys[slot] : NO_KEY;
+  }
+
+  /**
+   * Looks up the entry of the highest key which is lower or equal to the given key. The key and the
+   * value of the entry are read together, such that they are consistent with each other even if the
+   * map is modified concurrently.
+   *
+   * @param key the key to look up
+   * @param mapper maps the key and the value of the entry to the result
+   * @return the mapped entry, or null if there is none
+   */
+  public <T> T floorEntry(final long key, final EntryMapper<T> mapper) {
+    final Entries entries = this.entries;
+    final int slot = floorSlot(entries.keys, entries.head, entries.tail, key);
+    return slot >= 0 ? mapper.map(entries.keys[slot], entries.values[slot]) : null;
+  }
+
+  /** Removes all entries with a higher key than the given key. */
+  public void truncate(final long key) {
+    final Entries entries = this.entries;
+    final int slot = floorSlot(entries.keys, entries.head, entries.tail, key);
+    entries.tail = slot >= 0 ? slot + 1 : entries.head;
+  }
+
+  /** Removes all entries with a lower key than the highest key which is lower or equal. */
+  public void compact(final long key) {
+    final Entries entries = this.entries;
+    final int slot = floorSlot(entries.keys, entries.head, entries.tail, key);
+    if (slot >= 0) {
+      entries.head = slot;
+    }
+  }
+
+  private static int floorSlot(
+      final long[] values, final int head, final int tail, final long value) {
+    if (head >= tail) {
+      return -1;
+    }
+
+    final int slot = Arrays.binarySearch(values, head, tail, value);
+    final int floorSlot = slot >= 0 ? slot : -(slot + 1) - 1;
+    return floorSlot >= head ? floorSlot : -1;
+  }
+
+  @FunctionalInterface
+  public interface EntryMapper<T> {
+
+    T map(long key, long value);
+  }
+
+  private static final class Entries {
+
+    private final long[] keys;
+    private final long[] values;
+    // the entries are in the slots [head, tail)
+    private volatile int head;
+    private volatile int tail;
+
+    private Entries(final int capacity) {
+      keys = new long[capacity];
+      values = new long[capacity];
+    }
+
+    /**
+     * Returns a copy of the entries, which grows if more than half of the capacity is used.
+     *
+     * @param insertSlot the slot at which the given entry is inserted, or -1 to insert nothing
+     * @param key the key of the inserted entry
+     * @param value the value of the inserted entry
+     * @return the copy of the entries
+     */
+    private Entries copy(final int insertSlot, final long key, final long value) {
+      final int size = tail - head + (insertSlot >= 0 ? 1 : 0);
+      final int capacity = size < keys.length / 2 ? keys.length : keys.length * 2;
+      final Entries copy = new Entries(capacity);
+
+      if (insertSlot < 0) {
+        System.arraycopy(keys, head, copy.keys, 0, size);
+        System.arraycopy(values, head, copy.values, 0, size);
+      } else {
+        final int lower = insertSlot - head;
+        System.arraycopy(keys, head, copy.keys, 0, lower);
+        System.arraycopy(values, head, copy.values, 0, lower);
+        copy.keys[lower] = key;
+        copy.values[lower] = value;
+        System.arraycopy(keys, insertSlot, copy.keys, lower + 1, tail - insertSlot);
+        System.arraycopy(values, insertSlot, copy.values, lower + 1, tail - insertSlot);
+      }
+
+      copy.tail = size;
+      return copy;
+    }
+  }
+}
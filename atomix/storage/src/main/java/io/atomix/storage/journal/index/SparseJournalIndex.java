@@ -17,15 +17,21 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
-/** Sparse index. */
+/**
+ * Sparse index, which indexes every n-th entry, where n is the density. A density of 1 indexes
+ * every entry.
+ *
+ * <p>The indexed entries are kept in a {@link SortedLongMap}, which can be read concurrently while
+ * entries are indexed. The last looked up position is kept, such that repeated lookups of the same
+ * entry, e.g. by readers seeking in the same region, don't allocate.
+ */
 public class SparseJournalIndex implements JournalIndex {
 
   private final int density;
-  private final TreeMap<Long, Integer> positions = new TreeMap<>();
+  private final SortedLongMap positions = new SortedLongMap();
+  private final SortedLongMap.EntryMapper<Position> positionMapper = this::toPosition;
+  private volatile Position lastPosition;
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -34,28 +40,43 @@ public class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(final Indexed indexedEntry, final int position) {
     final long index = indexedEntry.index();
-    if (index % density == 0) {
+    if (isIndexed(index)) {
+      // entries are only indexed out of order when the segments are loaded, e.g. if the index is
+      // shared by the segments of a journal
       positions.put(index, position);
     }
   }
 
+  @Override
+  public boolean isIndexed(final long index) {
+    return index % density == 0;
+  }
+
   @Override
   public Position lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = positions.floorEntry(index);
-    return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    return positions.floorEntry(index, positionMapper);
   }
 
   @Override
   public void truncate(final long index) {
-    positions.tailMap(index, false).clear();
+    positions.truncate(index);
   }
 
   @Override
   public void compact(final long index) {
-    final Entry<Long, Integer> floorEntry = positions.floorEntry(index);
+    positions.compact(index);
+  }
 
-    if (floorEntry != null) {
-      positions.headMap(floorEntry.getKey(), false).clear();
+  private Position toPosition(final long index, final long position) {
+    final Position lastPosition = this.lastPosition;
+    if (lastPosition != null
+        && lastPosition.index() == index
+        && lastPosition.position() == position) {
+      return lastPosition;
     }
+
+    final Position newPosition = new Position(index, (int) position);
+    this.lastPosition = newPosition;
+    return newPosition;
   }
 }
@@ -53,7 +53,7 @@ import org.junit.runners.Parameterized;
 public abstract class AbstractJournalTest {
 
   protected static final TestEntry ENTRY = new TestEntry(32);
-  private static final Namespace NAMESPACE =
+  protected static final Namespace NAMESPACE =
       new FallbackNamespace(
           new NamespaceImpl.Builder().register(TestEntry.class).register(byte[].class));
 
@@ -87,6 +87,10 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() throws IOException {
+    return journalBuilder().build();
+  }
+
+  protected SegmentedJournal.Builder<TestEntry> journalBuilder() {
     final SparseJournalIndex index = new SparseJournalIndex(5);
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
@@ -95,8 +99,7 @@ public abstract class AbstractJournalTest {
         .withStorageLevel(storageLevel())
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(48)
-        .withJournalIndexFactory(() -> index)
-        .build();
+        .withJournalIndexFactory(() -> index);
   }
 
   @Test
@@ -32,6 +32,21 @@ public class JournalSegmentFileTest {
     assertTrue(JournalSegmentFile.isSegmentFile("foo", "foo-1-1.log"));
   }
 
+  @Test
+  public void testIsSegmentIndexFile() throws Exception {
+    assertTrue(JournalSegmentFile.isSegmentIndexFile("foo", new File("foo-1.idx")));
+    assertFalse(JournalSegmentFile.isSegmentIndexFile("foo", new File("foo-1.log")));
+    assertFalse(JournalSegmentFile.isSegmentFile("foo", "foo-1.idx"));
+  }
+
+  @Test
+  public void testIndexFile() throws Exception {
+    final File file =
+        JournalSegmentFile.createSegmentFile("foo", new File(System.getProperty("user.dir")), 1);
+    assertTrue(
+        JournalSegmentFile.isSegmentIndexFile("foo", new JournalSegmentFile(file).indexFile()));
+  }
+
   @Test
   public void testCreateSegmentFile() throws Exception {
     final File file =
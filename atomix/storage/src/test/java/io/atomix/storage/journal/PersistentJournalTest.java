@@ -17,8 +17,15 @@
 package io.atomix.storage.journal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import io.atomix.utils.serializer.FallbackNamespace;
+import io.atomix.utils.serializer.NamespaceImpl;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import org.junit.Test;
 
 /** Persistent journal test base. */
@@ -60,4 +67,131 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  /** Tests recovering the journal from the index files of the sealed segments. */
+  @Test
+  public void testRecoverFromIndexFiles() throws Exception {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    journal = createJournal();
+    writer = journal.writer();
+
+    // then
+    assertEquals(3, indexFiles().length);
+    assertRecovered(entriesPerSegment * 3 + 1);
+    assertEquals(entriesPerSegment * 3 + 2, writer.append(ENTRY).index());
+  }
+
+  /** Tests recovering the journal if an index file is corrupted. */
+  @Test
+  public void testRecoverWithCorruptedIndexFile() throws Exception {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    for (final File indexFile : indexFiles()) {
+      final byte[] bytes = Files.readAllBytes(indexFile.toPath());
+      bytes[bytes.length / 2] ^= 1;
+      Files.write(indexFile.toPath(), bytes);
+    }
+    journal = createJournal();
+
+    // then
+    assertRecovered(entriesPerSegment * 2 + 1);
+  }
+
+  /** Tests that the index file of a truncated segment is not used to recover the journal. */
+  @Test
+  public void testTruncateAndRecover() throws Exception {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2 + 1; i++) {
+      writer.append(ENTRY);
+    }
+
+    // when
+    writer.truncate(1);
+    journal.close();
+    journal = createJournal();
+
+    // then
+    assertRecovered(1);
+  }
+
+  /** Tests that the segments of the legacy version are kept in the legacy entry format. */
+  @Test
+  public void testRecoverLegacySegments() throws Exception {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    for (final File segmentFile : segmentFiles()) {
+      try (final RandomAccessFile file = new RandomAccessFile(segmentFile, "rw")) {
+        file.writeInt(JournalSegmentDescriptor.LEGACY_VERSION);
+      }
+    }
+
+    // when
+    journal =
+        journalBuilder()
+            .withNamespace(
+                new FallbackNamespace(
+                    new NamespaceImpl.Builder().register(byte[].class).register(TestEntry.class)))
+            .withLegacyNamespace(NAMESPACE)
+            .build();
+    for (int i = 0; i < entriesPerSegment; i++) {
+      journal.writer().append(ENTRY);
+    }
+
+    // then
+    assertRecovered(entriesPerSegment * 3 + 1);
+    assertEquals(
+        JournalSegmentDescriptor.LEGACY_VERSION, journal.getFirstSegment().descriptor().version());
+    assertEquals(JournalSegmentDescriptor.VERSION, journal.getLastSegment().descriptor().version());
+  }
+
+  private void assertRecovered(final long lastIndex) throws IOException {
+    final JournalWriter<TestEntry> writer = journal.writer();
+    assertEquals(lastIndex, writer.getLastIndex());
+    assertEquals(lastIndex, writer.getLastEntry().index());
+    assertEquals(ENTRY, writer.getLastEntry().entry());
+
+    try (final JournalReader<TestEntry> reader = journal.openReader(1)) {
+      for (long index = 1; index <= lastIndex; index++) {
+        assertTrue(reader.hasNext());
+        assertEquals(index, reader.next().index());
+      }
+      assertFalse(reader.hasNext());
+    }
+
+    try (final JournalReader<TestEntry> reader = journal.openReader(lastIndex)) {
+      assertTrue(reader.hasNext());
+      assertEquals(lastIndex, reader.next().index());
+    }
+  }
+
+  private File[] segmentFiles() {
+    return journal
+        .directory()
+        .listFiles(file -> JournalSegmentFile.isSegmentFile(journal.name(), file));
+  }
+
+  private File[] indexFiles() {
+    return journal
+        .directory()
+        .listFiles(file -> JournalSegmentFile.isSegmentIndexFile(journal.name(), file));
+  }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SortedLongMapTest {
+
+  @Test
+  public void shouldFindFloorKey() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+
+    // when
+    map.put(10, 100);
+    map.put(20, 200);
+
+    // then
+    assertEquals(SortedLongMap.NO_KEY, map.floorKey(9));
+    assertEquals(10, map.floorKey(10));
+    assertEquals(10, map.floorKey(19));
+    assertEquals(20, map.floorKey(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void shouldFindFloorKeyByValue() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+
+    // when
+    map.put(10, 100);
+    map.put(20, 200);
+
+    // then
+    assertEquals(SortedLongMap.NO_KEY, map.floorKeyByValue(99));
+    assertEquals(10, map.floorKeyByValue(100));
+    assertEquals(10, map.floorKeyByValue(199));
+    assertEquals(20, map.floorKeyByValue(200));
+  }
+
+  @Test
+  public void shouldFindFloorEntry() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+
+    // when
+    map.put(10, 100);
+
+    // then
+    assertNull(map.floorEntry(9, (key, value) -> key + ":" + value));
+    assertEquals("10:100", map.floorEntry(15, (key, value) -> key + ":" + value));
+  }
+
+  @Test
+  public void shouldInsertOutOfOrder() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+
+    // when
+    for (int i = 1_000; i > 0; i--) {
+      map.put(i * 2, i);
+    }
+
+    // then
+    for (int i = 1; i <= 1_000; i++) {
+      assertEquals(i * 2, map.floorKey(i * 2 + 1));
+      assertEquals(i * 2, map.floorKeyByValue(i));
+    }
+  }
+
+  @Test
+  public void shouldReplaceValueOfKey() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+    map.put(10, 100);
+    map.put(20, 200);
+
+    // when
+    map.put(10, 150);
+
+    // then
+    assertEquals(10, map.floorKeyByValue(150));
+    assertEquals(SortedLongMap.NO_KEY, map.floorKeyByValue(149));
+  }
+
+  @Test
+  public void shouldTruncate() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+
+    // when
+    map.truncate(25);
+
+    // then
+    assertEquals(20, map.floorKey(30));
+
+    // when
+    map.truncate(5);
+
+    // then
+    assertEquals(SortedLongMap.NO_KEY, map.floorKey(30));
+  }
+
+  @Test
+  public void shouldCompact() {
+    // given
+    final SortedLongMap map = new SortedLongMap();
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+
+    // when
+    map.compact(25);
+
+    // then
+    assertEquals(SortedLongMap.NO_KEY, map.floorKey(15));
+    assertEquals(20, map.floorKey(25));
+    assertEquals(30, map.floorKey(30));
+  }
+}
@@ -18,6 +18,7 @@ package io.atomix.storage.journal.index;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import io.atomix.storage.journal.Indexed;
 import org.junit.Test;
@@ -210,4 +211,107 @@ public class SparseJournalIndexTest {
     assertEquals(10, index.lookup(12).index());
     assertEquals(20, index.lookup(12).position());
   }
+
+  @Test
+  public void shouldNotAllocatePositionOnLookup() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asIndexedEntry(5), 10);
+
+    // when
+    final Position position = index.lookup(7);
+
+    // then
+    assertSame(position, index.lookup(8));
+  }
+
+  @Test
+  public void shouldIndexEveryEntryInDenseMode() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asIndexedEntry(i), i * 2);
+    }
+
+    // then
+    for (int i = 1; i <= 1_000; i++) {
+      assertEquals(i, index.lookup(i).index());
+      assertEquals(i * 2, index.lookup(i).position());
+    }
+  }
+
+  @Test
+  public void shouldIndexAfterCompactAndTruncate() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 100; i++) {
+      index.index(asIndexedEntry(i), i * 2);
+    }
+
+    // when
+    index.compact(90);
+    index.truncate(95);
+    for (int i = 96; i <= 300; i++) {
+      index.index(asIndexedEntry(i), i * 3);
+    }
+
+    // then
+    assertNull(index.lookup(89));
+    assertEquals(180, index.lookup(90).position());
+    assertEquals(190, index.lookup(95).position());
+    assertEquals(288, index.lookup(96).position());
+    assertEquals(900, index.lookup(300).position());
+  }
+
+  @Test
+  public void shouldReplaceEntryOnReindex() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asIndexedEntry(5), 10);
+    index.index(asIndexedEntry(10), 20);
+
+    // when
+    index.index(asIndexedEntry(5), 12);
+
+    // then
+    assertEquals(12, index.lookup(5).position());
+    assertEquals(20, index.lookup(10).position());
+  }
+
+  @Test
+  public void shouldIndexEntriesOutOfOrder() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asIndexedEntry(15), 30);
+    index.index(asIndexedEntry(20), 40);
+
+    // when
+    index.index(asIndexedEntry(5), 10);
+    index.index(asIndexedEntry(10), 20);
+
+    // then
+    assertNull(index.lookup(4));
+    assertEquals(10, index.lookup(5).position());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(30, index.lookup(15).position());
+    assertEquals(40, index.lookup(21).position());
+  }
+
+  @Test
+  public void shouldIndexAfterTruncatingAllEntries() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asIndexedEntry(5), 10);
+    index.index(asIndexedEntry(10), 20);
+    index.compact(10);
+
+    // when
+    index.truncate(4);
+    index.index(asIndexedEntry(5), 12);
+
+    // then
+    assertEquals(12, index.lookup(6).position());
+  }
 }
@@ -521,7 +521,7 @@ public class NamespaceImpl implements Namespace, KryoFactory, KryoPool {
     }
   }
 
-  static final class RegistrationBlock {
+  public static final class RegistrationBlock {
     private final int begin;
     private final ImmutableList<Pair<Class<?>[], Serializer<?>>> types;
 
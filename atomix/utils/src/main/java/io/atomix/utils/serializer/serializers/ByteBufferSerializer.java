@@ -27,11 +27,18 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
 
   @Override
   public void write(final Kryo kryo, final Output output, final ByteBuffer object) {
+    final int length = object.remaining();
     output.writeBoolean(object.isDirect());
     output.writeBoolean(ByteOrder.LITTLE_ENDIAN.equals(object.order()));
-    output.writeInt(object.remaining());
-    for (int i = object.position(); i < object.limit(); i++) {
-      output.writeByte(object.get(i));
+    output.writeInt(length);
+
+    // copy the bytes in bulk, instead of byte by byte, since the buffers contain whole Raft entries
+    if (object.hasArray()) {
+      output.writeBytes(object.array(), object.arrayOffset() + object.position(), length);
+    } else {
+      final byte[] bytes = new byte[length];
+      object.duplicate().get(bytes);
+      output.writeBytes(bytes);
     }
   }
 
@@ -54,8 +61,10 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
       buffer.order(ByteOrder.BIG_ENDIAN);
     }
 
-    for (int i = 0; i < capacity; i++) {
-      buffer.put(i, input.readByte());
+    if (buffer.hasArray()) {
+      input.readBytes(buffer.array(), buffer.arrayOffset(), capacity);
+    } else {
+      buffer.duplicate().put(input.readBytes(capacity));
     }
 
     return buffer;
@@ -172,6 +172,24 @@ public class ByteBufferSerializerTest {
     assertEquals(secondValue, deserialized.getInt(0));
   }
 
+  @Test
+  public void shouldSerializeReadOnlyBufferWithoutChangingPosition() {
+    // given
+    final int capacity = Long.BYTES * 2;
+    final ByteBuffer original = ByteBuffer.allocate(capacity).putLong(0, 1).putLong(Long.BYTES, 2);
+    final ByteBuffer readOnly = original.asReadOnlyBuffer();
+    readOnly.position(Long.BYTES);
+
+    // when
+    KRYO.writeObject(output, readOnly);
+    final ByteBuffer deserialized = KRYO.readObject(input, ByteBuffer.class);
+
+    // then
+    assertEquals(Long.BYTES, readOnly.position());
+    assertEquals(Long.BYTES, deserialized.capacity());
+    assertEquals(2, deserialized.getLong(0));
+  }
+
   @Test
   public void shouldSerializeZeroLengthBuffers() {
     // given
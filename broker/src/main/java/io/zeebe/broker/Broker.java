@@ -248,7 +248,9 @@ public final class Broker implements AutoCloseable {
   }
 
   private AutoCloseable atomixCreateStep(final BrokerCfg brokerCfg) {
-    final var snapshotStoreFactory = new FileBasedSnapshotStoreFactory();
+    final var snapshotStoreFactory =
+        new FileBasedSnapshotStoreFactory(
+            (int) brokerCfg.getData().getSnapshotChunkSize().toBytes());
     snapshotStoreSupplier = snapshotStoreFactory;
     atomix = AtomixFactory.fromConfiguration(brokerCfg, snapshotStoreFactory);
 
@@ -302,7 +304,8 @@ public final class Broker implements AutoCloseable {
       limiter = PartitionAwareRequestLimiter.newLimiter(backpressureCfg);
     }
 
-    commandHandler = new CommandApiService(serverTransport, localBroker, limiter);
+    commandHandler =
+        new CommandApiService(serverTransport, brokerContext.getScheduler(), localBroker, limiter);
     partitionListeners.add(commandHandler);
     scheduleActor(commandHandler);
     diskSpaceUsageListeners.add(commandHandler);
@@ -465,7 +468,7 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(atomix.getEventService(), stream.getPartitionId());
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -8,16 +8,20 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.protocol.impl.encoding.JobsAvailableNotification;
 
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
   private final ClusterEventService eventService;
+  private final int partitionId;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(final ClusterEventService eventService, final int partitionId) {
     this.eventService = eventService;
+    this.partitionId = partitionId;
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    eventService.broadcast(JobsAvailableNotification.LEGACY_TOPIC, jobType);
+    eventService.broadcast(
+        JobsAvailableNotification.TOPIC, JobsAvailableNotification.encode(partitionId, jobType));
   }
 }
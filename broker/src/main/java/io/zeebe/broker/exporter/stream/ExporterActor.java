@@ -0,0 +1,385 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.processing.streamprocessor.EventFilter;
+import io.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.zeebe.exporter.api.context.Context.RecordFilter;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamReader;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.util.LangUtil;
+import io.zeebe.util.retry.BackOffRetryStrategy;
+import io.zeebe.util.retry.EndlessRetryStrategy;
+import io.zeebe.util.retry.RetryStrategy;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.agrona.collections.LongArrayList;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of the log stream to a single exporter. Every exporter has its own actor and
+ * log stream reader, so that it consumes the log stream at its own pace and a slow exporter doesn't
+ * stall the other exporters.
+ */
+final class ExporterActor extends Actor {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
+      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private static final Duration LAG_METRICS_INTERVAL = Duration.ofSeconds(5);
+  // limits the number of read records which are remembered to calculate the lag in bytes; if more
+  // records are unacknowledged, only every second checkpoint is kept, so the lag in bytes is an
+  // estimate which is at most the distance between two checkpoints too high
+  private static final int MAX_UNACKNOWLEDGED_CHECKPOINTS = 1024;
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final Consumer<String> failureListener;
+
+  // positions of read records and the number of bytes read up to them
+  private final LongArrayList unacknowledgedPositions = new LongArrayList();
+  private final LongArrayList unacknowledgedReadBytes = new LongArrayList();
+  private final RecordMetadata skippedRecordMetadata = new RecordMetadata();
+  private long readBytes;
+  private long acknowledgedBytes;
+
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private ActorCondition onCommitPositionUpdatedCondition;
+  private boolean inExportingPhase;
+
+  ExporterActor(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final Consumer<String> failureListener) {
+    name = directorName + "-" + container.getId();
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.failureListener = failureListener;
+    recordExporter = new RecordExporter(metrics, container, logStream.getPartitionId());
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
+    actor.runOnCompletionBlockingCurrentPhase(
+        newReaderFuture,
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            logStreamReader = reader;
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    try {
+      // every exporter writes its position with its own context, since the actors can run on
+      // different threads
+      final ExportersState state = new ExportersState(zeebeDb, zeebeDb.createContext());
+      container.initContainer(actor, metrics, state);
+      container.initPosition();
+      recoverFromSnapshot();
+
+      eventFilter = new ExporterEventFilter(container.getContext().getFilter());
+    } catch (final Exception e) {
+      onFailure();
+      LangUtil.rethrowUnchecked(e);
+    }
+
+    isOpened.set(true);
+
+    onCommitPositionUpdatedCondition =
+        actor.onCondition(getName() + "-on-commit-position-updated", this::readNextEvent);
+    logStream.registerOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
+
+    try {
+      container.openExporter();
+    } catch (final Exception e) {
+      LOG.error("Failed to open exporter '{}'", container.getId(), e);
+      onFailure();
+      return;
+    }
+
+    actor.runAtFixedRate(LAG_METRICS_INTERVAL, this::updateLagMetrics);
+    actor.submit(this::readNextEvent);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    if (onCommitPositionUpdatedCondition != null) {
+      logStream.removeOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
+      onCommitPositionUpdatedCondition = null;
+    }
+  }
+
+  private void recoverFromSnapshot() {
+    final long snapshotPosition = container.getPosition();
+    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
+    if (failedToRecoverReader) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, snapshotPosition, getName()));
+    }
+
+    LOG.debug(
+        "Recovered exporter '{}' from snapshot at lastExportedPosition {}",
+        getName(),
+        snapshotPosition);
+  }
+
+  private void onFailure() {
+    isOpened.set(false);
+    failureListener.accept(container.getId());
+    actor.close();
+  }
+
+  private void readNextEvent() {
+    if (isOpened.get() && logStreamReader.hasNext() && !inExportingPhase) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      onEventRead(currentEvent);
+
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    currentEvent.readMetadata(skippedRecordMetadata);
+    metrics.eventSkipped(container.getId(), skippedRecordMetadata.getValueType());
+
+    container.updatePositionOnSkipIfUpToDate(currentEvent.getPosition());
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  onFailure();
+                } else {
+                  metrics.eventExported(
+                      container.getId(), recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private void onEventRead(final LoggedEvent event) {
+    readBytes += event.getLength();
+
+    if (unacknowledgedPositions.size() == MAX_UNACKNOWLEDGED_CHECKPOINTS) {
+      removeEverySecond(unacknowledgedPositions);
+      removeEverySecond(unacknowledgedReadBytes);
+    }
+    unacknowledgedPositions.addLong(event.getPosition());
+    unacknowledgedReadBytes.addLong(readBytes);
+  }
+
+  private void updateLagMetrics() {
+    final long acknowledgedPosition = container.getPosition();
+
+    int acknowledged = 0;
+    while (acknowledged < unacknowledgedPositions.size()
+        && unacknowledgedPositions.getLong(acknowledged) <= acknowledgedPosition) {
+      acknowledgedBytes = unacknowledgedReadBytes.getLong(acknowledged);
+      acknowledged++;
+    }
+    removeFirst(unacknowledgedPositions, acknowledged);
+    removeFirst(unacknowledgedReadBytes, acknowledged);
+
+    metrics.setLagBytes(container.getId(), readBytes - acknowledgedBytes);
+
+    actor.runOnCompletion(
+        logStream.getCommitPositionAsync(),
+        (commitPosition, error) -> {
+          if (error == null) {
+            // the positions of the records are consecutive
+            final long lag = Math.max(0, commitPosition - container.getPosition());
+            metrics.setLagRecords(container.getId(), lag);
+          }
+        });
+  }
+
+  private static void removeFirst(final LongArrayList list, final int count) {
+    if (count == 0) {
+      return;
+    }
+
+    final int remaining = list.size() - count;
+    for (int i = 0; i < remaining; i++) {
+      list.setLong(i, list.getLong(count + i));
+    }
+    for (int i = list.size() - 1; i >= remaining; i--) {
+      list.fastUnorderedRemove(i);
+    }
+  }
+
+  private static void removeEverySecond(final LongArrayList list) {
+    // keeps every second checkpoint, counted back from the latest one
+    final int size = list.size();
+    int kept = 0;
+    for (int i = (size - 1) % 2; i < size; i += 2) {
+      list.setLong(kept++, list.getLong(i));
+    }
+    for (int i = size - 1; i >= kept; i--) {
+      list.fastUnorderedRemove(i);
+    }
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+
+  private static final class RecordExporter {
+
+    private final RecordValues recordValues = new RecordValues();
+    private final RecordMetadata rawMetadata = new RecordMetadata();
+    private final ExporterContainer container;
+    private final TypedEventImpl typedEvent;
+    private final ExporterMetrics exporterMetrics;
+
+    private boolean shouldExport;
+
+    RecordExporter(
+        final ExporterMetrics exporterMetrics,
+        final ExporterContainer container,
+        final int partitionId) {
+      this.container = container;
+      typedEvent = new TypedEventImpl(partitionId);
+      this.exporterMetrics = exporterMetrics;
+    }
+
+    void wrap(final LoggedEvent rawEvent) {
+      rawEvent.readMetadata(rawMetadata);
+
+      final UnifiedRecordValue recordValue =
+          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+
+      shouldExport = recordValue != null;
+      if (shouldExport) {
+        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+      }
+    }
+
+    boolean export() {
+      if (!shouldExport) {
+        return true;
+      }
+
+      // current error handling strategy is simply to repeat forever until the record can be
+      // successfully exported.
+      if (container.exportRecord(rawMetadata, typedEvent)) {
+        shouldExport = false;
+        exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+        return true;
+      }
+
+      return false;
+    }
+
+    TypedEventImpl getTypedEvent() {
+      return typedEvent;
+    }
+  }
+
+  private static final class ExporterEventFilter implements EventFilter {
+
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordFilter recordFilter;
+
+    ExporterEventFilter(final RecordFilter recordFilter) {
+      this.recordFilter = recordFilter;
+    }
+
+    @Override
+    public boolean applies(final LoggedEvent event) {
+      event.readMetadata(metadata);
+
+      return recordFilter.acceptType(metadata.getRecordType())
+          && recordFilter.acceptValue(metadata.getValueType());
+    }
+
+    @Override
+    public String toString() {
+      return "ExporterEventFilter{" + "recordFilter=" + recordFilter + '}';
+    }
+  }
+}
@@ -18,7 +18,7 @@ public final class ExporterMetrics {
           .namespace("zeebe")
           .name("exporter_events_total")
           .help("Number of events processed by exporter")
-          .labelNames("action", "partition", "valueType")
+          .labelNames("action", "partition", "valueType", "exporter")
           .register();
 
   private static final Gauge LAST_EXPORTED_POSITION =
@@ -37,22 +37,38 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge LAG_RECORDS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_records")
+          .help("The number of committed records which were not acknowledged by the exporter yet.")
+          .labelNames("exporter", "partition")
+          .register();
+
+  private static final Gauge LAG_BYTES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_bytes")
+          .help("The size of the records which were read but not acknowledged by the exporter yet.")
+          .labelNames("exporter", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
   }
 
-  private void event(final String action, final ValueType valueType) {
-    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name()).inc();
+  private void event(final String action, final String exporter, final ValueType valueType) {
+    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name(), exporter).inc();
   }
 
-  public void eventExported(final ValueType valueType) {
-    event("exported", valueType);
+  public void eventExported(final String exporter, final ValueType valueType) {
+    event("exported", exporter, valueType);
   }
 
-  public void eventSkipped(final ValueType valueType) {
-    event("skipped", valueType);
+  public void eventSkipped(final String exporter, final ValueType valueType) {
+    event("skipped", exporter, valueType);
   }
 
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
@@ -62,4 +78,12 @@ public final class ExporterMetrics {
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
+
+  public void setLagRecords(final String exporter, final long records) {
+    LAG_RECORDS.labels(exporter, partitionIdLabel).set(records);
+  }
+
+  public void setLagBytes(final String exporter, final long bytes) {
+    LAG_BYTES.labels(exporter, partitionIdLabel).set(bytes);
+  }
 }
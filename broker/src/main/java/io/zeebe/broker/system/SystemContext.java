@@ -33,6 +33,14 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String SNAPSHOT_CHUNK_SIZE_ERROR_MSG =
+      "Expected to have a snapshot chunk size which is positive and smaller then '%d', but was '%s'.";
+  private static final String MAX_PROCESSING_BATCH_SIZE_ERROR_MSG =
+      "Expected to have a processing batch size maximum which is positive, but was '%d'.";
+  private static final String MAX_TIMERS_PER_TICK_ERROR_MSG =
+      "Expected to have a maximum of timers per tick which is positive, but was '%d'.";
+  private static final String WORKFLOW_CACHE_CAPACITY_ERROR_MSG =
+      "Expected to have a workflow cache capacity which is positive, but was '%d'.";
   private static final String REPLICATION_WITH_DISABLED_FLUSH_WARNING =
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
@@ -86,6 +94,30 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final int maxProcessingBatchSize = experimental.getMaxProcessingBatchSize();
+    if (maxProcessingBatchSize < 1) {
+      throw new IllegalArgumentException(
+          String.format(MAX_PROCESSING_BATCH_SIZE_ERROR_MSG, maxProcessingBatchSize));
+    }
+
+    final int maxTimersPerTick = experimental.getMaxTimersPerTick();
+    if (maxTimersPerTick < 1) {
+      throw new IllegalArgumentException(
+          String.format(MAX_TIMERS_PER_TICK_ERROR_MSG, maxTimersPerTick));
+    }
+
+    final int workflowCacheCapacity = experimental.getWorkflowCacheCapacity();
+    if (workflowCacheCapacity < 1) {
+      throw new IllegalArgumentException(
+          String.format(WORKFLOW_CACHE_CAPACITY_ERROR_MSG, workflowCacheCapacity));
+    }
+
+    final var snapshotChunkSize = data.getSnapshotChunkSize();
+    if (snapshotChunkSize.toBytes() <= 0 || snapshotChunkSize.toBytes() >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(SNAPSHOT_CHUNK_SIZE_ERROR_MSG, Integer.MAX_VALUE, snapshotChunkSize));
+    }
+
     final int replicationFactor = cluster.getReplicationFactor();
     if (replicationFactor < 1 || replicationFactor > clusterSize) {
       throw new IllegalArgumentException(
@@ -9,6 +9,7 @@ package io.zeebe.broker.system.configuration;
 
 import static io.zeebe.util.StringUtil.LIST_SANITIZER;
 
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.storage.StorageLevel;
 import io.zeebe.broker.Loggers;
 import java.io.File;
@@ -26,6 +27,7 @@ public final class DataCfg implements ConfigurationEntry {
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
 
   private static final DataSize DEFAULT_DATA_SIZE = DataSize.ofMegabytes(512);
+  private static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofMegabytes(4);
   private static final boolean DEFAULT_DISK_USAGE_MONITORING_ENABLED = true;
   private static final double DEFAULT_DISK_USAGE_REPLICATION_WATERMARK = 0.99;
   private static final double DEFAULT_DISK_USAGE_COMMAND_WATERMARK = 0.97;
@@ -39,6 +41,10 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(15);
 
+  private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+
+  private SnapshotChunkCompression snapshotCompression = SnapshotChunkCompression.NONE;
+
   private int logIndexDensity = 100;
 
   private boolean useMmap = false;
@@ -89,6 +95,22 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public DataSize getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final DataSize snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  public SnapshotChunkCompression getSnapshotCompression() {
+    return snapshotCompression;
+  }
+
+  public void setSnapshotCompression(final SnapshotChunkCompression snapshotCompression) {
+    this.snapshotCompression = snapshotCompression;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -168,6 +190,10 @@ public final class DataCfg implements ConfigurationEntry {
         + logSegmentSize
         + ", snapshotPeriod="
         + snapshotPeriod
+        + ", snapshotChunkSize="
+        + snapshotChunkSize
+        + ", snapshotCompression="
+        + snapshotCompression
         + ", logIndexDensity="
         + logIndexDensity
         + ", useMmap="
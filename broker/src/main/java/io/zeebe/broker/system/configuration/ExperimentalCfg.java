@@ -7,6 +7,7 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -20,12 +21,26 @@ public class ExperimentalCfg {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final Duration DEFAULT_RAFT_FLUSH_DELAY = Duration.ZERO;
+  public static final DataSize DEFAULT_MAX_UNFLUSHED_RAFT_BYTES = DataSize.ofMegabytes(4);
+  public static final int DEFAULT_MAX_PROCESSING_BATCH_SIZE = 1;
+  public static final Duration DEFAULT_MAX_PROCESSING_BATCH_DURATION = Duration.ofMillis(10);
+  public static final int DEFAULT_MAX_TIMERS_PER_TICK = 1_000;
+  public static final boolean DEFAULT_USE_ACTIVATABLE_JOBS_INDEX = true;
+  public static final int DEFAULT_WORKFLOW_CACHE_CAPACITY = 512;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private Duration raftFlushDelay = DEFAULT_RAFT_FLUSH_DELAY;
+  private DataSize maxUnflushedRaftBytes = DEFAULT_MAX_UNFLUSHED_RAFT_BYTES;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private int maxProcessingBatchSize = DEFAULT_MAX_PROCESSING_BATCH_SIZE;
+  private Duration maxProcessingBatchDuration = DEFAULT_MAX_PROCESSING_BATCH_DURATION;
+  private int maxTimersPerTick = DEFAULT_MAX_TIMERS_PER_TICK;
+  private boolean useActivatableJobsIndex = DEFAULT_USE_ACTIVATABLE_JOBS_INDEX;
+  private int workflowCacheCapacity = DEFAULT_WORKFLOW_CACHE_CAPACITY;
 
   public int getMaxAppendsPerFollower() {
     return maxAppendsPerFollower;
@@ -55,6 +70,28 @@ public class ExperimentalCfg {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public Duration getRaftFlushDelay() {
+    return raftFlushDelay;
+  }
+
+  public void setRaftFlushDelay(final Duration raftFlushDelay) {
+    this.raftFlushDelay = raftFlushDelay;
+  }
+
+  public DataSize getMaxUnflushedRaftBytes() {
+    return maxUnflushedRaftBytes;
+  }
+
+  public void setMaxUnflushedRaftBytes(final DataSize maxUnflushedRaftBytes) {
+    this.maxUnflushedRaftBytes = maxUnflushedRaftBytes;
+  }
+
+  public long getMaxUnflushedRaftBytesInBytes() {
+    return Optional.ofNullable(maxUnflushedRaftBytes)
+        .orElse(DEFAULT_MAX_UNFLUSHED_RAFT_BYTES)
+        .toBytes();
+  }
+
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
@@ -63,6 +100,46 @@ public class ExperimentalCfg {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public int getMaxProcessingBatchSize() {
+    return maxProcessingBatchSize;
+  }
+
+  public void setMaxProcessingBatchSize(final int maxProcessingBatchSize) {
+    this.maxProcessingBatchSize = maxProcessingBatchSize;
+  }
+
+  public Duration getMaxProcessingBatchDuration() {
+    return maxProcessingBatchDuration;
+  }
+
+  public void setMaxProcessingBatchDuration(final Duration maxProcessingBatchDuration) {
+    this.maxProcessingBatchDuration = maxProcessingBatchDuration;
+  }
+
+  public int getMaxTimersPerTick() {
+    return maxTimersPerTick;
+  }
+
+  public void setMaxTimersPerTick(final int maxTimersPerTick) {
+    this.maxTimersPerTick = maxTimersPerTick;
+  }
+
+  public boolean isUseActivatableJobsIndex() {
+    return useActivatableJobsIndex;
+  }
+
+  public void setUseActivatableJobsIndex(final boolean useActivatableJobsIndex) {
+    this.useActivatableJobsIndex = useActivatableJobsIndex;
+  }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
+
+  public void setWorkflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -72,8 +149,22 @@ public class ExperimentalCfg {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", raftFlushDelay="
+        + raftFlushDelay
+        + ", maxUnflushedRaftBytes="
+        + maxUnflushedRaftBytes
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", maxProcessingBatchSize="
+        + maxProcessingBatchSize
+        + ", maxProcessingBatchDuration="
+        + maxProcessingBatchDuration
+        + ", maxTimersPerTick="
+        + maxTimersPerTick
+        + ", useActivatableJobsIndex="
+        + useActivatableJobsIndex
+        + ", workflowCacheCapacity="
+        + workflowCacheCapacity
         + '}';
   }
 }
@@ -7,14 +7,24 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
 
+  private static final DataSize DEFAULT_BLOCK_CACHE_SIZE =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_BLOCK_CACHE_SIZE);
+
   private Properties columnFamilyOptions;
+  private DataSize blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
+  private Map<String, ColumnFamilyProfile> columnFamilyProfiles = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -26,6 +36,15 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    // the column family names may have been provided as environment variables as well
+    final var profiles = new HashMap<String, ColumnFamilyProfile>();
+    columnFamilyProfiles.forEach(
+        (name, profile) ->
+            profiles.put(
+                RocksDBColumnFamilyOption.replaceAllDotCharsWithUnderscore(name).toLowerCase(),
+                profile));
+    columnFamilyProfiles = profiles;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -44,6 +63,43 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public DataSize getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public void setBlockCacheSize(final DataSize blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(final Map<String, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
+  public RocksDbConfiguration createRocksDbConfiguration() {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setColumnFamilyOptions(columnFamilyOptions)
+            .setBlockCacheSize(blockCacheSize.toBytes());
+    columnFamilyProfiles.forEach(configuration::setColumnFamilyProfile);
+    return configuration;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbCfg{"
+        + "columnFamilyOptions="
+        + columnFamilyOptions
+        + ", blockCacheSize="
+        + blockCacheSize
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
+        + '}';
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
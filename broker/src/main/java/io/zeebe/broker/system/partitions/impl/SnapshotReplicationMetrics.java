@@ -7,9 +7,14 @@
  */
 package io.zeebe.broker.system.partitions.impl;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
-/** Snapshot replication metrics to be used on the consumer side */
+/**
+ * Snapshot replication metrics; the count and duration are observed on the consumer side, the sent
+ * bytes and their compression on the producer side
+ */
 public class SnapshotReplicationMetrics {
   private static final String NAMESPACE = "zeebe";
   private static final String PARTITION_LABEL_NAME = "partition";
@@ -28,6 +33,27 @@ public class SnapshotReplicationMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter RAW_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Size of the sent snapshot chunk contents before compression in bytes")
+          .name("snapshot_replication_raw_bytes")
+          .register();
+  private static final Counter WIRE_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Size of the sent snapshot chunk contents after compression in bytes")
+          .name("snapshot_replication_wire_bytes")
+          .register();
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Time spent to compress a sent snapshot chunk")
+          .name("snapshot_replication_compression_time_in_s")
+          .register();
 
   private final String partitionId;
 
@@ -50,4 +76,11 @@ public class SnapshotReplicationMetrics {
   public void observeDuration(final long durationMillis) {
     DURATION.labels(partitionId).set(durationMillis);
   }
+
+  public void observeSentChunk(
+      final long rawBytes, final long wireBytes, final long compressionTimeNanos) {
+    RAW_BYTES.labels(partitionId).inc(rawBytes);
+    WIRE_BYTES.labels(partitionId).inc(wireBytes);
+    COMPRESSION_TIME.labels(partitionId).observe(compressionTimeNanos / 1_000_000_000d);
+  }
 }
@@ -9,6 +9,7 @@ package io.zeebe.broker.system.partitions.impl;
 
 import static io.zeebe.util.sched.Actor.buildActorName;
 
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.zeebe.broker.system.partitions.SnapshotReplication;
@@ -33,14 +34,21 @@ public final class StateReplication implements SnapshotReplication {
   private final DirectBuffer readBuffer = new UnsafeBuffer(0, 0);
   private final PartitionMessagingService messagingService;
   private final String threadName;
+  private final SnapshotChunkCompression compression;
+  private final SnapshotReplicationMetrics metrics;
 
   private ExecutorService executorService;
 
   public StateReplication(
-      final PartitionMessagingService messagingService, final int partitionId, final int nodeId) {
+      final PartitionMessagingService messagingService,
+      final int partitionId,
+      final int nodeId,
+      final SnapshotChunkCompression compression) {
     this.messagingService = messagingService;
+    this.compression = compression;
     replicationTopic = String.format(REPLICATION_TOPIC_FORMAT, partitionId);
     threadName = buildActorName(nodeId, "StateReplication-" + partitionId);
+    metrics = new SnapshotReplicationMetrics(Integer.toString(partitionId));
   }
 
   @Override
@@ -84,7 +92,13 @@ public final class StateReplication implements SnapshotReplication {
   }
 
   private ByteBuffer serializeSnapshotChunk(final SnapshotChunk chunk) {
-    return new SnapshotChunkImpl(chunk).toByteBuffer();
+    final long startTime = System.nanoTime();
+    final var compressedChunk = new SnapshotChunkImpl(chunk, compression);
+    metrics.observeSentChunk(
+        compressedChunk.getContentLength(),
+        compressedChunk.getTransferredContentLength(),
+        System.nanoTime() - startTime);
+    return compressedChunk.toByteBuffer();
   }
 
   private SnapshotChunk deserializeChunk(final ByteBuffer buffer) {
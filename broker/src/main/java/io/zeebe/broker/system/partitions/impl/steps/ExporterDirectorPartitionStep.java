@@ -13,6 +13,7 @@ import io.zeebe.broker.system.partitions.PartitionContext;
 import io.zeebe.broker.system.partitions.PartitionStep;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
 
 public class ExporterDirectorPartitionStep implements PartitionStep {
   private static final int EXPORTER_PROCESSOR_ID = 1003;
@@ -34,11 +35,25 @@ public class ExporterDirectorPartitionStep implements PartitionStep {
 
     final ExporterDirector director = new ExporterDirector(exporterCtx);
     context.setExporterDirector(director);
-    return director.startAsync(context.getScheduler());
+
+    final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+    director
+        .startAsync(context.getScheduler())
+        .onComplete(
+            (nothing, error) -> {
+              if (error == null) {
+                context.getComponentHealthMonitor().registerComponent(director.getName(), director);
+                future.complete(null);
+              } else {
+                future.completeExceptionally(error);
+              }
+            });
+    return future;
   }
 
   @Override
   public ActorFuture<Void> close(final PartitionContext context) {
+    context.getComponentHealthMonitor().removeComponent(context.getExporterDirector().getName());
     final ActorFuture<Void> future = context.getExporterDirector().closeAsync();
     context.setExporterDirector(null);
     return future;
@@ -23,7 +23,10 @@ public class SnapshotReplicationPartitionStep implements PartitionStep {
     final SnapshotReplication replication =
         shouldReplicateSnapshots(context)
             ? new StateReplication(
-                context.getMessagingService(), context.getPartitionId(), context.getNodeId())
+                context.getMessagingService(),
+                context.getPartitionId(),
+                context.getNodeId(),
+                context.getBrokerCfg().getData().getSnapshotCompression())
             : new NoneSnapshotReplication();
 
     context.setSnapshotReplication(replication);
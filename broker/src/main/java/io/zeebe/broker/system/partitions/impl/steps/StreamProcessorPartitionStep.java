@@ -67,6 +67,12 @@ public class StreamProcessorPartitionStep implements PartitionStep {
         .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
         .detectReprocessingInconsistency(
             state.getBrokerCfg().getExperimental().isDetectReprocessingInconsistency())
+        .maxProcessingBatchSize(state.getBrokerCfg().getExperimental().getMaxProcessingBatchSize())
+        .maxProcessingBatchDuration(
+            state.getBrokerCfg().getExperimental().getMaxProcessingBatchDuration())
+        .maxTimersPerTick(state.getBrokerCfg().getExperimental().getMaxTimersPerTick())
+        .useActivatableJobsIndex(state.getBrokerCfg().getExperimental().isUseActivatableJobsIndex())
+        .workflowCacheCapacity(state.getBrokerCfg().getExperimental().getWorkflowCacheCapacity())
         .onProcessedListener(
             state.getCommandApiService().getOnProcessedListener(state.getPartitionId()))
         .streamProcessorFactory(
@@ -29,40 +29,71 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.sched.Actor;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Queue;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
-import org.agrona.collections.Int2ObjectHashMap;
-import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
 
-final class CommandApiRequestHandler implements RequestHandler {
+/**
+ * Handles the command requests of a single partition which this broker is leading. Each leading
+ * partition has its own handler actor, with its own decoders, request limiter and log stream
+ * writer, so that the requests of different partitions are decoded and written concurrently.
+ *
+ * <p>The transport thread only copies a request and hands it over to the actor, which decodes it
+ * and applies the request limiter. To keep the actor's queue bounded when the partition can't keep
+ * up, the transport rejects a request directly if too many requests are already pending.
+ */
+final class CommandApiRequestHandler extends Actor implements RequestHandler {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+  private static final int REQUEST_BUFFER_POOL_SIZE = 128;
+  private static final int MAX_PENDING_REQUESTS = 4096;
 
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder executeCommandRequestDecoder =
       new ExecuteCommandRequestDecoder();
-  private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
-  private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
-  private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
-      new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
 
   private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
 
+  // used by the transport only, before the request is handed over to the actor
+  private final ErrorResponseWriter rejectionResponseWriter = new ErrorResponseWriter();
+  private final ManyToManyConcurrentArrayQueue<ExpandableArrayBuffer> requestBufferPool =
+      new ManyToManyConcurrentArrayQueue<>(REQUEST_BUFFER_POOL_SIZE);
+  private final AtomicInteger pendingRequests = new AtomicInteger();
+
   private final Map<ValueType, UnpackedObject> recordsByType = new EnumMap<>(ValueType.class);
   private final BackpressureMetrics metrics;
-  private boolean isDiskSpaceAvailable = true;
-
-  CommandApiRequestHandler() {
+  private final int partitionId;
+  private final LogStreamRecordWriter logStreamWriter;
+  private final RequestLimiter<Intent> limiter;
+  private final String actorName;
+  private boolean isDiskSpaceAvailable;
+
+  CommandApiRequestHandler(
+      final int nodeId,
+      final int partitionId,
+      final LogStreamRecordWriter logStreamWriter,
+      final RequestLimiter<Intent> limiter,
+      final boolean isDiskSpaceAvailable) {
+    this.partitionId = partitionId;
+    this.logStreamWriter = logStreamWriter;
+    this.limiter = limiter;
+    this.isDiskSpaceAvailable = isDiskSpaceAvailable;
     metrics = new BackpressureMetrics();
+    actorName = buildActorName(nodeId, "CommandApiRequestHandler-" + partitionId);
     initEventTypeMap();
   }
 
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
   private void initEventTypeMap() {
     recordsByType.put(ValueType.DEPLOYMENT, new DeploymentRecord());
     recordsByType.put(ValueType.JOB, new JobRecord());
@@ -76,7 +107,6 @@ final class CommandApiRequestHandler implements RequestHandler {
 
   private void handleExecuteCommandRequest(
       final ServerOutput output,
-      final int partitionId,
       final long requestId,
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
@@ -101,15 +131,6 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     final long key = executeCommandRequestDecoder.key();
 
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
-
-    if (logStreamWriter == null) {
-      errorResponseWriter
-          .partitionLeaderMismatch(partitionId)
-          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
-    }
-
     final ValueType eventType = executeCommandRequestDecoder.valueType();
     final short intent = executeCommandRequestDecoder.intent();
     final UnpackedObject event = recordsByType.get(eventType);
@@ -145,7 +166,6 @@ final class CommandApiRequestHandler implements RequestHandler {
     eventMetadata.valueType(eventType);
 
     metrics.receivedRequest(partitionId);
-    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
     if (!limiter.tryAcquire(partitionId, requestId, eventIntent)) {
       metrics.dropped(partitionId);
       LOG.trace(
@@ -160,7 +180,7 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      written = writeCommand(eventMetadata, buffer, key, eventOffset, eventLength);
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
@@ -174,7 +194,6 @@ final class CommandApiRequestHandler implements RequestHandler {
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
       final long key,
-      final LogStreamRecordWriter logStreamWriter,
       final int eventOffset,
       final int eventLength) {
     logStreamWriter.reset();
@@ -194,35 +213,12 @@ final class CommandApiRequestHandler implements RequestHandler {
     return eventPosition >= 0;
   }
 
-  void addPartition(
-      final int partitionId,
-      final LogStreamRecordWriter logStreamWriter,
-      final RequestLimiter<Intent> limiter) {
-    cmdQueue.add(
-        () -> {
-          leadingStreams.put(partitionId, logStreamWriter);
-          partitionLimiters.put(partitionId, limiter);
-        });
-  }
-
-  void removePartition(final int partitionId) {
-    cmdQueue.add(
-        () -> {
-          leadingStreams.remove(partitionId);
-          partitionLimiters.remove(partitionId);
-        });
-  }
-
   void onDiskSpaceNotAvailable() {
-    cmdQueue.add(
-        () -> {
-          isDiskSpaceAvailable = false;
-          LOG.debug("Broker is out of disk space. All client requests will be rejected");
-        });
+    actor.run(() -> isDiskSpaceAvailable = false);
   }
 
   void onDiskSpaceAvailable() {
-    cmdQueue.add(() -> isDiskSpaceAvailable = true);
+    actor.run(() -> isDiskSpaceAvailable = true);
   }
 
   @Override
@@ -233,8 +229,45 @@ final class CommandApiRequestHandler implements RequestHandler {
       final DirectBuffer buffer,
       final int offset,
       final int length) {
-    drainCommandQueue();
+    if (pendingRequests.incrementAndGet() > MAX_PENDING_REQUESTS) {
+      pendingRequests.decrementAndGet();
+      metrics.receivedRequest(partitionId);
+      metrics.dropped(partitionId);
+      LOG.trace(
+          "Partition-{} has {} pending requests, dropping request {} from gateway",
+          partitionId,
+          MAX_PENDING_REQUESTS,
+          requestId);
+      rejectionResponseWriter.resourceExhausted().tryWriteResponse(output, partitionId, requestId);
+      return;
+    }
+
+    // the request buffer is reused by the transport, so the request is copied before it is handed
+    // over to the actor
+    final ExpandableArrayBuffer requestBuffer = takeRequestBuffer();
+    requestBuffer.putBytes(0, buffer, offset, length);
+    actor.run(
+        () -> {
+          try {
+            handleRequest(output, requestId, requestBuffer, 0, length);
+          } finally {
+            pendingRequests.decrementAndGet();
+            requestBufferPool.offer(requestBuffer);
+          }
+        });
+  }
+
+  private ExpandableArrayBuffer takeRequestBuffer() {
+    final ExpandableArrayBuffer requestBuffer = requestBufferPool.poll();
+    return requestBuffer != null ? requestBuffer : new ExpandableArrayBuffer();
+  }
 
+  private void handleRequest(
+      final ServerOutput output,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
@@ -253,8 +286,7 @@ final class CommandApiRequestHandler implements RequestHandler {
     eventMetadata.requestStreamId(partitionId);
 
     if (templateId == ExecuteCommandRequestDecoder.TEMPLATE_ID) {
-      handleExecuteCommandRequest(
-          output, partitionId, requestId, eventMetadata, buffer, offset, length);
+      handleExecuteCommandRequest(output, requestId, eventMetadata, buffer, offset, length);
       return;
     }
 
@@ -262,13 +294,4 @@ final class CommandApiRequestHandler implements RequestHandler {
         .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
         .tryWriteResponse(output, partitionId, requestId);
   }
-
-  private void drainCommandQueue() {
-    while (!cmdQueue.isEmpty()) {
-      final Runnable runnable = cmdQueue.poll();
-      if (runnable != null) {
-        cmdConsumer.accept(runnable);
-      }
-    }
-  }
 }
@@ -20,9 +20,11 @@ import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.function.Consumer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 
 public final class CommandApiService extends Actor
@@ -30,17 +32,23 @@ public final class CommandApiService extends Actor
 
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
-  private final CommandApiRequestHandler requestHandler;
+  private final ActorScheduler scheduler;
+  private final Int2ObjectHashMap<CommandApiRequestHandler> requestHandlers =
+      new Int2ObjectHashMap<>();
   private final IntHashSet leadPartitions = new IntHashSet();
+  private final int nodeId;
   private final String actorName;
+  private boolean isDiskSpaceAvailable = true;
 
   public CommandApiService(
       final ServerTransport serverTransport,
+      final ActorScheduler scheduler,
       final BrokerInfo localBroker,
       final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
+    this.scheduler = scheduler;
     this.limiter = limiter;
-    requestHandler = new CommandApiRequestHandler();
+    nodeId = localBroker.getNodeId();
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
 
@@ -55,15 +63,14 @@ public final class CommandApiService extends Actor
       removeForPartitionId(leadPartition);
     }
     leadPartitions.clear();
+
+    requestHandlers.values().forEach(CommandApiRequestHandler::closeAsync);
+    requestHandlers.clear();
   }
 
   @Override
   public ActorFuture<Void> onBecomingFollower(final int partitionId, final long term) {
-    return actor.call(
-        () -> {
-          requestHandler.removePartition(partitionId);
-          cleanLeadingPartition(partitionId);
-        });
+    return actor.call(() -> cleanLeadingPartition(partitionId));
   }
 
   @Override
@@ -80,11 +87,15 @@ public final class CommandApiService extends Actor
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-
                       final var requestLimiter = limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, requestHandler);
-                      future.complete(null);
+                      final var requestHandler =
+                          new CommandApiRequestHandler(
+                              nodeId,
+                              partitionId,
+                              recordWriter,
+                              requestLimiter,
+                              isDiskSpaceAvailable);
+                      startRequestHandler(partitionId, requestHandler, future);
                     } else {
                       Loggers.SYSTEM_LOGGER.error(
                           "Error on retrieving write buffer from log stream {}",
@@ -97,6 +108,38 @@ public final class CommandApiService extends Actor
     return future;
   }
 
+  private void startRequestHandler(
+      final int partitionId,
+      final CommandApiRequestHandler requestHandler,
+      final CompletableActorFuture<Void> future) {
+    actor.runOnCompletion(
+        scheduler.submitActor(requestHandler),
+        (nothing, error) -> {
+          if (error != null) {
+            Loggers.SYSTEM_LOGGER.error(
+                "Error on starting command API request handler for partition {}",
+                partitionId,
+                error);
+            future.completeExceptionally(error);
+            return;
+          }
+
+          if (!leadPartitions.contains(partitionId)) {
+            // the partition became follower while the request handler was started
+            requestHandler.closeAsync();
+            future.complete(null);
+            return;
+          }
+
+          final var previousHandler = requestHandlers.put(partitionId, requestHandler);
+          if (previousHandler != null) {
+            previousHandler.closeAsync();
+          }
+          serverTransport.subscribe(partitionId, requestHandler);
+          future.complete(null);
+        });
+  }
+
   private void cleanLeadingPartition(final int partitionId) {
     leadPartitions.remove(partitionId);
     removeForPartitionId(partitionId);
@@ -105,6 +148,11 @@ public final class CommandApiService extends Actor
   private void removeForPartitionId(final int partitionId) {
     limiter.removePartition(partitionId);
     serverTransport.unsubscribe(partitionId);
+
+    final var requestHandler = requestHandlers.remove(partitionId);
+    if (requestHandler != null) {
+      requestHandler.closeAsync();
+    }
   }
 
   public CommandResponseWriter newCommandResponseWriter() {
@@ -122,11 +170,21 @@ public final class CommandApiService extends Actor
 
   @Override
   public void onDiskSpaceNotAvailable() {
-    actor.run(requestHandler::onDiskSpaceNotAvailable);
+    actor.run(
+        () -> {
+          isDiskSpaceAvailable = false;
+          requestHandlers.values().forEach(CommandApiRequestHandler::onDiskSpaceNotAvailable);
+          Loggers.TRANSPORT_LOGGER.debug(
+              "Broker is out of disk space. All client requests will be rejected");
+        });
   }
 
   @Override
   public void onDiskSpaceAvailable() {
-    actor.run(requestHandler::onDiskSpaceAvailable);
+    actor.run(
+        () -> {
+          isDiskSpaceAvailable = true;
+          requestHandlers.values().forEach(CommandApiRequestHandler::onDiskSpaceAvailable);
+        });
   }
 }
@@ -16,10 +16,12 @@ import io.atomix.storage.StorageLevel;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.util.Environment;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.springframework.util.unit.DataSize;
 
 public final class AtomixFactoryTest {
   @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
@@ -90,6 +92,24 @@ public final class AtomixFactoryTest {
     assertThat(config.getStorageConfig().shouldFlushExplicitly()).isTrue();
   }
 
+  @Test
+  public void shouldConfigureRaftFlush() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getExperimental().setRaftFlushDelay(Duration.ofMillis(2));
+    brokerConfig.getExperimental().setMaxUnflushedRaftBytes(DataSize.ofMegabytes(1));
+
+    // when
+    final var atomix =
+        AtomixFactory.fromConfiguration(brokerConfig, new FileBasedSnapshotStoreFactory());
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().getFlushDelay()).isEqualTo(Duration.ofMillis(2));
+    assertThat(config.getStorageConfig().getMaxUnflushedBytes())
+        .isEqualTo(DataSize.ofMegabytes(1).toBytes());
+  }
+
   private RaftPartitionGroup getPartitionGroup(final Atomix atomix) {
     return (RaftPartitionGroup)
         atomix.getPartitionService().getPartitionGroup(AtomixFactory.GROUP_NAME);
@@ -31,6 +31,7 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.intent.IncidentIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.health.HealthStatus;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -358,6 +359,63 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldExportToOtherExportersWhileOneExporterIsFailing() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldBeHealthyIfExportersAreOpened() {
+    // given
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 1);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition);
+    assertThat(rule.getDirector().getHealthStatus()).isEqualTo(HealthStatus.HEALTHY);
+  }
+
+  @Test
+  public void shouldBeUnhealthyIfExporterFailsToOpen() {
+    // given
+    exporters
+        .get(0)
+        .onOpen(
+            c -> {
+              throw new RuntimeException("Open failed (expected)");
+            });
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    waitUntil(() -> rule.getDirector().getHealthStatus() == HealthStatus.UNHEALTHY);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
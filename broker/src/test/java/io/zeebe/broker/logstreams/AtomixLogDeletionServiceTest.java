@@ -16,6 +16,7 @@ import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.zeebe.logstreams.util.AtomixLogStorageRule;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStore;
+import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.snapshots.broker.impl.SnapshotMetrics;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.IOException;
@@ -138,7 +139,8 @@ public final class AtomixLogDeletionServiceTest {
               new FileBasedSnapshotStore(
                   new SnapshotMetrics("1"),
                   folder.newFolder("runtime").toPath(),
-                  folder.newFolder("snapshots").toPath()));
+                  folder.newFolder("snapshots").toPath(),
+                  FileBasedSnapshotStoreFactory.DEFAULT_MAX_CHUNK_SIZE));
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
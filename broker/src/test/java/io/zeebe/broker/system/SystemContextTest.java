@@ -147,6 +147,76 @@ public final class SystemContextTest {
     initSystemContext(brokerCfg);
   }
 
+  @Test
+  public void shouldThrowExceptionIfSnapshotChunkSizeIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getData().setSnapshotChunkSize(DataSize.ofBytes(0));
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a snapshot chunk size which is positive and smaller then '2147483647', but was '0B'.");
+
+    initSystemContext(brokerCfg);
+  }
+
+  @Test
+  public void shouldThrowExceptionIfSnapshotChunkSizeIsTooLarge() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getData().setSnapshotChunkSize(DataSize.of(3, DataUnit.GIGABYTES));
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a snapshot chunk size which is positive and smaller then '2147483647', but was '3221225472B'.");
+
+    initSystemContext(brokerCfg);
+  }
+
+  @Test
+  public void shouldThrowExceptionIfMaxProcessingBatchSizeIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxProcessingBatchSize(0);
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a processing batch size maximum which is positive, but was '0'.");
+
+    initSystemContext(brokerCfg);
+  }
+
+  @Test
+  public void shouldThrowExceptionIfMaxTimersPerTickIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxTimersPerTick(0);
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a maximum of timers per tick which is positive, but was '0'.");
+
+    initSystemContext(brokerCfg);
+  }
+
+  @Test
+  public void shouldThrowExceptionIfWorkflowCacheCapacityIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setWorkflowCacheCapacity(0);
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a workflow cache capacity which is positive, but was '0'.");
+
+    initSystemContext(brokerCfg);
+  }
+
   @Test
   public void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.zeebe.broker.exporter.debug.DebugLogExporter;
 import io.zeebe.broker.exporter.metrics.MetricsExporter;
 import io.zeebe.broker.system.configuration.backpressure.BackpressureCfg;
@@ -65,8 +66,20 @@ public final class BrokerCfgTest {
       "zeebe.broker.experimental.detectReprocessingInconsistency";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DISABLEEXPLICITRAFTFLUSH =
       "zeebe.broker.experimental.disableExplicitRaftFlush";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_PROCESSING_BATCH_SIZE =
+      "zeebe.broker.experimental.maxProcessingBatchSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_PROCESSING_BATCH_DURATION =
+      "zeebe.broker.experimental.maxProcessingBatchDuration";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_TIMERS_PER_TICK =
+      "zeebe.broker.experimental.maxTimersPerTick";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_USE_ACTIVATABLE_JOBS_INDEX =
+      "zeebe.broker.experimental.useActivatableJobsIndex";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_WORKFLOW_CACHE_CAPACITY =
+      "zeebe.broker.experimental.workflowCacheCapacity";
 
   private static final String ZEEBE_BROKER_DATA_DIRECTORIES = "zeebe.broker.data.directories";
+  private static final String ZEEBE_BROKER_DATA_SNAPSHOT_COMPRESSION =
+      "zeebe.broker.data.snapshotCompression";
 
   private static final String ZEEBE_BROKER_NETWORK_HOST = "zeebe.broker.network.host";
   private static final String ZEEBE_BROKER_NETWORK_ADVERTISED_HOST =
@@ -363,6 +376,27 @@ public final class BrokerCfgTest {
     assertDirectories("directories", "hello");
   }
 
+  @Test
+  public void shouldNotCompressSnapshotsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // then
+    assertThat(cfg.getData().getSnapshotCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+  }
+
+  @Test
+  public void shouldOverrideSnapshotCompressionViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_DATA_SNAPSHOT_COMPRESSION, "deflate");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // then
+    assertThat(cfg.getData().getSnapshotCompression()).isEqualTo(SnapshotChunkCompression.DEFLATE);
+  }
+
   @Test
   public void shouldReadDefaultSystemClusterConfiguration() {
     assertDefaultSystemClusterConfiguration(
@@ -515,6 +549,73 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.isDisableExplicitRaftFlush()).isTrue();
   }
 
+  @Test
+  public void shouldDisableBatchProcessingPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxProcessingBatchSize()).isEqualTo(1);
+    assertThat(experimentalCfg.getMaxProcessingBatchDuration()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  public void shouldOverrideProcessingBatchViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_PROCESSING_BATCH_SIZE, "32");
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_PROCESSING_BATCH_DURATION, "5ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxProcessingBatchSize()).isEqualTo(32);
+    assertThat(experimentalCfg.getMaxProcessingBatchDuration()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  public void shouldOverrideMaxTimersPerTickViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_TIMERS_PER_TICK, "100");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxTimersPerTick()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldOverrideUseActivatableJobsIndexViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_USE_ACTIVATABLE_JOBS_INDEX, "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isUseActivatableJobsIndex()).isFalse();
+  }
+
+  @Test
+  public void shouldOverrideWorkflowCacheCapacityViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_WORKFLOW_CACHE_CAPACITY, "64");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getWorkflowCacheCapacity()).isEqualTo(64);
+  }
+
   @Test
   public void shouldOverrideAllClusterPropertiesViaEnvironment() {
     // given
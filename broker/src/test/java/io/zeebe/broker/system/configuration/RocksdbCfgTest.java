@@ -9,9 +9,11 @@ package io.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
 
@@ -42,4 +44,46 @@ public final class RocksdbCfgTest {
     final var columnFamilyOptions = rocksdb.getColumnFamilyOptions();
     assertThat(columnFamilyOptions).containsEntry("arena_block_size", "16777216");
   }
+
+  @Test
+  public void shouldSetBlockCacheSizeAndColumnFamilyProfiles() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBlockCacheSize()).isEqualTo(DataSize.ofMegabytes(64));
+    assertThat(rocksdb.getColumnFamilyProfiles())
+        .containsExactly(Map.entry("variables", ColumnFamilyProfile.INDEX));
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.data.rocksdb.columnFamilyProfiles.job.activatable", "blob");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then names should contain underscores
+    assertThat(rocksdb.getColumnFamilyProfiles())
+        .containsEntry("job_activatable", ColumnFamilyProfile.BLOB);
+  }
+
+  @Test
+  public void shouldCreateRocksDbConfiguration() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+
+    // when
+    final var configuration = cfg.getData().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(configuration.getBlockCacheSize()).isEqualTo(DataSize.ofMegabytes(64).toBytes());
+    assertThat(configuration.getColumnFamilyProfile("VARIABLES"))
+        .isEqualTo(ColumnFamilyProfile.INDEX);
+    assertThat(configuration.getColumnFamilyOptions())
+        .containsEntry("write_buffer_size", "67108864");
+  }
 }
@@ -207,5 +207,15 @@ public final class FailingSnapshotChunkReplicationTest {
     public long getSnapshotChecksum() {
       return snapshotChunk.getSnapshotChecksum();
     }
+
+    @Override
+    public long getFileBlockPosition() {
+      return snapshotChunk.getFileBlockPosition();
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return snapshotChunk.getTotalFileSize();
+    }
   }
 }
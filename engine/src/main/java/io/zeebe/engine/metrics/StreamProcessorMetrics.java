@@ -47,6 +47,23 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram RECORDS_PER_TRANSACTION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_records_per_transaction")
+          .help("Number of records which are processed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .labelNames("partition")
+          .register();
+
+  private static final Counter BATCH_ROLLBACKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_rollbacks_total")
+          .help("Number of processing batches which were rolled back and processed one by one")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -83,4 +100,12 @@ public final class StreamProcessorMetrics {
   public void setLastProcessedPosition(final long position) {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
+
+  public void recordsProcessedInTransaction(final int count) {
+    RECORDS_PER_TRANSACTION.labels(partitionIdLabel).observe(count);
+  }
+
+  public void batchRolledBack() {
+    BATCH_ROLLBACKS.labels(partitionIdLabel).inc();
+  }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class WorkflowCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_lookups_total")
+          .help("Number of workflow cache lookups")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_evictions_total")
+          .help("Number of workflows evicted from the workflow cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHED_WORKFLOWS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("workflow_cache_size")
+          .help("Number of workflows in the workflow cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram TRANSFORMATION_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("workflow_cache_transformation_time")
+          .help("Time to read and transform a workflow which is not in the workflow cache")
+          .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1)
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void cacheHit() {
+    LOOKUPS.labels("hit", partitionIdLabel).inc();
+  }
+
+  public void cacheMiss() {
+    LOOKUPS.labels("miss", partitionIdLabel).inc();
+  }
+
+  public void workflowEvicted() {
+    EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void cacheSize(final int size) {
+    CACHED_WORKFLOWS.labels(partitionIdLabel).set(size);
+  }
+
+  public Histogram.Timer startTransformation() {
+    return TRANSFORMATION_TIME.labels(partitionIdLabel).startTimer();
+  }
+}
@@ -80,7 +80,8 @@ public final class EngineProcessors {
             expressionProcessor,
             typedRecordProcessors,
             subscriptionCommandSender,
-            catchEventBehavior);
+            catchEventBehavior,
+            processingContext.getMaxTimersPerTick());
 
     final JobErrorThrownProcessor jobErrorThrownProcessor =
         addJobProcessors(
@@ -111,8 +112,10 @@ public final class EngineProcessors {
       final ExpressionProcessor expressionProcessor,
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
-      final CatchEventBehavior catchEventBehavior) {
-    final DueDateTimerChecker timerChecker = new DueDateTimerChecker(zeebeState.getWorkflowState());
+      final CatchEventBehavior catchEventBehavior,
+      final int maxTimersPerTick) {
+    final DueDateTimerChecker timerChecker =
+        new DueDateTimerChecker(zeebeState.getWorkflowState(), maxTimersPerTick);
     return WorkflowEventProcessors.addWorkflowProcessors(
         zeebeState,
         expressionProcessor,
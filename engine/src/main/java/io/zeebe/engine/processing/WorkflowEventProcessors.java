@@ -139,7 +139,10 @@ public final class WorkflowEventProcessors {
             ValueType.TIMER,
             TimerIntent.TRIGGER,
             new TriggerTimerProcessor(zeebeState, catchEventOutput, expressionProcessor))
-        .onCommand(ValueType.TIMER, TimerIntent.CANCEL, new CancelTimerProcessor(workflowState))
+        .onCommand(
+            ValueType.TIMER,
+            TimerIntent.CANCEL,
+            new CancelTimerProcessor(workflowState, timerChecker))
         .withListener(timerChecker);
   }
 
@@ -93,4 +93,9 @@ public final class TypedStreamWriterProxy implements TypedStreamWriter {
   public long flush() {
     return writer.flush();
   }
+
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return writer.canWriteEventOfLength(eventLength);
+  }
 }
@@ -15,6 +15,7 @@ import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.engine.state.instance.JobState.JobVisitor;
 import io.zeebe.engine.state.instance.VariablesState;
 import io.zeebe.msgpack.value.DocumentValue;
 import io.zeebe.msgpack.value.LongValue;
@@ -29,12 +30,12 @@ import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.value.ErrorType;
 import io.zeebe.util.ByteValue;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -46,7 +47,20 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private final long maxRecordLength;
   private final long maxJobBatchLength;
 
+  // the buffers and records are reused for all activations, the buffers only grow
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+  private final ExpandableArrayBuffer variableNamesBuffer = new ExpandableArrayBuffer();
+  private final List<UnsafeBuffer> variableNameViews = new ArrayList<>();
+  private final ExpandableArrayBuffer jobCopyBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer activatedJobBuffer = new ExpandableArrayBuffer();
+  private final JobRecord activatedJob = new JobRecord();
+  private final JobVisitor collectJobVisitor = this::collectJob;
+
+  // the command which is currently processed, to not capture it in a new lambda per command
+  private TypedRecord<JobBatchRecord> activationRecord;
+  private TypedStreamWriter activationStreamWriter;
+  private int remainingJobsToActivate;
+  private long jobDeadline;
 
   public JobBatchActivateProcessor(
       final JobState jobState,
@@ -92,8 +106,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     final long jobBatchKey = keyGenerator.nextKey();
 
-    final AtomicInteger amount = new AtomicInteger(value.getMaxJobsToActivate());
-    collectJobsToActivate(record, amount, streamWriter);
+    collectJobsToActivate(record, streamWriter);
 
     // Collecting of jobs and update state and write ACTIVATED job events should be separate,
     // since otherwise this will cause some problems (weird behavior) with the reusing of objects
@@ -107,64 +120,91 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   }
 
   private void collectJobsToActivate(
-      final TypedRecord<JobBatchRecord> record,
-      final AtomicInteger amount,
-      final TypedStreamWriter streamWriter) {
+      final TypedRecord<JobBatchRecord> record, final TypedStreamWriter streamWriter) {
     final JobBatchRecord value = record.getValue();
-    final ValueArray<JobRecord> jobIterator = value.jobs();
-    final ValueArray<LongValue> jobKeyIterator = value.jobKeys();
 
     // collect jobs for activation
+    copyVariableNames(value.variables());
+
+    activationRecord = record;
+    activationStreamWriter = streamWriter;
+    remainingJobsToActivate = value.getMaxJobsToActivate();
+    jobDeadline = record.getTimestamp() + value.getTimeout();
+
+    try {
+      jobState.forEachActivatableJobs(value.getTypeBuffer(), collectJobVisitor);
+    } finally {
+      activationRecord = null;
+      activationStreamWriter = null;
+    }
+  }
+
+  private boolean collectJob(final long key, final JobRecord jobRecord) {
+    final JobBatchRecord value = activationRecord.getValue();
+    jobRecord.setDeadline(jobDeadline).setWorker(value.getWorkerBuffer());
+
+    // fetch and set variables, required here to already have the full size of the job record
+    final long elementInstanceKey = jobRecord.getElementInstanceKey();
+    if (elementInstanceKey >= 0) {
+      final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
+      jobRecord.setVariables(variables);
+    } else {
+      jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+    }
+
+    if (remainingJobsToActivate >= 0
+        && (activationRecord.getLength() + jobRecord.getLength()) <= maxJobBatchLength) {
+
+      remainingJobsToActivate -= 1;
+      value.jobKeys().add().setValue(key);
+      final JobRecord arrayValueJob = value.jobs().add();
+
+      // copy job record since buffer is reused during iteration - the array copies the job into
+      // its own buffer on the next access, so the copy buffer can be reused for the next job
+      final int jobLength = jobRecord.getLength();
+      jobRecord.write(jobCopyBuffer, 0);
+      arrayValueJob.wrap(jobCopyBuffer, 0, jobLength);
+    } else {
+      value.setTruncated(true);
+
+      if (value.getJobs().isEmpty()) {
+        raiseIncidentJobTooLargeForMessageSize(key, jobRecord, activationStreamWriter);
+        jobState.disable(key, jobRecord);
+      }
+
+      return false;
+    }
+
+    return remainingJobsToActivate > 0;
+  }
+
+  private void copyVariableNames(final ValueArray<StringValue> jobBatchVariables) {
     variableNames.clear();
-    final ValueArray<StringValue> jobBatchVariables = value.variables();
-
-    jobBatchVariables.forEach(
-        v -> {
-          final MutableDirectBuffer nameCopy = new UnsafeBuffer(new byte[v.getValue().capacity()]);
-          nameCopy.putBytes(0, v.getValue(), 0, v.getValue().capacity());
-          variableNames.add(nameCopy);
-        });
-
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
-        (key, jobRecord) -> {
-          int remainingAmount = amount.get();
-          final long deadline = record.getTimestamp() + value.getTimeout();
-          jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-
-          // fetch and set variables, required here to already have the full size of the job record
-          final long elementInstanceKey = jobRecord.getElementInstanceKey();
-          if (elementInstanceKey >= 0) {
-            final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
-            jobRecord.setVariables(variables);
-          } else {
-            jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
-          }
-
-          if (remainingAmount >= 0
-              && (record.getLength() + jobRecord.getLength()) <= maxJobBatchLength) {
-
-            remainingAmount = amount.decrementAndGet();
-            jobKeyIterator.add().setValue(key);
-            final JobRecord arrayValueJob = jobIterator.add();
-
-            // clone job record since buffer is reused during iteration
-            final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(jobRecord.getLength());
-            jobRecord.write(buffer, 0);
-            arrayValueJob.wrap(buffer);
-          } else {
-            value.setTruncated(true);
-
-            if (value.getJobs().isEmpty()) {
-              raiseIncidentJobTooLargeForMessageSize(key, jobRecord, streamWriter);
-              jobState.disable(key, jobRecord);
-            }
-
-            return false;
-          }
-
-          return remainingAmount > 0;
-        });
+
+    // the names are copied, since the array reuses its value during iteration
+    int namesLength = 0;
+    for (final StringValue variable : jobBatchVariables) {
+      namesLength += variable.getValue().capacity();
+    }
+    variableNamesBuffer.checkLimit(namesLength);
+
+    int offset = 0;
+    int index = 0;
+    for (final StringValue variable : jobBatchVariables) {
+      final DirectBuffer name = variable.getValue();
+      final int nameLength = name.capacity();
+      variableNamesBuffer.putBytes(offset, name, 0, nameLength);
+
+      if (index == variableNameViews.size()) {
+        variableNameViews.add(new UnsafeBuffer());
+      }
+      final UnsafeBuffer nameView = variableNameViews.get(index);
+      nameView.wrap(variableNamesBuffer, offset, nameLength);
+      variableNames.add(nameView);
+
+      offset += nameLength;
+      index += 1;
+    }
   }
 
   private void activateJobs(final TypedStreamWriter streamWriter, final JobBatchRecord value) {
@@ -177,14 +217,13 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
       // update state and write follow up event for job record
       // we have to copy the job record because #write will reset the iterator state
-      final ExpandableArrayBuffer copy = new ExpandableArrayBuffer();
-      jobRecord.write(copy, 0);
-      final JobRecord copiedJob = new JobRecord();
-      copiedJob.wrap(copy, 0, jobRecord.getLength());
+      final int jobLength = jobRecord.getLength();
+      jobRecord.write(activatedJobBuffer, 0);
+      activatedJob.wrap(activatedJobBuffer, 0, jobLength);
 
       // first write follow up event as state.activate will clear the variables
-      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, copiedJob);
-      jobState.activate(key, copiedJob);
+      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, activatedJob);
+      jobState.activate(key, activatedJob);
     }
   }
 
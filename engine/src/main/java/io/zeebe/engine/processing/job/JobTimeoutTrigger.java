@@ -11,7 +11,7 @@ import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
-import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.CommandBatchWriter;
 import io.zeebe.engine.state.instance.JobState;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
@@ -23,7 +23,7 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   private final JobState state;
 
   private ScheduledTimer timer;
-  private TypedCommandWriter writer;
+  private CommandBatchWriter commandWriter;
   private ReadonlyProcessingContext processingContext;
 
   public JobTimeoutTrigger(final JobState state) {
@@ -37,7 +37,7 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
         this.processingContext
             .getActor()
             .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
-    writer = processingContext.getLogStreamWriter();
+    commandWriter = new CommandBatchWriter(processingContext.getLogStreamWriter());
   }
 
   @Override
@@ -76,15 +76,10 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
     final long now = currentTimeMillis();
     state.forEachTimedOutEntry(
         now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
+        (key, record) ->
+            commandWriter.appendFollowUpCommand(
+                key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB)));
 
-          final boolean flushed = writer.flush() >= 0;
-          if (!flushed) {
-            writer.reset();
-          }
-          return flushed;
-        });
+    commandWriter.flush();
   }
 }
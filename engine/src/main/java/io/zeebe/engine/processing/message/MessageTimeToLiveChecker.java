@@ -7,7 +7,8 @@
  */
 package io.zeebe.engine.processing.message;
 
-import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.CommandBatchWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -16,14 +17,13 @@ import io.zeebe.util.sched.clock.ActorClock;
 
 public final class MessageTimeToLiveChecker implements Runnable {
 
-  private final TypedCommandWriter writer;
+  private final CommandBatchWriter commandWriter;
   private final MessageState messageState;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
-  public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
-    this.writer = writer;
+  public MessageTimeToLiveChecker(final TypedStreamWriter writer, final MessageState messageState) {
+    commandWriter = new CommandBatchWriter(writer);
     this.messageState = messageState;
   }
 
@@ -31,6 +31,8 @@ public final class MessageTimeToLiveChecker implements Runnable {
   public void run() {
     messageState.visitMessagesWithDeadlineBefore(
         ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+
+    commandWriter.flush();
   }
 
   private boolean writeDeleteMessageCommand(final Message message) {
@@ -45,10 +47,7 @@ public final class MessageTimeToLiveChecker implements Runnable {
       deleteMessageCommand.setMessageId(message.getId());
     }
 
-    writer.reset();
-    writer.appendFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
-
-    final long position = writer.flush();
-    return position > 0;
+    return commandWriter.appendFollowUpCommand(
+        message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
   }
 }
@@ -9,6 +9,7 @@ package io.zeebe.engine.processing.streamprocessor;
 
 import static io.zeebe.engine.processing.streamprocessor.TypedEventRegistry.EVENT_REGISTRY;
 
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.impl.record.CopiedRecord;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -51,4 +52,25 @@ public final class CopiedRecords {
         rawEvent.getSourceEventPosition(),
         rawEvent.getTimestamp());
   }
+
+  public static TypedRecord<?> createCopiedTypedRecord(
+      final int partitionId, final LoggedEvent rawEvent) {
+    // copy the whole fragment, the metadata and the value only wrap the buffer of the event
+    final UnsafeBuffer eventBuffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(eventBuffer, 0);
+
+    final LoggedEventImpl event = new LoggedEventImpl();
+    event.wrap(eventBuffer, 0);
+
+    final RecordMetadata metadata = new RecordMetadata();
+    event.readMetadata(metadata);
+
+    final UnifiedRecordValue recordValue =
+        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    event.readValue(recordValue);
+
+    final TypedEventImpl typedRecord = new TypedEventImpl(partitionId);
+    typedRecord.wrap(event, metadata, recordValue);
+    return typedRecord;
+  }
 }
@@ -11,10 +11,13 @@ import io.zeebe.db.DbContext;
 import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopTypedStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -33,9 +36,14 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private DbContext dbContext;
 
   private BooleanSupplier abortCondition;
-  private Consumer<TypedRecord> onProcessedListener = record -> {};
+  private Consumer<TypedRecord> onProcessedListener;
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private int maxProcessingBatchSize = 1;
+  private Duration maxProcessingBatchDuration = Duration.ofMillis(10);
+  private int maxTimersPerTick = DueDateTimerChecker.DEFAULT_MAX_TIMERS_PER_TICK;
+  private boolean useActivatableJobsIndex = true;
+  private int workflowCacheCapacity = WorkflowPersistenceCache.DEFAULT_CACHE_CAPACITY;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -109,6 +117,31 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxProcessingBatchSize(final int maxProcessingBatchSize) {
+    this.maxProcessingBatchSize = maxProcessingBatchSize;
+    return this;
+  }
+
+  public ProcessingContext maxProcessingBatchDuration(final Duration maxProcessingBatchDuration) {
+    this.maxProcessingBatchDuration = maxProcessingBatchDuration;
+    return this;
+  }
+
+  public ProcessingContext maxTimersPerTick(final int maxTimersPerTick) {
+    this.maxTimersPerTick = maxTimersPerTick;
+    return this;
+  }
+
+  public ProcessingContext useActivatableJobsIndex(final boolean useActivatableJobsIndex) {
+    this.useActivatableJobsIndex = useActivatableJobsIndex;
+    return this;
+  }
+
+  public ProcessingContext workflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -176,4 +209,24 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
+
+  public int getMaxProcessingBatchSize() {
+    return maxProcessingBatchSize;
+  }
+
+  public Duration getMaxProcessingBatchDuration() {
+    return maxProcessingBatchDuration;
+  }
+
+  public int getMaxTimersPerTick() {
+    return maxTimersPerTick;
+  }
+
+  public boolean isUseActivatableJobsIndex() {
+    return useActivatableJobsIndex;
+  }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
 }
@@ -11,6 +11,7 @@ import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
@@ -32,6 +33,8 @@ import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -74,6 +77,19 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If batch processing is enabled (see {@link ProcessingContext#getMaxProcessingBatchSize()}),
+ * the state machine doesn't write and commit after each record. Instead it reads and processes the
+ * next records in the same transaction, as long as the processed records have no side effects and
+ * the batch budgets are not exhausted. The follow-up records of the whole batch are written at once
+ * and the transaction is committed afterwards. If a record of the batch (other than the first one)
+ * fails, the whole batch is rolled back and its records are processed again one by one, which
+ * preserves the error handling per record.
+ *
+ * <p>While a batch is open, the state machine doesn't yield to other actor jobs, since they share
+ * the stream writer and would see the uncommitted state. The records of the batch are read in a
+ * loop, skipped records included, and the processed listener is only notified after the batch is
+ * committed.
  */
 public final class ProcessingStateMachine {
 
@@ -101,6 +117,8 @@ public final class ProcessingStateMachine {
       "Error event was committed, we continue with processing.";
   private static final String LOG_ERROR_EVENT_WRITTEN =
       "Error record was written at {}, we will continue with processing if event was committed. Current commit position is {}.";
+  private static final String LOG_BATCH_ROLLED_BACK =
+      "Failed to process batch of {} records starting at position {}, will process them one by one until position {}.";
 
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
   protected final ZeebeState zeebeState;
@@ -123,6 +141,10 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxProcessingBatchSize;
+  private final long maxProcessingBatchDurationMillis;
+  private final int batchReservedLength;
+  private final List<TypedRecord<?>> batchedNotifications = new ArrayList<>();
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -136,6 +158,15 @@ public final class ProcessingStateMachine {
   private long errorRecordPosition = StreamProcessor.UNSET_POSITION;
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
+  private boolean pendingNotification;
+
+  // current batch
+  private int recordsInBatch;
+  private long batchStartPosition = StreamProcessor.UNSET_POSITION;
+  private long batchStartTime;
+  private boolean isBatchOpen;
+  private long lastProcessedPositionInBatch = StreamProcessor.UNSET_POSITION;
+  private long singleRecordProcessingUntilPosition = StreamProcessor.UNSET_POSITION;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -162,11 +193,19 @@ public final class ProcessingStateMachine {
 
     metrics = new StreamProcessorMetrics(partitionId);
     onProcessed = context.getOnProcessedListener();
+
+    maxProcessingBatchSize = context.getMaxProcessingBatchSize();
+    maxProcessingBatchDurationMillis = context.getMaxProcessingBatchDuration().toMillis();
+    // the follow-up records of the next record have to fit into the remaining batch
+    batchReservedLength = context.getMaxFragmentSize() / 2;
   }
 
   private void skipRecord() {
-    actor.submit(this::readNextEvent);
     metrics.eventSkipped();
+    if (!isBatchOpen) {
+      actor.submit(this::readNextEvent);
+    }
+    // otherwise the next record is read directly, see tryToReadNextEvent()
   }
 
   void readNextEvent() {
@@ -196,26 +235,35 @@ public final class ProcessingStateMachine {
   }
 
   private void tryToReadNextEvent() {
-    if (shouldProcessNext.getAsBoolean() && logStreamReader.hasNext() && currentProcessor == null) {
-      currentEvent = logStreamReader.next();
-
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        processEvent(currentEvent);
-      } else {
-        skipRecord();
+    do {
+      final boolean isIdle = currentProcessor == null || isBatchOpen;
+      if (shouldProcessNext.getAsBoolean() && logStreamReader.hasNext() && isIdle) {
+        currentEvent = logStreamReader.next();
+
+        if (eventFilter == null || eventFilter.applies(currentEvent)) {
+          processEvent(currentEvent);
+        } else {
+          skipRecord();
+        }
+      } else if (isBatchOpen) {
+        // no further record can be added to the open batch
+        isBatchOpen = false;
+        writeEvent();
       }
-    }
+    } while (isBatchOpen);
   }
 
   private void processEvent(final LoggedEvent event) {
     metadata.reset();
     event.readMetadata(metadata);
 
-    currentProcessor = chooseNextProcessor(event);
-    if (currentProcessor == null) {
+    final TypedRecordProcessor<?> processor = chooseNextProcessor(event);
+    if (processor == null) {
       skipRecord();
       return;
     }
+    currentProcessor = processor;
+    isBatchOpen = false;
 
     metrics.processingLatency(
         metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
@@ -223,22 +271,127 @@ public final class ProcessingStateMachine {
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
+      pendingNotification = onProcessed != null;
 
       processInTransaction(typedEvent);
 
       metrics.eventProcessed();
 
-      writeEvent();
+      if (recordsInBatch > 1 && !logStreamWriter.canWriteEventOfLength(0)) {
+        // the follow-up records of this record don't fit into the batch anymore
+        rollbackBatch(event.getPosition());
+      } else if (shouldContinueBatch()) {
+        continueBatch();
+      } else {
+        writeEvent();
+      }
     } catch (final RecoverableException recoverableException) {
+      if (recordsInBatch > 0) {
+        rollbackBatch(event.getPosition());
+        return;
+      }
+
       // recoverable
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, recoverableException);
-      actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
+      actor.runDelayed(PROCESSING_RETRY_DELAY, this::retryProcessEvent);
     } catch (final Exception e) {
+      if (recordsInBatch > 0) {
+        rollbackBatch(event.getPosition());
+        return;
+      }
+
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
       onError(e, this::writeEvent);
     }
   }
 
+  private void retryProcessEvent() {
+    processEvent(currentEvent);
+    if (isBatchOpen) {
+      tryToReadNextEvent();
+    }
+  }
+
+  private boolean shouldContinueBatch() {
+    if (recordsInBatch >= maxProcessingBatchSize
+        || lastProcessedPositionInBatch <= singleRecordProcessingUntilPosition) {
+      return false;
+    }
+
+    if (ActorClock.currentTimeMillis() - batchStartTime >= maxProcessingBatchDurationMillis) {
+      return false;
+    }
+
+    // side effects and responses are only executed after the commit, which is why only the last
+    // record of a batch is allowed to have some
+    if (typedEvent.hasRequestMetadata() || hasPendingSideEffects()) {
+      return false;
+    }
+
+    return logStreamWriter.canWriteEventOfLength(batchReservedLength);
+  }
+
+  private boolean hasPendingSideEffects() {
+    if (responseWriter.isResponseStaged()) {
+      return true;
+    }
+
+    if (sideEffectProducer == responseWriter) {
+      return false;
+    } else if (sideEffectProducer instanceof SideEffectQueue) {
+      return !((SideEffectQueue) sideEffectProducer).isEmpty();
+    } else {
+      return true;
+    }
+  }
+
+  private void continueBatch() {
+    if (pendingNotification) {
+      // the record is overwritten by the next one of the batch, but the listener is only notified
+      // after the batch is committed
+      batchedNotifications.add(
+          CopiedRecords.createCopiedTypedRecord(typedEvent.getPartitionId(), currentEvent));
+      pendingNotification = false;
+    }
+
+    // the caller reads the next record of the batch, see tryToReadNextEvent()
+    isBatchOpen = true;
+  }
+
+  private void rollbackBatch(final long failedPosition) {
+    LOG.debug(LOG_BATCH_ROLLED_BACK, recordsInBatch, batchStartPosition, failedPosition);
+    metrics.batchRolledBack();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, throwable);
+          }
+
+          logStreamWriter.reset();
+          responseWriter.reset();
+          logStreamReader.seek(batchStartPosition);
+
+          singleRecordProcessingUntilPosition = failedPosition;
+          recordsInBatch = 0;
+          pendingNotification = false;
+          batchedNotifications.clear();
+          isBatchOpen = false;
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
   private TypedRecordProcessor<?> chooseNextProcessor(final LoggedEvent event) {
     TypedRecordProcessor<?> typedRecordProcessor = null;
 
@@ -254,11 +407,18 @@ public final class ProcessingStateMachine {
   }
 
   private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
+    final long position = typedRecord.getPosition();
+
     zeebeDbTransaction = dbContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          final long position = typedRecord.getPosition();
-          resetOutput(position);
+          if (recordsInBatch == 0) {
+            resetOutput(position);
+          } else {
+            // keep the follow-up records of the previous records in the batch
+            responseWriter.reset();
+            logStreamWriter.configureSourceContext(position);
+          }
 
           // default side effect is responses; can be changed by processor
           sideEffectProducer = responseWriter;
@@ -274,6 +434,13 @@ public final class ProcessingStateMachine {
 
           zeebeState.markAsProcessed(position);
         });
+
+    if (recordsInBatch == 0) {
+      batchStartPosition = position;
+      batchStartTime = ActorClock.currentTimeMillis();
+    }
+    recordsInBatch++;
+    lastProcessedPositionInBatch = position;
   }
 
   private void resetOutput(final long sourceRecordPosition) {
@@ -295,6 +462,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
               return true;
             },
             abortCondition);
@@ -357,7 +525,9 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, t) -> {
-          if (t != null) {
+          if (t != null && recordsInBatch > 1) {
+            rollbackBatch(lastProcessedPositionInBatch);
+          } else if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
             onError(t, this::writeEvent);
           } else {
@@ -386,9 +556,13 @@ public final class ProcessingStateMachine {
                           }
                         });
               }
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+              lastSuccessfulProcessedEventPosition =
+                  recordsInBatch > 0 ? lastProcessedPositionInBatch : currentEvent.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
               lastWrittenEventPosition = writtenEventPosition;
+
+              metrics.recordsProcessedInTransaction(Math.max(recordsInBatch, 1));
+              recordsInBatch = 0;
               return true;
             },
             abortCondition);
@@ -406,10 +580,22 @@ public final class ProcessingStateMachine {
   }
 
   private void notifyListener() {
+    for (final TypedRecord<?> batchedRecord : batchedNotifications) {
+      notifyListener(batchedRecord);
+    }
+    batchedNotifications.clear();
+
+    if (pendingNotification) {
+      pendingNotification = false;
+      notifyListener(typedEvent);
+    }
+  }
+
+  private void notifyListener(final TypedRecord<?> record) {
     try {
-      onProcessed.accept(typedEvent);
+      onProcessed.accept(record);
     } catch (final Exception e) {
-      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, currentEvent, e);
+      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, record, e);
     }
   }
 
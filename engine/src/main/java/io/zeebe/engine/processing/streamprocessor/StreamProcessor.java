@@ -260,7 +260,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   private ZeebeState recoverState() {
     final DbContext dbContext = zeebeDb.createContext();
-    final ZeebeState zeebeState = new ZeebeState(partitionId, zeebeDb, dbContext);
+    final ZeebeState zeebeState =
+        new ZeebeState(
+            partitionId,
+            zeebeDb,
+            dbContext,
+            processingContext.isUseActivatableJobsIndex(),
+            processingContext.getWorkflowCacheCapacity());
 
     processingContext.dbContext(dbContext);
     processingContext.zeebeState(zeebeState);
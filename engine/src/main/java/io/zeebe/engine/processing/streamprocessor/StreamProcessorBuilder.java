@@ -14,6 +14,7 @@ import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.util.sched.ActorScheduler;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -75,6 +76,52 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum count of records which are processed in one database transaction, and whose
+   * follow-up records are written as one batch. A value of 1 disables batch processing.
+   */
+  public StreamProcessorBuilder maxProcessingBatchSize(final int maxProcessingBatchSize) {
+    processingContext.maxProcessingBatchSize(maxProcessingBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time a processing batch is kept open for further records, before its
+   * transaction is committed and its follow-up records are written.
+   */
+  public StreamProcessorBuilder maxProcessingBatchDuration(
+      final Duration maxProcessingBatchDuration) {
+    processingContext.maxProcessingBatchDuration(maxProcessingBatchDuration);
+    return this;
+  }
+
+  /**
+   * Sets the maximum count of due timers which are triggered at once, before the timer checker
+   * yields to the processing.
+   */
+  public StreamProcessorBuilder maxTimersPerTick(final int maxTimersPerTick) {
+    processingContext.maxTimersPerTick(maxTimersPerTick);
+    return this;
+  }
+
+  /**
+   * Sets whether the activatable jobs are kept in an in-memory index per job type, instead of
+   * iterating over the activatable jobs in the state on every job activation.
+   */
+  public StreamProcessorBuilder useActivatableJobsIndex(final boolean useActivatableJobsIndex) {
+    processingContext.useActivatableJobsIndex(useActivatableJobsIndex);
+    return this;
+  }
+
+  /**
+   * Sets the maximum count of deployed workflows which are kept in memory. If more workflows are
+   * used, the least recently used ones are evicted and transformed again on their next access.
+   */
+  public StreamProcessorBuilder workflowCacheCapacity(final int workflowCacheCapacity) {
+    processingContext.workflowCacheCapacity(workflowCacheCapacity);
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -17,6 +17,10 @@ public final class SideEffectQueue implements SideEffectProducer, SideEffects {
     sideEffects.clear();
   }
 
+  public boolean isEmpty() {
+    return sideEffects.isEmpty();
+  }
+
   @Override
   public boolean flush() {
     if (sideEffects.isEmpty()) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor.writers;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.record.RecordMetadataEncoder;
+import io.zeebe.protocol.record.intent.Intent;
+import java.util.function.Consumer;
+
+/**
+ * Appends commands to the log stream writer and writes them in batches, instead of writing every
+ * command on its own. A batch is written when the next command doesn't fit into it anymore, or when
+ * it is flushed.
+ *
+ * <p>NOTE: the log stream writer is shared with the processing, so the commands must be appended
+ * and flushed within the same actor job, and not while a record is processed.
+ */
+public final class CommandBatchWriter {
+
+  private static final int COMMAND_METADATA_LENGTH =
+      RecordMetadata.BLOCK_LENGTH + RecordMetadataEncoder.rejectionReasonHeaderLength();
+  private static final Consumer<RecordMetadata> NOOP = m -> {};
+
+  private final TypedStreamWriter writer;
+  private int batchSize;
+
+  public CommandBatchWriter(final TypedStreamWriter writer) {
+    this.writer = writer;
+  }
+
+  public boolean appendFollowUpCommand(
+      final long key, final Intent intent, final UnpackedObject value) {
+    return appendFollowUpCommand(key, intent, value, NOOP);
+  }
+
+  /**
+   * Appends the command to the current batch. If the command doesn't fit into the batch, then the
+   * batch is written first.
+   *
+   * @return false if the current batch could not be written, in which case the command is not
+   *     appended and the commands of the batch are discarded
+   */
+  public boolean appendFollowUpCommand(
+      final long key,
+      final Intent intent,
+      final UnpackedObject value,
+      final Consumer<RecordMetadata> metadata) {
+    if (batchSize > 0
+        && !writer.canWriteEventOfLength(COMMAND_METADATA_LENGTH + value.getLength())
+        && !flush()) {
+      return false;
+    }
+
+    if (batchSize == 0) {
+      writer.reset();
+    }
+
+    writer.appendFollowUpCommand(key, intent, value, metadata);
+    batchSize++;
+    return true;
+  }
+
+  /**
+   * Writes the commands of the current batch.
+   *
+   * @return true if the commands were written or there were no commands to write, otherwise false
+   *     in which case the commands are discarded
+   */
+  public boolean flush() {
+    if (batchSize == 0) {
+      return true;
+    }
+
+    batchSize = 0;
+    final boolean written = writer.flush() >= 0;
+    if (!written) {
+      writer.reset();
+    }
+    return written;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+}
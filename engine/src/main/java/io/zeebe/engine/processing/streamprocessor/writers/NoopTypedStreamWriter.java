@@ -86,4 +86,9 @@ public final class NoopTypedStreamWriter implements TypedStreamWriter {
   public long flush() {
     return 0;
   }
+
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return true;
+  }
 }
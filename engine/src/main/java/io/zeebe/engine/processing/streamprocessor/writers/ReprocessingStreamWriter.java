@@ -123,6 +123,11 @@ public final class ReprocessingStreamWriter implements TypedStreamWriter {
     return 0;
   }
 
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return true;
+  }
+
   public List<ReprocessingRecord> getRecords() {
     return records;
   }
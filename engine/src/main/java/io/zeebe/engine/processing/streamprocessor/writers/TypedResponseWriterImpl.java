@@ -144,4 +144,8 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   public void reset() {
     isResponseStaged = false;
   }
+
+  public boolean isResponseStaged() {
+    return isResponseStaged;
+  }
 }
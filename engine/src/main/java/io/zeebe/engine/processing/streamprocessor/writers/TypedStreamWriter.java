@@ -33,4 +33,11 @@ public interface TypedStreamWriter extends TypedCommandWriter {
       long key, Intent intent, UnpackedObject value, Consumer<RecordMetadata> metadata);
 
   void configureSourceContext(long sourceRecordPosition);
+
+  /**
+   * @param eventLength the length of an additional event (metadata and value)
+   * @return true if an event of the given length can still be appended to the pending records,
+   *     false if it would exceed the maximum batch size of the log stream
+   */
+  boolean canWriteEventOfLength(int eventLength);
 }
@@ -72,4 +72,9 @@ public final class TypedStreamWriterImpl extends TypedCommandWriterImpl
       final Consumer<RecordMetadata> metadata) {
     appendRecord(key, RecordType.EVENT, intent, value, metadata);
   }
+
+  @Override
+  public boolean canWriteEventOfLength(final int eventLength) {
+    return batchWriter.canWriteAdditionalEvent(eventLength);
+  }
 }
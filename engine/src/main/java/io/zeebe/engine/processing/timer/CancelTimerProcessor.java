@@ -9,6 +9,7 @@ package io.zeebe.engine.processing.timer;
 
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.deployment.WorkflowState;
@@ -16,21 +17,26 @@ import io.zeebe.engine.state.instance.TimerInstance;
 import io.zeebe.protocol.impl.record.value.timer.TimerRecord;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.TimerIntent;
+import java.util.function.Consumer;
 
 public final class CancelTimerProcessor implements TypedRecordProcessor<TimerRecord> {
   public static final String NO_TIMER_FOUND_MESSAGE =
       "Expected to cancel timer with key '%d', but no such timer was found";
   private final WorkflowState workflowState;
+  private final DueDateTimerChecker timerChecker;
 
-  public CancelTimerProcessor(final WorkflowState workflowState) {
+  public CancelTimerProcessor(
+      final WorkflowState workflowState, final DueDateTimerChecker timerChecker) {
     this.workflowState = workflowState;
+    this.timerChecker = timerChecker;
   }
 
   @Override
   public void processRecord(
       final TypedRecord<TimerRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final TimerRecord timer = record.getValue();
     final TimerInstance timerInstance =
         workflowState.getTimerState().get(timer.getElementInstanceKey(), record.getKey());
@@ -41,6 +47,14 @@ public final class CancelTimerProcessor implements TypedRecordProcessor<TimerRec
     } else {
       streamWriter.appendFollowUpEvent(record.getKey(), TimerIntent.CANCELED, timer);
       workflowState.getTimerState().remove(timerInstance);
+
+      sideEffect.accept(this::onTimerCanceled);
     }
   }
+
+  private boolean onTimerCanceled() {
+    timerChecker.onTimerCanceled();
+
+    return true;
+  }
 }
@@ -9,7 +9,8 @@ package io.zeebe.engine.processing.timer;
 
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
-import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.CommandBatchWriter;
+import io.zeebe.engine.processing.timer.TimerWheel.TimerWheelVisitor;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.TimerInstance;
 import io.zeebe.protocol.impl.record.value.timer.TimerRecord;
@@ -18,25 +19,52 @@ import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
-
+import org.agrona.collections.LongArrayList;
+
+/**
+ * Triggers the timers when they are due. The due dates of the timers are kept in a {@link
+ * TimerWheel}, which is loaded from the state on recovery and filled when a timer is created. At
+ * most {@code maxTimersPerTick} timers are triggered at once, before the actor yields to the
+ * processing, to not block it when a lot of timers are due at the same time. The TRIGGER commands
+ * are written in batches.
+ */
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
+  public static final int DEFAULT_MAX_TIMERS_PER_TICK = 1_000;
+
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
+  private static final int TIMER_WHEEL_SIZE = 64;
+  private static final int TIMER_WHEEL_LEVELS = 5;
+  // canceled timers are kept in the wheel until they are due; the wheel is rebuilt from the state
+  // when the canceled timers exceed this threshold and make up most of the wheel
+  private static final int MIN_CANCELED_TIMERS_TO_REBUILD = 10_000;
 
   private final TimerRecord timerRecord = new TimerRecord();
+  private final TimerWheelVisitor triggerTimerVisitor = this::triggerTimer;
+  // the timers of the current batch, which are added to the wheel again if it can't be written
+  private final LongArrayList timersInBatch = new LongArrayList();
 
   private final WorkflowState workflowState;
+  private final int maxTimersPerTick;
   private ActorControl actor;
-  private TypedStreamWriter streamWriter;
+  private CommandBatchWriter commandWriter;
+  private TimerWheel timerWheel;
+  private int canceledTimers;
 
   private ScheduledTimer scheduledTimer;
   private long nextDueDate = -1L;
 
   public DueDateTimerChecker(final WorkflowState workflowState) {
+    this(workflowState, DEFAULT_MAX_TIMERS_PER_TICK);
+  }
+
+  public DueDateTimerChecker(final WorkflowState workflowState, final int maxTimersPerTick) {
     this.workflowState = workflowState;
+    this.maxTimersPerTick = maxTimersPerTick;
   }
 
   public void scheduleTimer(final TimerInstance timer) {
+    timerWheel.add(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
 
     // We schedule only one runnable for all timers.
     // - The runnable is scheduled when the first timer is scheduled.
@@ -60,16 +88,37 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
+  public void onTimerCanceled() {
+    canceledTimers++;
+
+    if (canceledTimers > MIN_CANCELED_TIMERS_TO_REBUILD && canceledTimers > timerWheel.size() / 2) {
+      loadTimers();
+    }
+  }
+
+  private void loadTimers() {
+    timerWheel.clear();
+    canceledTimers = 0;
+
+    workflowState.getTimerState().forEachTimerDueDate(timerWheel::add);
+  }
+
   private void triggerTimers() {
-    nextDueDate =
-        workflowState
-            .getTimerState()
-            .findTimersWithDueDateBefore(ActorClock.currentTimeMillis(), this::triggerTimer);
+    final long now = ActorClock.currentTimeMillis();
+    timerWheel.advanceTo(now);
+    timerWheel.expire(maxTimersPerTick, triggerTimerVisitor);
 
-    // reschedule the runnable if there are timers left
+    if (!commandWriter.flush()) {
+      rescheduleTimersInBatch();
+    }
+    timersInBatch.clear();
+
+    // reschedule the runnable if there are timers left; if more timers are due already, then it
+    // runs again after the other jobs of the actor
 
+    nextDueDate = timerWheel.nextDueDate();
     if (nextDueDate > 0) {
-      final Duration duration = Duration.ofMillis(nextDueDate - ActorClock.currentTimeMillis());
+      final Duration duration = Duration.ofMillis(Math.max(0, nextDueDate - now));
       scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
 
     } else {
@@ -77,7 +126,15 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
-  private boolean triggerTimer(final TimerInstance timer) {
+  private boolean triggerTimer(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    final TimerInstance timer = workflowState.getTimerState().get(elementInstanceKey, timerKey);
+    if (timer == null) {
+      // the timer was canceled in the meantime
+      canceledTimers = Math.max(0, canceledTimers - 1);
+      return true;
+    }
+
     timerRecord.reset();
     timerRecord
         .setElementInstanceKey(timer.getElementInstanceKey())
@@ -87,16 +144,41 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         .setRepetitions(timer.getRepetitions())
         .setWorkflowKey(timer.getWorkflowKey());
 
-    streamWriter.reset();
-    streamWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+    final int batchSize = commandWriter.getBatchSize();
+    if (!commandWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord)) {
+      rescheduleTimersInBatch();
+      timersInBatch.clear();
+      return false;
+    }
+
+    if (commandWriter.getBatchSize() <= batchSize) {
+      // the previous batch was written
+      timersInBatch.clear();
+    }
+    timersInBatch.addLong(dueDate);
+    timersInBatch.addLong(elementInstanceKey);
+    timersInBatch.addLong(timerKey);
+
+    return true;
+  }
 
-    return streamWriter.flush() > 0;
+  private void rescheduleTimersInBatch() {
+    for (int i = 0; i < timersInBatch.size(); i += 3) {
+      timerWheel.add(
+          timersInBatch.getLong(i), timersInBatch.getLong(i + 1), timersInBatch.getLong(i + 2));
+    }
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
     actor = processingContext.getActor();
-    streamWriter = processingContext.getLogStreamWriter();
+    commandWriter = new CommandBatchWriter(processingContext.getLogStreamWriter());
+
+    timerWheel =
+        new TimerWheel(
+            TIMER_RESOLUTION, TIMER_WHEEL_SIZE, TIMER_WHEEL_LEVELS, ActorClock.currentTimeMillis());
+    loadTimers();
+
     // check if timers are due after restart
     triggerTimers();
   }
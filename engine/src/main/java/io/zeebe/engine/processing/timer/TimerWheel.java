@@ -0,0 +1,319 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.timer;
+
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A hierarchical timing wheel which keeps the due dates of the timers in memory, so that the due
+ * timers can be found without iterating over the timer state.
+ *
+ * <p>Every level has {@code wheelSize} slots. A slot of the lowest level spans one tick, a slot of
+ * a higher level spans all slots of the level below. A timer is added to the lowest level which
+ * covers its due date. When the time of the wheel reaches a slot of a higher level, its timers are
+ * moved down to the lower levels, until they end up in the lowest level and expire. Timers which
+ * are due after the span of the highest level are kept in an overflow list.
+ *
+ * <p>Single timers can't be removed. A timer which was removed from the state stays in the wheel
+ * until it expires, and needs to be skipped by the caller.
+ *
+ * <p>This class is not thread-safe and must be used from the stream processor actor only.
+ */
+final class TimerWheel {
+
+  private static final int DUE_DATE_OFFSET = 0;
+  private static final int ELEMENT_INSTANCE_KEY_OFFSET = 1;
+  private static final int TIMER_KEY_OFFSET = 2;
+  private static final int ENTRY_LENGTH = 3;
+
+  private final long tickMillis;
+  private final int wheelSize;
+  private final int levels;
+  private final long[] slotMillis;
+  private final LongArrayList[][] slots;
+  private final int[] levelSizes;
+  private final LongArrayList overflow = new LongArrayList();
+  private final LongArrayList expired = new LongArrayList();
+
+  private int expiredReadIndex;
+  private long currentTime;
+  private int size;
+
+  TimerWheel(final long tickMillis, final int wheelSize, final int levels, final long now) {
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.levels = levels;
+
+    slotMillis = new long[levels];
+    slots = new LongArrayList[levels][wheelSize];
+    levelSizes = new int[levels];
+
+    long millis = tickMillis;
+    for (int level = 0; level < levels; level++) {
+      slotMillis[level] = millis;
+      millis *= wheelSize;
+    }
+
+    currentTime = alignToTick(now);
+  }
+
+  void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    addEntry(dueDate, elementInstanceKey, timerKey);
+    size++;
+  }
+
+  /**
+   * Advances the time of the wheel. Afterwards, all timers which are due before or at the given
+   * time can be visited by {@link #expire(int, TimerWheelVisitor)}.
+   */
+  void advanceTo(final long now) {
+    while (currentTime + tickMillis <= now) {
+      if (levelSizes[0] > 0) {
+        expireSlot(slots[0][slotIndex(0, currentTime)]);
+        currentTime += tickMillis;
+      } else {
+        // no timer is due within the lowest level, so skip the empty ticks
+        final long nextCascadeTime = nextCascadeTime();
+        final long alignedNow = alignToTick(now);
+
+        if (nextCascadeTime < 0 || nextCascadeTime > alignedNow) {
+          currentTime = alignedNow;
+          break;
+        }
+        currentTime = nextCascadeTime;
+      }
+
+      cascade();
+    }
+
+    expireDueEntries(slots[0][slotIndex(0, currentTime)], now);
+  }
+
+  /**
+   * Visits the expired timers in the order they expired, until the visitor returns false or the
+   * limit is reached. The visited timers are removed from the wheel, except the one for which the
+   * visitor returned false.
+   *
+   * @return the number of visited and removed timers
+   */
+  int expire(final int limit, final TimerWheelVisitor visitor) {
+    int count = 0;
+
+    while (count < limit && expiredReadIndex < expired.size()) {
+      final boolean consumed =
+          visitor.visit(
+              expired.getLong(expiredReadIndex + DUE_DATE_OFFSET),
+              expired.getLong(expiredReadIndex + ELEMENT_INSTANCE_KEY_OFFSET),
+              expired.getLong(expiredReadIndex + TIMER_KEY_OFFSET));
+
+      if (!consumed) {
+        break;
+      }
+
+      expiredReadIndex += ENTRY_LENGTH;
+      size--;
+      count++;
+    }
+
+    if (expiredReadIndex == expired.size()) {
+      expired.clear();
+      expiredReadIndex = 0;
+    }
+
+    return count;
+  }
+
+  boolean hasExpiredTimers() {
+    return expiredReadIndex < expired.size();
+  }
+
+  /**
+   * @return the time when the wheel should be advanced next to expire the next timers, or {@code
+   *     -1} if the wheel is empty
+   */
+  long nextDueDate() {
+    if (hasExpiredTimers()) {
+      return expired.getLong(expiredReadIndex + DUE_DATE_OFFSET);
+    }
+
+    // a timer of a higher level can be due before the timers of the lowest level, if it was added
+    // earlier, so the wheel must be advanced at least until the next cascade
+    final long nextCascadeTime = nextCascadeTime();
+
+    if (levelSizes[0] > 0) {
+      for (int i = 0; i < wheelSize; i++) {
+        final LongArrayList slot = slots[0][slotIndex(0, currentTime + i * tickMillis)];
+        if (slot != null && slot.size() > 0) {
+          final long minDueDate = minDueDate(slot);
+          return nextCascadeTime < 0 ? minDueDate : Math.min(minDueDate, nextCascadeTime);
+        }
+      }
+    }
+
+    return nextCascadeTime;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    for (int level = 0; level < levels; level++) {
+      for (final LongArrayList slot : slots[level]) {
+        if (slot != null) {
+          slot.clear();
+        }
+      }
+      levelSizes[level] = 0;
+    }
+    overflow.clear();
+    expired.clear();
+    expiredReadIndex = 0;
+    size = 0;
+  }
+
+  private void addEntry(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (dueDate < currentTime) {
+      addEntry(expired, dueDate, elementInstanceKey, timerKey);
+      return;
+    }
+
+    for (int level = 0; level < levels; level++) {
+      final long levelStart = currentTime - currentTime % slotMillis[level];
+      if (dueDate < levelStart + slotMillis[level] * wheelSize) {
+        final int index = slotIndex(level, dueDate);
+        LongArrayList slot = slots[level][index];
+        if (slot == null) {
+          slot = new LongArrayList();
+          slots[level][index] = slot;
+        }
+
+        addEntry(slot, dueDate, elementInstanceKey, timerKey);
+        levelSizes[level]++;
+        return;
+      }
+    }
+
+    addEntry(overflow, dueDate, elementInstanceKey, timerKey);
+  }
+
+  private void addEntry(
+      final LongArrayList entries,
+      final long dueDate,
+      final long elementInstanceKey,
+      final long timerKey) {
+    entries.addLong(dueDate);
+    entries.addLong(elementInstanceKey);
+    entries.addLong(timerKey);
+  }
+
+  /** Moves the timers of the slots which start at the current time down to the lower levels. */
+  private void cascade() {
+    final int highestLevel = levels - 1;
+    if (currentTime % slotMillis[highestLevel] == 0 && overflow.size() > 0) {
+      reAddEntries(overflow);
+    }
+
+    for (int level = highestLevel; level > 0; level--) {
+      if (currentTime % slotMillis[level] == 0) {
+        final LongArrayList slot = slots[level][slotIndex(level, currentTime)];
+        if (slot != null && slot.size() > 0) {
+          levelSizes[level] -= slot.size() / ENTRY_LENGTH;
+          reAddEntries(slot);
+        }
+      }
+    }
+  }
+
+  private void reAddEntries(final LongArrayList entries) {
+    final long[] copy = entries.toLongArray();
+    entries.clear();
+
+    for (int i = 0; i < copy.length; i += ENTRY_LENGTH) {
+      addEntry(
+          copy[i + DUE_DATE_OFFSET],
+          copy[i + ELEMENT_INSTANCE_KEY_OFFSET],
+          copy[i + TIMER_KEY_OFFSET]);
+    }
+  }
+
+  private void expireSlot(final LongArrayList slot) {
+    if (slot != null && slot.size() > 0) {
+      for (int i = 0; i < slot.size(); i++) {
+        expired.addLong(slot.getLong(i));
+      }
+      levelSizes[0] -= slot.size() / ENTRY_LENGTH;
+      slot.clear();
+    }
+  }
+
+  private void expireDueEntries(final LongArrayList slot, final long now) {
+    if (slot == null) {
+      return;
+    }
+
+    int i = 0;
+    while (i < slot.size()) {
+      final long dueDate = slot.getLong(i + DUE_DATE_OFFSET);
+      if (dueDate <= now) {
+        addEntry(
+            expired,
+            dueDate,
+            slot.getLong(i + ELEMENT_INSTANCE_KEY_OFFSET),
+            slot.getLong(i + TIMER_KEY_OFFSET));
+        removeEntry(slot, i);
+        levelSizes[0]--;
+      } else {
+        i += ENTRY_LENGTH;
+      }
+    }
+  }
+
+  private void removeEntry(final LongArrayList entries, final int index) {
+    final int lastIndex = entries.size() - ENTRY_LENGTH;
+    for (int offset = ENTRY_LENGTH - 1; offset >= 0; offset--) {
+      entries.setLong(index + offset, entries.getLong(lastIndex + offset));
+      entries.fastUnorderedRemove(lastIndex + offset);
+    }
+  }
+
+  private long nextCascadeTime() {
+    for (int level = 1; level < levels; level++) {
+      if (levelSizes[level] > 0) {
+        return nextSlotStart(level);
+      }
+    }
+
+    return overflow.size() > 0 ? nextSlotStart(levels - 1) : -1L;
+  }
+
+  private long nextSlotStart(final int level) {
+    return currentTime - currentTime % slotMillis[level] + slotMillis[level];
+  }
+
+  private long minDueDate(final LongArrayList slot) {
+    long minDueDate = Long.MAX_VALUE;
+    for (int i = 0; i < slot.size(); i += ENTRY_LENGTH) {
+      minDueDate = Math.min(minDueDate, slot.getLong(i + DUE_DATE_OFFSET));
+    }
+    return minDueDate;
+  }
+
+  private int slotIndex(final int level, final long time) {
+    return (int) ((time / slotMillis[level]) % wheelSize);
+  }
+
+  private long alignToTick(final long time) {
+    return time - time % tickMillis;
+  }
+
+  @FunctionalInterface
+  interface TimerWheelVisitor {
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
+}
@@ -12,12 +12,23 @@ import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
+import org.agrona.collections.LongHashSet;
 
+/**
+ * The blacklisted workflow instances. As the blacklist is checked for every processed record, but
+ * is usually empty, the keys are also kept in memory. Only if a key is in memory, the column family
+ * is checked.
+ */
 public final class BlackList {
 
   private final ColumnFamily<DbLong, DbNil> blackListColumnFamily;
   private final DbLong workflowInstanceKey;
 
+  // may contain keys which were blacklisted in a transaction that was rolled back, so it is only
+  // used to find the keys which are not blacklisted
+  private final LongHashSet blacklistedKeys = new LongHashSet();
+  private boolean isLoaded;
+
   public BlackList(final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     workflowInstanceKey = new DbLong();
     blackListColumnFamily =
@@ -28,10 +39,23 @@ public final class BlackList {
   public void blacklist(final long key) {
     workflowInstanceKey.wrapLong(key);
     blackListColumnFamily.put(workflowInstanceKey, DbNil.INSTANCE);
+    getBlacklistedKeys().add(key);
   }
 
   public boolean isOnBlacklist(final long key) {
+    if (!getBlacklistedKeys().contains(key)) {
+      return false;
+    }
+
     workflowInstanceKey.wrapLong(key);
     return blackListColumnFamily.exists(workflowInstanceKey);
   }
+
+  private LongHashSet getBlacklistedKeys() {
+    if (!isLoaded) {
+      blackListColumnFamily.forEach((key, nil) -> blacklistedKeys.add(key.getValue()));
+      isLoaded = true;
+    }
+    return blacklistedKeys;
+  }
 }
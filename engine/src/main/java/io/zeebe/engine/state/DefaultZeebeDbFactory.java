@@ -9,6 +9,7 @@ package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import java.util.Properties;
@@ -40,7 +41,25 @@ public final class DefaultZeebeDbFactory {
    */
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
       final Properties userProvidedColumnFamilyOptions) {
-    return defaultFactory(ZbColumnFamilies.class, userProvidedColumnFamilyOptions);
+    return defaultFactory(
+        new RocksDbConfiguration().setColumnFamilyOptions(userProvidedColumnFamilyOptions));
+  }
+
+  /**
+   * Returns the default zeebe database factory which is used in the broker. The column families use
+   * the profiles of {@link ZbColumnFamilies}, if no other profile is configured for them.
+   *
+   * @param configuration the database configuration, e.g. provided by the user
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration configuration) {
+    for (final ZbColumnFamilies columnFamily : ZbColumnFamilies.values()) {
+      configuration
+          .setColumnFamilyProfileIfAbsent(columnFamily.name(), columnFamily.getProfile())
+          .setColumnFamilyPrefixLength(columnFamily.name(), columnFamily.getPrefixLength());
+    }
+    return ZeebeRocksDbFactory.newFactory(ZbColumnFamilies.class, configuration);
   }
 
   /**
@@ -7,6 +7,8 @@
  */
 package io.zeebe.engine.state;
 
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+
 public enum ZbColumnFamilies {
   DEFAULT,
 
@@ -17,56 +19,56 @@ public enum ZbColumnFamilies {
   WORKFLOW_VERSION,
 
   // workflow cache
-  WORKFLOW_CACHE,
+  WORKFLOW_CACHE(ColumnFamilyProfile.BLOB),
   WORKFLOW_CACHE_BY_ID_AND_VERSION,
   WORKFLOW_CACHE_LATEST_KEY,
   WORKFLOW_CACHE_DIGEST_BY_ID,
 
   // element instance
-  ELEMENT_INSTANCE_PARENT_CHILD,
+  ELEMENT_INSTANCE_PARENT_CHILD(ColumnFamilyProfile.INDEX, Long.BYTES),
   ELEMENT_INSTANCE_KEY,
-  STORED_INSTANCE_EVENTS,
-  STORED_INSTANCE_EVENTS_PARENT_CHILD,
+  STORED_INSTANCE_EVENTS(ColumnFamilyProfile.BLOB),
+  STORED_INSTANCE_EVENTS_PARENT_CHILD(ColumnFamilyProfile.INDEX, Long.BYTES),
 
   // variable state
-  ELEMENT_INSTANCE_CHILD_PARENT,
-  VARIABLES,
-  TEMPORARY_VARIABLE_STORE,
+  ELEMENT_INSTANCE_CHILD_PARENT(ColumnFamilyProfile.INDEX),
+  VARIABLES(ColumnFamilyProfile.BLOB, Long.BYTES),
+  TEMPORARY_VARIABLE_STORE(ColumnFamilyProfile.BLOB),
 
   // timer state
-  TIMERS,
-  TIMER_DUE_DATES,
+  TIMERS(ColumnFamilyProfile.DEFAULT, Long.BYTES),
+  TIMER_DUE_DATES(ColumnFamilyProfile.INDEX),
 
   // pending deployments
   PENDING_DEPLOYMENT,
 
   // jobs
-  JOBS,
-  JOB_STATES,
-  JOB_DEADLINES,
-  JOB_ACTIVATABLE,
+  JOBS(ColumnFamilyProfile.BLOB),
+  JOB_STATES(ColumnFamilyProfile.INDEX),
+  JOB_DEADLINES(ColumnFamilyProfile.INDEX),
+  JOB_ACTIVATABLE(ColumnFamilyProfile.INDEX),
 
   // message
   MESSAGE_KEY,
-  MESSAGES,
-  MESSAGE_DEADLINES,
+  MESSAGES(ColumnFamilyProfile.BLOB),
+  MESSAGE_DEADLINES(ColumnFamilyProfile.INDEX),
   MESSAGE_IDS,
-  MESSAGE_CORRELATED,
+  MESSAGE_CORRELATED(ColumnFamilyProfile.DEFAULT, Long.BYTES),
   MESSAGE_WORKFLOWS_ACTIVE_BY_CORRELATION_KEY,
   MESSAGE_WORKFLOW_INSTANCE_CORRELATION_KEYS,
 
   // message subscription
   MESSAGE_SUBSCRIPTION_BY_KEY,
-  MESSAGE_SUBSCRIPTION_BY_SENT_TIME,
+  MESSAGE_SUBSCRIPTION_BY_SENT_TIME(ColumnFamilyProfile.INDEX),
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
 
   // message start event subscription
   MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY,
-  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME,
+  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME(ColumnFamilyProfile.DEFAULT, Long.BYTES),
 
   // workflow instance subscription
-  WORKFLOW_SUBSCRIPTION_BY_KEY,
-  WORKFLOW_SUBSCRIPTION_BY_SENT_TIME,
+  WORKFLOW_SUBSCRIPTION_BY_KEY(ColumnFamilyProfile.DEFAULT, Long.BYTES),
+  WORKFLOW_SUBSCRIPTION_BY_SENT_TIME(ColumnFamilyProfile.INDEX),
 
   // incident
   INCIDENTS,
@@ -75,11 +77,43 @@ public enum ZbColumnFamilies {
 
   // event
   EVENT_SCOPE,
-  EVENT_TRIGGER,
+  EVENT_TRIGGER(ColumnFamilyProfile.DEFAULT, Long.BYTES),
 
   BLACKLIST,
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT;
+
+  private final ColumnFamilyProfile profile;
+  private final int prefixLength;
+
+  ZbColumnFamilies() {
+    this(ColumnFamilyProfile.DEFAULT);
+  }
+
+  ZbColumnFamilies(final ColumnFamilyProfile profile) {
+    this(profile, 0);
+  }
+
+  /**
+   * @param profile the default profile of the column family
+   * @param prefixLength the length of the fixed key prefix which is used to iterate over the column
+   *     family, e.g. the leading {@code DbLong} of a {@code DbCompositeKey}, or 0 if the column
+   *     family is not iterated by a fixed-length prefix
+   */
+  ZbColumnFamilies(final ColumnFamilyProfile profile, final int prefixLength) {
+    this.profile = profile;
+    this.prefixLength = prefixLength;
+  }
+
+  /** @return the default profile of the column family, which can be overwritten by the user */
+  public ColumnFamilyProfile getProfile() {
+    return profile;
+  }
+
+  /** @return the length of the fixed key prefix, or 0 if the column family has none */
+  public int getPrefixLength() {
+    return prefixLength;
+  }
 }
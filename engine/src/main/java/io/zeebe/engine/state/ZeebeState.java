@@ -12,6 +12,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.deployment.DeploymentsState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.IncidentState;
 import io.zeebe.engine.state.instance.JobState;
@@ -55,12 +56,28 @@ public class ZeebeState {
 
   public ZeebeState(
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(partitionId, zeebeDb, dbContext, true, WorkflowPersistenceCache.DEFAULT_CACHE_CAPACITY);
+  }
+
+  /**
+   * @param useActivatableJobsIndex if {@code true} then the activatable jobs are kept in an
+   *     in-memory index, see {@link JobState}
+   * @param workflowCacheCapacity the maximum count of deployed workflows which are kept in memory,
+   *     see {@link WorkflowPersistenceCache}
+   */
+  public ZeebeState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final boolean useActivatableJobsIndex,
+      final int workflowCacheCapacity) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState =
+        new WorkflowState(zeebeDb, dbContext, keyState, partitionId, workflowCacheCapacity);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
-    jobState = new JobState(zeebeDb, dbContext, partitionId);
+    jobState = new JobState(zeebeDb, dbContext, partitionId, useActivatableJobsIndex);
     messageState = new MessageState(zeebeDb, dbContext);
     messageSubscriptionState = new MessageSubscriptionState(zeebeDb, dbContext);
     messageStartEventSubscriptionState = new MessageStartEventSubscriptionState(zeebeDb, dbContext);
@@ -150,6 +167,14 @@ public class ZeebeState {
     }
   }
 
+  /**
+   * Must be called after the current transaction is rolled back, to drop the in-memory state which
+   * was changed within the transaction.
+   */
+  public void onRollback() {
+    jobState.onRollback();
+  }
+
   public void markAsProcessed(final long position) {
     lastProcessedPositionState.setPosition(position);
   }
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
@@ -23,11 +24,13 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -35,14 +38,22 @@ import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Persists the deployed workflows and keeps the most recently used ones in memory. The cache is
+ * bounded; if it is full, the least recently used workflow is evicted and transformed again from
+ * the {@link ZbColumnFamilies#WORKFLOW_CACHE} on its next access.
+ */
 public final class WorkflowPersistenceCache {
 
+  public static final int DEFAULT_CACHE_CAPACITY = 512;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
       workflowsByProcessIdAndVersion = new HashMap<>();
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  private final Map<Long, DeployedWorkflow> workflowsByKey;
+  private final WorkflowCacheMetrics metrics;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -61,7 +72,21 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
+    this(zeebeDb, dbContext, partitionId, DEFAULT_CACHE_CAPACITY);
+  }
+
+  /** @param cacheCapacity the maximum count of deployed workflows which are kept in memory */
+  public WorkflowPersistenceCache(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final int cacheCapacity) {
+    if (cacheCapacity < 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected cache capacity to be at least 1, but was %d", cacheCapacity));
+    }
+
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,7 +112,21 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
+    metrics = new WorkflowCacheMetrics(partitionId);
+
+    // access ordered, which means the eldest entry is the least recently used one
+    workflowsByKey =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Entry<Long, DeployedWorkflow> eldest) {
+            if (size() > cacheCapacity) {
+              removeFromVersionIndex(eldest.getValue());
+              metrics.workflowEvicted();
+              return true;
+            }
+            return false;
+          }
+        };
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -133,6 +172,13 @@ public final class WorkflowPersistenceCache {
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = transformWorkflow(persistedWorkflow);
+    addWorkflowToInMemoryState(deployedWorkflow);
+    return deployedWorkflow;
+  }
+
+  private DeployedWorkflow transformWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final var timer = metrics.startTransformation();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
@@ -148,16 +194,12 @@ public final class WorkflowPersistenceCache {
 
     final ExecutableWorkflow executableWorkflow =
         definitions.stream()
-            .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
+            .filter((w) -> BufferUtil.equals(copiedWorkflow.getBpmnProcessId(), w.getId()))
             .findFirst()
             .get();
 
-    final DeployedWorkflow deployedWorkflow =
-        new DeployedWorkflow(executableWorkflow, copiedWorkflow);
-
-    addWorkflowToInMemoryState(deployedWorkflow);
-
-    return deployedWorkflow;
+    timer.observeDuration();
+    return new DeployedWorkflow(executableWorkflow, copiedWorkflow);
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -180,40 +222,32 @@ public final class WorkflowPersistenceCache {
 
     final int version = deployedWorkflow.getVersion();
     versionMap.put(version, deployedWorkflow);
+
+    metrics.cacheSize(workflowsByKey.size());
   }
 
-  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+  private void removeFromVersionIndex(final DeployedWorkflow deployedWorkflow) {
+    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
-    workflowId.wrapBuffer(processId);
-    final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
+        workflowsByProcessIdAndVersion.get(bpmnProcessId);
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
+    if (versionMap != null) {
+      versionMap.remove(deployedWorkflow.getVersion());
+      if (versionMap.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(bpmnProcessId);
       }
     }
-    return deployedWorkflow;
   }
 
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(
-      final LatestWorkflowVersion version) {
-    final long latestVersion = version != null ? version.get() : -1;
-    workflowVersion.wrapLong(latestVersion);
-
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+    workflowId.wrapBuffer(processId);
+    final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
 
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
-      return deployedWorkflow;
+    if (latestVersion == null) {
+      // does not exist in persistence and in memory state
+      return null;
     }
-    return null;
+    return getWorkflowByProcessIdAndVersion(processId, (int) latestVersion.get());
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
@@ -221,14 +255,16 @@ public final class WorkflowPersistenceCache {
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(processId);
 
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
+    final DeployedWorkflow deployedWorkflow = versionMap != null ? versionMap.get(version) : null;
+    if (deployedWorkflow != null) {
+      // mark the workflow as recently used
+      workflowsByKey.get(deployedWorkflow.getKey());
+      metrics.cacheHit();
+      return deployedWorkflow;
     }
+
+    metrics.cacheMiss();
+    return lookupPersistenceState(processId, version);
   }
 
   private DeployedWorkflow lookupPersistenceState(final DirectBuffer processId, final int version) {
@@ -239,14 +275,7 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -256,8 +285,10 @@ public final class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
 
     if (deployedWorkflow != null) {
+      metrics.cacheHit();
       return deployedWorkflow;
     } else {
+      metrics.cacheMiss();
       return lookupPersistenceStateForWorkflowByKey(key);
     }
   }
@@ -267,35 +298,43 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  /**
+   * Returns all deployed workflows. The workflows which are not cached are transformed, but not
+   * added to the cache, to not evict the workflows which are in use.
+   */
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(
+        (key, workflow) -> workflows.add(getCachedOrTransformWorkflow(key.getValue(), workflow)));
+    return workflows;
   }
 
+  /**
+   * Returns all deployed versions of the given workflow. Like {@link #getWorkflows()}, the
+   * workflows which are not cached are transformed, but not added to the cache.
+   */
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getCachedOrTransformWorkflow(workflow.getKey(), workflow));
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getCachedOrTransformWorkflow(
+      final long workflowKey, final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
+    return deployedWorkflow != null ? deployedWorkflow : transformWorkflow(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
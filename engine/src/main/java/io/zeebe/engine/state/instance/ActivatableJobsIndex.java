@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory index of the activatable jobs per job type, which is used to find the jobs to activate
+ * without iterating over the {@link io.zeebe.engine.state.ZbColumnFamilies#JOB_ACTIVATABLE} column
+ * family. The keys of a job type are loaded from the column family when the type is accessed the
+ * first time, and the type is dropped from the index when it has no activatable jobs left. The keys
+ * are kept sorted, so that the jobs are activated in the same order as in the column family.
+ *
+ * <p>The index is updated together with the column family, but it is not part of the transaction.
+ * Therefore, it must be {@link #clear() cleared} when a transaction is rolled back, and the types
+ * are loaded again on the next access.
+ */
+final class ActivatableJobsIndex {
+
+  private final Map<DirectBuffer, JobKeys> jobKeysByType = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+
+  /** @return the keys of the given type, or {@code null} if the type is not loaded */
+  JobKeys get(final DirectBuffer type) {
+    typeView.wrap(type);
+    return jobKeysByType.get(typeView);
+  }
+
+  /** Adds the loaded keys of the given type, unless there are none. */
+  void put(final DirectBuffer type, final JobKeys jobKeys) {
+    if (jobKeys.size() == 0) {
+      return;
+    }
+
+    final UnsafeBuffer typeCopy = new UnsafeBuffer(new byte[type.capacity()]);
+    typeCopy.putBytes(0, type, 0, type.capacity());
+    jobKeysByType.put(typeCopy, jobKeys);
+  }
+
+  void add(final DirectBuffer type, final long jobKey) {
+    final JobKeys jobKeys = get(type);
+    if (jobKeys != null) {
+      jobKeys.add(jobKey);
+    }
+  }
+
+  void remove(final DirectBuffer type, final long jobKey) {
+    final JobKeys jobKeys = get(type);
+    if (jobKeys != null) {
+      jobKeys.remove(jobKey);
+
+      if (jobKeys.size() == 0) {
+        jobKeysByType.remove(typeView);
+      }
+    }
+  }
+
+  void clear() {
+    jobKeysByType.clear();
+  }
+
+  /**
+   * Sorted set of job keys. New jobs have the highest keys, and activated jobs usually have the
+   * lowest keys, so the keys are stored in an array which grows at the tail and shrinks at the
+   * head. The array is allocated on the first key and shrunk when it is mostly empty.
+   */
+  static final class JobKeys {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long[] EMPTY_KEYS = new long[0];
+
+    private long[] keys = EMPTY_KEYS;
+    private int head;
+    private int tail;
+
+    void add(final long key) {
+      if (head == tail || key > keys[tail - 1]) {
+        ensureCapacity();
+        keys[tail++] = key;
+        return;
+      }
+
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        final int insertionPoint = -(index + 1);
+        final int offset = ensureCapacity();
+        final int position = insertionPoint - offset;
+
+        System.arraycopy(keys, position, keys, position + 1, tail - position);
+        keys[position] = key;
+        tail++;
+      }
+    }
+
+    void remove(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return;
+      }
+
+      if (index == head) {
+        head++;
+      } else {
+        System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+        tail--;
+      }
+
+      if (head == tail) {
+        keys = EMPTY_KEYS;
+        head = 0;
+        tail = 0;
+      } else if (keys.length > INITIAL_CAPACITY && size() < keys.length / 4) {
+        moveKeys(new long[keys.length / 2]);
+      }
+    }
+
+    /** @return the lowest key which is greater than the given key, or {@code -1} if none */
+    long next(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      final int nextIndex = index >= 0 ? index + 1 : -(index + 1);
+      return nextIndex < tail ? keys[nextIndex] : -1L;
+    }
+
+    int size() {
+      return tail - head;
+    }
+
+    /** @return the number of positions the keys were moved to the front */
+    private int ensureCapacity() {
+      if (tail < keys.length) {
+        return 0;
+      }
+
+      final int offset = head;
+      if (keys.length == 0) {
+        keys = new long[INITIAL_CAPACITY];
+      } else {
+        moveKeys(size() < keys.length / 2 ? keys : new long[keys.length * 2]);
+      }
+      return offset;
+    }
+
+    /** Moves the keys to the front of the given array, which becomes the new array. */
+    private void moveKeys(final long[] target) {
+      final int size = size();
+      System.arraycopy(keys, head, target, 0, size);
+
+      keys = target;
+      head = 0;
+      tail = size;
+    }
+  }
+}
@@ -17,6 +17,7 @@ import io.zeebe.db.impl.DbString;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.metrics.JobMetrics;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.instance.ActivatableJobsIndex.JobKeys;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.buffer.BufferUtil;
@@ -52,12 +53,28 @@ public final class JobState {
   private final DbCompositeKey<DbLong, DbLong> deadlineJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlinesColumnFamily;
 
+  // type => sorted [key], in memory
+  private final ActivatableJobsIndex activatableJobsIndex;
+
   private final JobMetrics metrics;
 
   private Consumer<String> onJobsAvailableCallback;
 
   public JobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
+    this(zeebeDb, dbContext, partitionId, true);
+  }
+
+  /**
+   * @param useActivatableJobsIndex if {@code true} then the activatable jobs are looked up in an
+   *     in-memory index instead of iterating over the column family, see {@link
+   *     ActivatableJobsIndex}
+   */
+  public JobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final boolean useActivatableJobsIndex) {
     jobKey = new DbLong();
     jobsColumnFamily =
         zeebeDb.createColumnFamily(ZbColumnFamilies.JOBS, dbContext, jobKey, jobRecordToRead);
@@ -77,6 +94,7 @@ public final class JobState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_DEADLINES, dbContext, deadlineJobKey, DbNil.INSTANCE);
 
+    activatableJobsIndex = useActivatableJobsIndex ? new ActivatableJobsIndex() : null;
     metrics = new JobMetrics(partitionId);
   }
 
@@ -209,7 +227,8 @@ public final class JobState {
           final boolean isDue = deadline < upperBound;
           if (isDue) {
             final long jobKey = compositeKey.getSecond().getValue();
-            return visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+            return visitJob(
+                jobKey, callback::apply, () -> deadlinesColumnFamily.delete(compositeKey));
           }
           return false;
         });
@@ -236,8 +255,12 @@ public final class JobState {
     return getState(key) == state;
   }
 
-  public void forEachActivatableJobs(
-      final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
+  public void forEachActivatableJobs(final DirectBuffer type, final JobVisitor callback) {
+    if (activatableJobsIndex != null) {
+      forEachIndexedActivatableJobs(type, callback);
+      return;
+    }
+
     jobTypeKey.wrapBuffer(type);
 
     activatableColumnFamily.whileEqualPrefix(
@@ -248,17 +271,65 @@ public final class JobState {
         }));
   }
 
-  boolean visitJob(
-      final long jobKey,
-      final BiFunction<Long, JobRecord, Boolean> callback,
-      final Runnable cleanupRunnable) {
+  private void forEachIndexedActivatableJobs(final DirectBuffer type, final JobVisitor callback) {
+    final JobKeys jobKeys = getOrLoadActivatableJobKeys(type);
+
+    // the callback may activate the visited job, so don't rely on the position of the keys
+    long key = jobKeys.next(-1L);
+    while (key >= 0) {
+      final long visitedKey = key;
+      final boolean shouldContinue =
+          visitJob(
+              visitedKey,
+              callback,
+              () -> {
+                jobTypeKey.wrapBuffer(type);
+                jobKey.wrapLong(visitedKey);
+                activatableColumnFamily.delete(typeJobKey);
+                activatableJobsIndex.remove(type, visitedKey);
+              });
+
+      if (!shouldContinue) {
+        return;
+      }
+      key = jobKeys.next(visitedKey);
+    }
+  }
+
+  private JobKeys getOrLoadActivatableJobKeys(final DirectBuffer type) {
+    JobKeys jobKeys = activatableJobsIndex.get(type);
+    if (jobKeys == null) {
+      final JobKeys loadedKeys = new JobKeys();
+      jobTypeKey.wrapBuffer(type);
+      activatableColumnFamily.whileEqualPrefix(
+          jobTypeKey,
+          (compositeKey, zbNil) -> {
+            loadedKeys.add(compositeKey.getSecond().getValue());
+          });
+      activatableJobsIndex.put(type, loadedKeys);
+      jobKeys = loadedKeys;
+    }
+    return jobKeys;
+  }
+
+  /**
+   * Must be called when the current transaction is rolled back, to drop the in-memory changes which
+   * are not part of the transaction.
+   */
+  public void onRollback() {
+    if (activatableJobsIndex != null) {
+      activatableJobsIndex.clear();
+    }
+  }
+
+  boolean visitJob(final long jobKey, final JobVisitor callback, final Runnable cleanupRunnable) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
       LOG.error("Expected to find job with key {}, but no job found", jobKey);
       cleanupRunnable.run();
       return true; // we want to continue with the iteration
     }
-    return callback.apply(jobKey, job);
+    return callback.visit(jobKey, job);
   }
 
   public JobRecord updateJobRetries(final long jobKey, final int retries) {
@@ -307,6 +378,10 @@ public final class JobState {
     jobKey.wrapLong(key);
     activatableColumnFamily.put(typeJobKey, DbNil.INSTANCE);
 
+    if (activatableJobsIndex != null) {
+      activatableJobsIndex.add(type, key);
+    }
+
     // always notify
     notifyJobAvailable(type);
   }
@@ -316,6 +391,10 @@ public final class JobState {
 
     jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.delete(typeJobKey);
+
+    if (activatableJobsIndex != null) {
+      activatableJobsIndex.remove(type, jobKey.getValue());
+    }
   }
 
   private void removeJobDeadline(final long deadline) {
@@ -336,4 +415,15 @@ public final class JobState {
       this.value = value;
     }
   }
+
+  @FunctionalInterface
+  public interface JobVisitor {
+
+    /**
+     * @param jobKey the key of the visited job
+     * @param job the visited job, which is reused for the next job
+     * @return {@code true} to continue with the next job, otherwise {@code false}
+     */
+    boolean visit(long jobKey, JobRecord job);
+  }
 }
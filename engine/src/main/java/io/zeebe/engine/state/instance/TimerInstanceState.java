@@ -81,6 +81,18 @@ public final class TimerInstanceState {
     return nextDueDate;
   }
 
+  /** Visits the due dates of all timers, ordered by the due date. */
+  public void forEachTimerDueDate(final TimerDueDateVisitor visitor) {
+    dueDateColumnFamily.forEach(
+        (key, nil) -> {
+          final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+          visitor.visit(
+              key.getFirst().getValue(),
+              elementAndTimerKey.getFirst().getValue(),
+              elementAndTimerKey.getSecond().getValue());
+        });
+  }
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -116,4 +128,9 @@ public final class TimerInstanceState {
   public interface TimerVisitor {
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  public interface TimerDueDateVisitor {
+    void visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
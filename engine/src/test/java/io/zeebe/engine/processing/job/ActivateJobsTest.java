@@ -211,6 +211,43 @@ public final class ActivateJobsTest {
     assertThat(jobEvents).isEmpty();
   }
 
+  @Test
+  public void shouldFetchOnlyRequestedVariablesOfJobBatches() {
+    // given
+    deployAndCreateJobs(taskType, 4, "{'foo':'bar', 'baz':'qux', 'other':'value'}");
+
+    // when
+    final List<JobRecordValue> firstJobs =
+        ENGINE
+            .jobs()
+            .withType(taskType)
+            .withMaxJobsToActivate(2)
+            .withFetchVariables("foo", "baz")
+            .activate()
+            .getValue()
+            .getJobs();
+    final List<JobRecordValue> secondJobs =
+        ENGINE
+            .jobs()
+            .withType(taskType)
+            .withMaxJobsToActivate(2)
+            .withFetchVariables("other")
+            .activate()
+            .getValue()
+            .getJobs();
+
+    // then
+    assertThat(firstJobs)
+        .hasSize(2)
+        .allSatisfy(
+            job ->
+                assertThat(job.getVariables())
+                    .containsOnly(entry("foo", "bar"), entry("baz", "qux")));
+    assertThat(secondJobs)
+        .hasSize(2)
+        .allSatisfy(job -> assertThat(job.getVariables()).containsOnly(entry("other", "value")));
+  }
+
   @Test
   public void shouldCompleteActivatedJobs() {
     // given
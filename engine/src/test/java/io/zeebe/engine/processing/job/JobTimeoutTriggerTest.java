@@ -8,7 +8,10 @@
 package io.zeebe.engine.processing.job;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -61,9 +64,36 @@ public final class JobTimeoutTriggerTest {
     return jobRecord;
   }
 
+  @Test
+  public void shouldWriteTimedOutJobsInOneBatch() {
+    // given
+    when(typedStreamWriter.canWriteEventOfLength(anyInt())).thenReturn(true);
+    when(typedStreamWriter.flush()).thenReturn(1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    final InOrder inOrder = Mockito.inOrder(typedStreamWriter);
+
+    inOrder.verify(typedStreamWriter).reset();
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder.verify(typedStreamWriter).flush();
+    inOrder.verifyNoMoreInteractions();
+  }
+
   @Test
   public void shouldNotWriteAgainAfterFlushFailed() {
     // given
+    when(typedStreamWriter.canWriteEventOfLength(anyInt())).thenReturn(false);
     when(typedStreamWriter.flush()).thenReturn(1L, -1L);
 
     // when
@@ -81,6 +111,8 @@ public final class JobTimeoutTriggerTest {
         .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
     inOrder.verify(typedStreamWriter).flush();
     inOrder.verify(typedStreamWriter).reset();
-    inOrder.verifyNoMoreInteractions();
+    inOrder
+        .verify(typedStreamWriter, never())
+        .appendFollowUpCommand(anyLong(), any(), any(), any());
   }
 }
@@ -317,5 +317,10 @@ public class StreamProcessorHealthTest {
       }
       return wrappedWriter.flush();
     }
+
+    @Override
+    public boolean canWriteEventOfLength(final int eventLength) {
+      return wrappedWriter.canWriteEventOfLength(eventLength);
+    }
   }
 }
@@ -38,6 +38,7 @@ import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.sched.ActorControl;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -673,6 +674,171 @@ public final class StreamProcessorTest {
         .isEqualTo(positionProcessedAfterResume);
   }
 
+  @Test
+  public void shouldProcessRecordsInBatch() {
+    // given
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 1);
+    final long secondPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 2);
+    final long thirdPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 3);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext
+                  .maxProcessingBatchSize(10)
+                  .maxProcessingBatchDuration(Duration.ofMinutes(1));
+              final ZeebeState state = processingContext.getZeebeState();
+              return processors(state.getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<UnifiedRecordValue>() {
+                        @Override
+                        public void processRecord(
+                            final long position,
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          streamWriter.appendFollowUpEvent(
+                              record.getKey(),
+                              WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                              record.getValue());
+                        }
+                      });
+            });
+
+    // then
+    TestUtil.waitUntil(
+        () ->
+            streamProcessorRule
+                    .events()
+                    .onlyWorkflowInstanceRecords()
+                    .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                    .count()
+                == 3);
+
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, secondPosition, thirdPosition);
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(thirdPosition);
+  }
+
+  @Test
+  public void shouldProcessRecordsOneByOneIfRecordInBatchFails() {
+    // given
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING, 1);
+    final long failingPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 2);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 3);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext
+                  .maxProcessingBatchSize(10)
+                  .maxProcessingBatchDuration(Duration.ofMinutes(1));
+              final ZeebeState state = processingContext.getZeebeState();
+              return processors(state.getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<WorkflowInstanceRecord>() {
+                        @Override
+                        public void processRecord(
+                            final long position,
+                            final TypedRecord<WorkflowInstanceRecord> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          if (record.getValue().getWorkflowInstanceKey() == 2) {
+                            throw new RuntimeException("expected");
+                          }
+
+                          streamWriter.appendFollowUpEvent(
+                              record.getKey(),
+                              WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                              record.getValue());
+                        }
+                      });
+            });
+
+    // then
+    TestUtil.waitUntil(
+        () -> streamProcessor.getLastProcessedPositionAsync().join() == lastPosition);
+
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED))
+        .extracting(r -> r.getValue().getWorkflowInstanceKey())
+        .containsExactly(1L, 3L);
+    assertThat(streamProcessorRule.events().onlyErrorRecords())
+        .extracting(r -> r.getValue().getErrorEventPosition())
+        .containsExactly(failingPosition);
+  }
+
+  @Test
+  public void shouldNotifyListenerForEachRecordOfBatch() throws InterruptedException {
+    // given
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 1);
+    final long secondPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 2);
+    final long thirdPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_ACTIVATING, 3);
+
+    final var processedRecords = new CopyOnWriteArrayList<TypedRecord<?>>();
+    final var onProcessedListener = new AwaitableProcessedListener().expect(3);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        processingContext -> {
+          processingContext
+              .maxProcessingBatchSize(10)
+              .maxProcessingBatchDuration(Duration.ofMinutes(1))
+              .onProcessedListener(
+                  record -> {
+                    processedRecords.add(record);
+                    onProcessedListener.accept(record);
+                  });
+          final ZeebeState state = processingContext.getZeebeState();
+          return processors(state.getKeyGenerator())
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                  new TypedRecordProcessor<UnifiedRecordValue>() {});
+        });
+
+    // then
+    assertThat(onProcessedListener.await()).isTrue();
+    assertThat(processedRecords)
+        .extracting(TypedRecord::getPosition)
+        .containsExactly(firstPosition, secondPosition, thirdPosition);
+    assertThat(processedRecords)
+        .extracting(r -> ((WorkflowInstanceRecord) r.getValue()).getWorkflowInstanceKey())
+        .containsExactly(1L, 2L, 3L);
+  }
+
   /**
    * A simple listener which allows you to wait for specific amount of records to be processed.
    *
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class TimerWheelTest {
+
+  private static final long TICK = 100L;
+  private static final int WHEEL_SIZE = 4;
+  private static final int LEVELS = 3;
+  private static final long START = 1_000L;
+
+  private TimerWheel timerWheel;
+
+  @Before
+  public void setUp() {
+    timerWheel = new TimerWheel(TICK, WHEEL_SIZE, LEVELS, START);
+  }
+
+  @Test
+  public void shouldNotExpireTimerBeforeDueDate() {
+    // given
+    timerWheel.add(START + 250, 1L, 2L);
+
+    // when
+    timerWheel.advanceTo(START + 249);
+
+    // then
+    assertThat(expireAll()).isEmpty();
+    assertThat(timerWheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldExpireTimerAtDueDate() {
+    // given
+    timerWheel.add(START + 250, 1L, 2L);
+
+    // when
+    timerWheel.advanceTo(START + 250);
+
+    // then
+    assertThat(expireAll()).containsExactly(2L);
+    assertThat(timerWheel.size()).isZero();
+    assertThat(timerWheel.nextDueDate()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldExpireTimerOfHigherLevel() {
+    // given - a due date which is only covered by the highest level
+    final long dueDate = START + TICK * WHEEL_SIZE * WHEEL_SIZE + 50;
+    timerWheel.add(dueDate, 1L, 2L);
+
+    // when
+    timerWheel.advanceTo(dueDate - 1);
+    final List<Long> expiredBeforeDueDate = expireAll();
+    timerWheel.advanceTo(dueDate);
+
+    // then
+    assertThat(expiredBeforeDueDate).isEmpty();
+    assertThat(expireAll()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldExpireTimerOfOverflow() {
+    // given - a due date which is not covered by the wheel
+    final long dueDate = START + TICK * WHEEL_SIZE * WHEEL_SIZE * WHEEL_SIZE * 3 + 10;
+    timerWheel.add(dueDate, 1L, 2L);
+
+    // when
+    timerWheel.advanceTo(dueDate - 1);
+    final List<Long> expiredBeforeDueDate = expireAll();
+    timerWheel.advanceTo(dueDate);
+
+    // then
+    assertThat(expiredBeforeDueDate).isEmpty();
+    assertThat(expireAll()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldExpireTimerWhichIsAlreadyDue() {
+    // given
+    timerWheel.advanceTo(START + 1_000);
+
+    // when
+    timerWheel.add(START + 10, 1L, 2L);
+    timerWheel.advanceTo(START + 1_000);
+
+    // then
+    assertThat(timerWheel.nextDueDate()).isEqualTo(START + 10);
+    assertThat(expireAll()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldReturnNextDueDate() {
+    // given
+    timerWheel.add(START + 380, 1L, 3L);
+    timerWheel.add(START + 320, 1L, 2L);
+
+    // when
+    final long nextDueDate = timerWheel.nextDueDate();
+
+    // then
+    assertThat(nextDueDate).isEqualTo(START + 320);
+  }
+
+  @Test
+  public void shouldReturnNextCascadeIfHigherLevelTimerIsDueFirst() {
+    // given - a timer of a higher level which is due before a timer of the lowest level
+    timerWheel.add(START + 400, 1L, 2L);
+    timerWheel.advanceTo(START + 100);
+    timerWheel.add(START + 450, 3L, 4L);
+
+    // when
+    final long nextCascade = timerWheel.nextDueDate();
+    timerWheel.advanceTo(nextCascade);
+    final long nextDueDate = timerWheel.nextDueDate();
+    timerWheel.advanceTo(nextDueDate);
+
+    // then
+    assertThat(nextCascade).isEqualTo(START + 200);
+    assertThat(nextDueDate).isEqualTo(START + 400);
+    assertThat(expireAll()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldLimitExpiredTimers() {
+    // given
+    timerWheel.add(START + 10, 1L, 1L);
+    timerWheel.add(START + 20, 1L, 2L);
+    timerWheel.add(START + 30, 1L, 3L);
+    timerWheel.advanceTo(START + 100);
+
+    // when
+    final List<Long> timerKeys = new ArrayList<>();
+    final int expired = timerWheel.expire(2, (dueDate, key, timerKey) -> timerKeys.add(timerKey));
+
+    // then
+    assertThat(expired).isEqualTo(2);
+    assertThat(timerKeys).hasSize(2);
+    assertThat(timerWheel.hasExpiredTimers()).isTrue();
+    assertThat(timerWheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepTimerIfNotConsumed() {
+    // given
+    timerWheel.add(START + 10, 1L, 1L);
+    timerWheel.advanceTo(START + 100);
+
+    // when
+    final int expired = timerWheel.expire(10, (dueDate, key, timerKey) -> false);
+
+    // then
+    assertThat(expired).isZero();
+    assertThat(expireAll()).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldExpireTimersInOrderOfTicks() {
+    // given
+    final Random random = new Random(42);
+    final long maxDueDate = START + TICK * WHEEL_SIZE * WHEEL_SIZE * WHEEL_SIZE * 2;
+    for (long timerKey = 0; timerKey < 1_000; timerKey++) {
+      final long dueDate = START + (long) (random.nextDouble() * (maxDueDate - START));
+      timerWheel.add(dueDate, dueDate, timerKey);
+    }
+
+    // when
+    final List<Long> dueDates = new ArrayList<>();
+    long now = START;
+    while (now <= maxDueDate) {
+      now += random.nextInt((int) TICK * 3);
+      timerWheel.advanceTo(now);
+
+      final long currentTime = now;
+      timerWheel.expire(
+          Integer.MAX_VALUE,
+          (dueDate, key, timerKey) -> {
+            assertThat(dueDate).isLessThanOrEqualTo(currentTime);
+            assertThat(dueDate).isGreaterThan(currentTime - TICK * 3);
+            dueDates.add(dueDate);
+            return true;
+          });
+    }
+
+    // then
+    assertThat(dueDates).hasSize(1_000);
+    assertThat(timerWheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldClear() {
+    // given
+    timerWheel.add(START + 10, 1L, 1L);
+    timerWheel.add(START + 10_000, 1L, 2L);
+
+    // when
+    timerWheel.clear();
+    timerWheel.advanceTo(START + 20_000);
+
+    // then
+    assertThat(timerWheel.size()).isZero();
+    assertThat(expireAll()).isEmpty();
+  }
+
+  private List<Long> expireAll() {
+    final List<Long> timerKeys = new ArrayList<>();
+    timerWheel.expire(Integer.MAX_VALUE, (dueDate, key, timerKey) -> timerKeys.add(timerKey));
+    return timerKeys;
+  }
+}
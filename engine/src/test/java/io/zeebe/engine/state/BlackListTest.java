@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.util.ZeebeStateRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BlackListTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
+  private BlackList blackList;
+
+  @Before
+  public void setUp() {
+    db = stateRule.createNewDb();
+    dbContext = db.createContext();
+    blackList = new BlackList(db, dbContext);
+  }
+
+  @Test
+  public void shouldNotBeOnBlacklistIfEmpty() {
+    // when
+    final boolean isOnBlacklist = blackList.isOnBlacklist(1L);
+
+    // then
+    assertThat(isOnBlacklist).isFalse();
+  }
+
+  @Test
+  public void shouldBeOnBlacklist() {
+    // given
+    blackList.isOnBlacklist(1L);
+
+    // when
+    blackList.blacklist(1L);
+
+    // then
+    assertThat(blackList.isOnBlacklist(1L)).isTrue();
+    assertThat(blackList.isOnBlacklist(2L)).isFalse();
+  }
+
+  @Test
+  public void shouldLoadBlacklistedKeys() {
+    // given
+    blackList.blacklist(1L);
+
+    // when
+    final BlackList loadedBlackList = new BlackList(db, db.createContext());
+
+    // then
+    assertThat(loadedBlackList.isOnBlacklist(1L)).isTrue();
+    assertThat(loadedBlackList.isOnBlacklist(2L)).isFalse();
+  }
+
+  @Test
+  public void shouldNotBeOnBlacklistAfterRollback() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> blackList.blacklist(1L));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(blackList.isOnBlacklist(1L)).isFalse();
+  }
+}
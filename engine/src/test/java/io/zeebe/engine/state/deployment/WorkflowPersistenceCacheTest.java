@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.engine.state.deployment.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class WorkflowPersistenceCacheTest {
+
+  private static final int CACHE_CAPACITY = 2;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> db;
+  private ZeebeState zeebeState;
+  private WorkflowPersistenceCache cache;
+
+  @Before
+  public void setUp() {
+    zeebeState = stateRule.getZeebeState();
+    db = stateRule.createNewDb();
+    cache =
+        new WorkflowPersistenceCache(
+            db, db.createContext(), Protocol.DEPLOYMENT_PARTITION, CACHE_CAPACITY);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final long firstKey = deploy("process", 1);
+    final long secondKey = deploy("process", 2);
+    final long thirdKey = deploy("process", 3);
+
+    final DeployedWorkflow first = cache.getWorkflowByKey(firstKey);
+    final DeployedWorkflow second = cache.getWorkflowByKey(secondKey);
+    cache.getWorkflowByKey(firstKey);
+
+    // when
+    cache.getWorkflowByKey(thirdKey);
+
+    // then
+    assertThat(cache.getWorkflowByKey(firstKey)).isSameAs(first);
+    assertThat(cache.getWorkflowByProcessIdAndVersion(wrapString("process"), 2))
+        .isNotSameAs(second)
+        .extracting(DeployedWorkflow::getKey)
+        .isEqualTo(secondKey);
+  }
+
+  @Test
+  public void shouldTransformEvictedWorkflowAgain() {
+    // given
+    final long firstKey = deploy("process", 1);
+    final long secondKey = deploy("other", 1);
+    final long thirdKey = deploy("another", 1);
+
+    cache.getWorkflowByKey(firstKey);
+    cache.getWorkflowByKey(secondKey);
+    cache.getWorkflowByKey(thirdKey);
+
+    // when
+    final DeployedWorkflow workflow =
+        cache.getWorkflowByProcessIdAndVersion(wrapString("process"), 1);
+
+    // then
+    assertThat(workflow.getKey()).isEqualTo(firstKey);
+    assertThat(workflow.getWorkflow().getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldGetLatestVersionOfEvictedWorkflow() {
+    // given
+    deploy("process", 1);
+    final long latestKey = deploy("process", 2);
+    final long otherKey = deploy("other", 1);
+    final long anotherKey = deploy("another", 1);
+
+    cache.getWorkflowByKey(latestKey);
+    cache.getWorkflowByKey(otherKey);
+    cache.getWorkflowByKey(anotherKey);
+
+    // when
+    final DeployedWorkflow latestWorkflow =
+        cache.getLatestWorkflowVersionByProcessId(wrapString("process"));
+
+    // then
+    assertThat(latestWorkflow.getKey()).isEqualTo(latestKey);
+    assertThat(latestWorkflow.getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldGetAllWorkflowsWithoutFillingCache() {
+    // given
+    final long firstKey = deploy("process", 1);
+    final DeployedWorkflow first = cache.getWorkflowByKey(firstKey);
+    deploy("process", 2);
+    deploy("process", 3);
+
+    // when
+    final var workflows = cache.getWorkflows();
+
+    // then
+    assertThat(workflows).hasSize(3).contains(first);
+    assertThat(cache.getWorkflowByKey(firstKey)).isSameAs(first);
+  }
+
+  private long deploy(final String processId, final int version) {
+    final DeploymentRecord deploymentRecord =
+        creatingDeploymentRecord(zeebeState, processId, version);
+    final long deploymentKey = zeebeState.getKeyGenerator().nextKey();
+    cache.putDeployment(deploymentKey, deploymentRecord);
+    return deploymentRecord.workflows().iterator().next().getKey();
+  }
+}
@@ -11,6 +11,8 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.JobState.State;
 import io.zeebe.engine.util.ZeebeStateRule;
@@ -577,6 +579,126 @@ public final class JobStateTest {
     assertThat(writtenRecord.getTypeBuffer()).isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  public void shouldListActivatableJobsInOrderOfKeys() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(1L, 2L, 3L);
+
+    // when
+    jobState.activate(1L, jobRecord);
+    jobState.activate(2L, jobRecord);
+    final List<Long> keysAfterActivation = getActivatableKeys(wrapString("test"));
+
+    jobState.fail(2L, jobRecord.setRetries(1));
+    final List<Long> keysAfterFailure = getActivatableKeys(wrapString("test"));
+
+    jobState.timeout(1L, jobRecord);
+    final List<Long> keysAfterTimeout = getActivatableKeys(wrapString("test"));
+
+    // then
+    assertThat(keysAfterActivation).containsExactly(3L);
+    assertThat(keysAfterFailure).containsExactly(2L, 3L);
+    assertThat(keysAfterTimeout).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldVisitAllActivatableJobsWhileActivatingThem() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    for (long key = 1; key <= 50; key++) {
+      jobState.create(key, jobRecord);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString("test"),
+        (key, job) -> {
+          visitedKeys.add(key);
+          jobState.activate(key, newJobRecord());
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).hasSize(50).isSorted();
+    assertThat(getActivatableKeys(wrapString("test"))).isEmpty();
+  }
+
+  @Test
+  public void shouldReloadActivatableJobsOnRollback() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    getActivatableKeys(wrapString("test"));
+
+    // when
+    zeebeState.onRollback();
+    jobState.activate(1L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListJobsCreatedAfterAllJobsOfTypeWereActivated() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    getActivatableKeys(wrapString("test"));
+    jobState.activate(1L, jobRecord);
+
+    // when
+    jobState.create(2L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsInOrderAfterMostJobsWereActivated() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, jobRecord);
+    }
+    getActivatableKeys(wrapString("test"));
+
+    // when
+    for (long key = 1; key <= 95; key++) {
+      jobState.activate(key, jobRecord);
+    }
+    jobState.create(200L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test")))
+        .containsExactly(96L, 97L, 98L, 99L, 100L, 200L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsWithoutIndex() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final JobState jobStateWithoutIndex = new JobState(db, db.createContext(), 1, false);
+      final JobRecord jobRecord = newJobRecord();
+      jobStateWithoutIndex.create(1L, jobRecord);
+      jobStateWithoutIndex.create(2L, jobRecord);
+
+      // when
+      jobStateWithoutIndex.activate(1L, jobRecord);
+
+      // then
+      final List<Long> activatableKeys = new ArrayList<>();
+      jobStateWithoutIndex.forEachActivatableJobs(
+          wrapString("test"), (k, e) -> activatableKeys.add(k));
+      assertThat(activatableKeys).containsExactly(2L);
+    }
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
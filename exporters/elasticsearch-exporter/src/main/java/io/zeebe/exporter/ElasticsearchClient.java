@@ -23,12 +23,15 @@ import java.net.URISyntaxException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -38,6 +41,8 @@ import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
@@ -58,7 +63,10 @@ public class ElasticsearchClient {
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
   private List<String> bulkRequest;
+  private long bulkPosition = -1;
+  private long acknowledgedPosition = -1;
   private ElasticsearchMetrics metrics;
 
   public ElasticsearchClient(
@@ -126,6 +134,7 @@ public class ElasticsearchClient {
     // don't re-append when retrying same record, to avoid OOM
     if (bulkRequest.isEmpty() || !bulkRequest.get(bulkRequest.size() - 1).equals(jsonCommand)) {
       bulkRequest.add(jsonCommand);
+      bulkPosition = record.getPosition();
     }
   }
 
@@ -160,6 +169,89 @@ public class ElasticsearchClient {
     bulkRequest = new ArrayList<>();
   }
 
+  /**
+   * Sends the bulk asynchronously, such that records can be indexed while Elasticsearch processes
+   * it. If the configured maximum of bulks already awaits a response, this waits for the oldest
+   * one. Failed bulks are sent again, in their original order of acknowledgement.
+   *
+   * @throws ElasticsearchExporterException if the awaited oldest bulk failed; it is sent again with
+   *     the next flush
+   */
+  public void flushAsync() {
+    retryFailedBulks();
+
+    if (bulkRequest.isEmpty()) {
+      return;
+    }
+
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      awaitOldestBulk();
+    }
+
+    metrics.recordBulkSize(bulkRequest.size());
+    metrics.recordBulkMemorySize(getBulkMemorySize());
+
+    final var bulk = new InFlightBulk(String.join("\n", bulkRequest) + "\n", bulkPosition);
+    inFlightBulks.add(bulk);
+    metrics.recordInFlightBulkRequests(inFlightBulks.size());
+    bulk.send();
+
+    bulkRequest = new ArrayList<>();
+  }
+
+  /**
+   * @return the position of the last record of the bulks which were sent asynchronously and
+   *     acknowledged by Elasticsearch, such that all records up to it were exported, or -1 if there
+   *     is none
+   */
+  public long getAcknowledgedPosition() {
+    acknowledgeBulks();
+    return acknowledgedPosition;
+  }
+
+  /** Waits until all bulks which were sent asynchronously received a response. */
+  public void awaitInFlightBulks() {
+    inFlightBulks.forEach(InFlightBulk::awaitResponse);
+    acknowledgeBulks();
+  }
+
+  private void awaitOldestBulk() {
+    if (!inFlightBulks.getFirst().awaitResponse()) {
+      throw new ElasticsearchExporterException("Failed to flush bulk");
+    }
+
+    acknowledgeBulks();
+  }
+
+  private void acknowledgeBulks() {
+    // a bulk is only acknowledged after all bulks sent before it, so the position is contiguous
+    while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().isAcknowledged()) {
+      acknowledgedPosition = inFlightBulks.removeFirst().position;
+    }
+
+    if (metrics != null) {
+      metrics.recordInFlightBulkRequests(inFlightBulks.size());
+    }
+  }
+
+  private void retryFailedBulks() {
+    for (final var bulk : inFlightBulks) {
+      if (bulk.hasFailed()) {
+        bulk.send();
+      }
+    }
+  }
+
+  private boolean checkBulkResponse(final Response response) {
+    try {
+      return checkBulkResponse(
+          MAPPER.readValue(response.getEntity().getContent(), BulkResponse.class));
+    } catch (final IOException e) {
+      log.warn("Failed to read bulk response", e);
+      return false;
+    }
+  }
+
   private boolean checkBulkResponse(final BulkResponse bulkResponse) {
     final var hasErrors = bulkResponse.hasErrors();
     if (hasErrors) {
@@ -350,4 +442,52 @@ public class ElasticsearchClient {
     command.put("index", contents);
     return command;
   }
+
+  private final class InFlightBulk {
+    private final String body;
+    private final long position;
+    private CompletableFuture<Boolean> response;
+
+    private InFlightBulk(final String body, final long position) {
+      this.body = body;
+      this.position = position;
+    }
+
+    private void send() {
+      final var timer = metrics.measureFlushDuration();
+      final var pendingResponse = new CompletableFuture<Boolean>();
+      response = pendingResponse;
+
+      final var request = new Request("POST", "/_bulk");
+      request.setJsonEntity(body);
+      client.performRequestAsync(
+          request,
+          new ResponseListener() {
+            @Override
+            public void onSuccess(final Response response) {
+              timer.observeDuration();
+              pendingResponse.complete(checkBulkResponse(response));
+            }
+
+            @Override
+            public void onFailure(final Exception exception) {
+              timer.observeDuration();
+              log.warn("Failed to flush bulk", exception);
+              pendingResponse.complete(false);
+            }
+          });
+    }
+
+    private boolean awaitResponse() {
+      return response.join();
+    }
+
+    private boolean isAcknowledged() {
+      return response.isDone() && response.join();
+    }
+
+    private boolean hasFailed() {
+      return response.isDone() && !response.join();
+    }
+  }
 }
@@ -33,6 +33,7 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchClient client;
 
   private long lastPosition = -1;
+  private long acknowledgedPosition = -1;
   private boolean indexTemplatesCreated;
 
   @Override
@@ -61,6 +62,11 @@ public class ElasticsearchExporter implements Exporter {
 
     try {
       flush();
+
+      if (configuration.bulk.isPipelined()) {
+        client.awaitInFlightBulks();
+        updateAcknowledgedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -83,6 +89,10 @@ public class ElasticsearchExporter implements Exporter {
     client.index(record);
     lastPosition = record.getPosition();
 
+    if (configuration.bulk.isPipelined()) {
+      updateAcknowledgedPosition();
+    }
+
     if (client.shouldFlush()) {
       flush();
     }
@@ -101,6 +111,13 @@ public class ElasticsearchExporter implements Exporter {
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
+
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch max in-flight bulk requests must be at least 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
   }
 
   protected ElasticsearchClient createClient() {
@@ -122,8 +139,21 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    client.flush();
-    controller.updateLastExportedRecordPosition(lastPosition);
+    if (configuration.bulk.isPipelined()) {
+      client.flushAsync();
+      updateAcknowledgedPosition();
+    } else {
+      client.flush();
+      controller.updateLastExportedRecordPosition(lastPosition);
+    }
+  }
+
+  private void updateAcknowledgedPosition() {
+    final long position = client.getAcknowledgedPosition();
+    if (position > acknowledgedPosition) {
+      acknowledgedPosition = position;
+      controller.updateLastExportedRecordPosition(position);
+    }
   }
 
   private void createIndexTemplates() {
@@ -37,6 +37,14 @@ public class ElasticsearchMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge IN_FLIGHT_BULK_REQUESTS =
+      Gauge.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("in_flight_bulk_requests")
+          .help("Exporter bulk requests which await a response")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -54,4 +62,8 @@ public class ElasticsearchMetrics {
   public void recordBulkMemorySize(final int bulkMemorySize) {
     BULK_MEMORY_SIZE.labels(partitionIdLabel).set(bulkMemorySize);
   }
+
+  public void recordInFlightBulkRequests(final int inFlightBulkRequests) {
+    IN_FLIGHT_BULK_REQUESTS.labels(partitionIdLabel).set(inFlightBulkRequests);
+  }
 }
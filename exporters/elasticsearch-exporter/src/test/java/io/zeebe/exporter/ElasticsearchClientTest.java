@@ -204,4 +204,27 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     // then
     assertThat(client.shouldFlush()).isTrue();
   }
+
+  @Test
+  public void shouldAcknowledgePositionOfFlushedBulksWhenPipelined() {
+    // given
+    configuration.bulk.maxInFlightRequests = 2;
+
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
+    when(recordMock.toJson()).thenReturn("{}");
+
+    // when
+    for (int i = 1; i <= 3; i++) {
+      when(recordMock.getKey()).thenReturn(RECORD_KEY + i);
+      when(recordMock.getPosition()).thenReturn((long) i);
+      client.index(recordMock);
+      client.flushAsync();
+    }
+    client.awaitInFlightBulks();
+
+    // then
+    assertThat(client.getAcknowledgedPosition()).isEqualTo(3L);
+  }
 }
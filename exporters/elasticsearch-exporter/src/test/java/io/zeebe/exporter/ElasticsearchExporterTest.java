@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -313,6 +314,77 @@ public class ElasticsearchExporterTest {
     verify(esClient, times(1)).flush();
   }
 
+  @Test
+  public void shouldUpdateAcknowledgedPositionWhenPipelined() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    createAndOpenExporter();
+
+    // when
+    final Record record =
+        testHarness.export(
+            r ->
+                r.getMetadata()
+                    .setValueType(ValueType.WORKFLOW_INSTANCE)
+                    .setRecordType(RecordType.EVENT));
+    when(esClient.getAcknowledgedPosition()).thenReturn(record.getPosition());
+    testHarness.getController().runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+    // then
+    verify(esClient, never()).flush();
+    verify(esClient, times(2)).flushAsync();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(record.getPosition());
+  }
+
+  @Test
+  public void shouldNotUpdatePositionBeforeAcknowledgementWhenPipelined() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    when(esClient.getAcknowledgedPosition()).thenReturn(-1L);
+    createAndOpenExporter();
+
+    // when
+    testHarness.export(
+        r ->
+            r.getMetadata()
+                .setValueType(ValueType.WORKFLOW_INSTANCE)
+                .setRecordType(RecordType.EVENT));
+
+    // then
+    verify(esClient).flushAsync();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldAwaitInFlightBulksOnCloseWhenPipelined() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    createAndOpenExporter();
+
+    // when
+    testHarness.close();
+
+    // then
+    verify(esClient).flushAsync();
+    verify(esClient).awaitInFlightBulks();
+  }
+
+  @Test
+  public void shouldFailOnInvalidMaxInFlightRequests() {
+    // given
+    config.bulk.maxInFlightRequests = 0;
+
+    createExporterAndTestHarness();
+
+    // then
+    assertThatThrownBy(() -> testHarness.configure("els", config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessage(
+            "Elasticsearch max in-flight bulk requests must be at least 1. Current value: 0");
+  }
+
   @Test
   public void shouldFailOnWrongPrefix() {
     // given
@@ -105,7 +105,9 @@ public final class Gateway {
       actorScheduler.submitActor(longPollingHandler);
       activateJobsHandler = longPollingHandler;
     } else {
-      activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+      activateJobsHandler =
+          new RoundRobinActivateJobsHandler(
+              brokerClient, gatewayCfg.getCluster().getActivateJobsParallelism());
     }
 
     final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
@@ -182,7 +184,10 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setActivateJobsParallelism(gatewayCfg.getCluster().getActivateJobsParallelism())
+        .build();
   }
 
   public void listenAndServe() throws InterruptedException, IOException {
@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 
@@ -39,7 +40,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerTopologyManagerImpl topologyManager;
   private final AtomixCluster atomixCluster;
   private final boolean ownsActorScheduler;
-  private final BrokerRequestManager requestManager;
+  private final BrokerRequestManager[] requestManagers;
+  private final AtomicInteger nextRequestManager = new AtomicInteger();
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
 
@@ -86,16 +88,24 @@ public final class BrokerClientImpl implements BrokerClient {
         .forEach(
             member -> topologyManager.event(new ClusterMembershipEvent(Type.MEMBER_ADDED, member)));
 
+    // the requests are distributed over several request managers, each with its own transport,
+    // so that they can be sent and their responses handled concurrently
     final var messagingService = atomixCluster.getMessagingService();
-    final var atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
-    actorScheduler.submitActor(atomixTransportAdapter);
-    requestManager =
-        new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
-    actorScheduler.submitActor(requestManager);
+    final var dispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
+    requestManagers =
+        new BrokerRequestManager[Math.max(1, configuration.getThreads().getRequestManagers())];
+    for (int i = 0; i < requestManagers.length; i++) {
+      final var atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
+      actorScheduler.submitActor(atomixTransportAdapter);
+      requestManagers[i] =
+          new BrokerRequestManager(
+              i,
+              atomixTransportAdapter,
+              topologyManager,
+              dispatchStrategy,
+              clusterCfg.getRequestTimeout());
+      actorScheduler.submitActor(requestManagers[i]);
+    }
   }
 
   @Override
@@ -131,25 +141,25 @@ public final class BrokerClientImpl implements BrokerClient {
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(final BrokerRequest<T> request) {
-    return requestManager.sendRequest(request);
+    return nextRequestManager().sendRequest(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequest(request, requestTimeout);
+    return nextRequestManager().sendRequest(request, requestTimeout);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request) {
-    return requestManager.sendRequestWithRetry(request);
+    return nextRequestManager().sendRequestWithRetry(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequestWithRetry(request, requestTimeout);
+    return nextRequestManager().sendRequestWithRetry(request, requestTimeout);
   }
 
   @Override
@@ -157,7 +167,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final BrokerRequest<T> request,
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
-    requestManager
+    nextRequestManager()
         .sendRequestWithRetry(request)
         .whenComplete(
             (response, error) -> {
@@ -195,7 +205,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final Consumer<Throwable> throwableConsumer,
       final Duration requestTimeout) {
 
-    requestManager
+    nextRequestManager()
         .sendRequestWithRetry(request, requestTimeout)
         .whenComplete(
             (response, error) -> {
@@ -207,6 +217,15 @@ public final class BrokerClientImpl implements BrokerClient {
             });
   }
 
+  private BrokerRequestManager nextRequestManager() {
+    if (requestManagers.length == 1) {
+      return requestManagers[0];
+    }
+
+    return requestManagers[
+        Math.floorMod(nextRequestManager.getAndIncrement(), requestManagers.length)];
+  }
+
   private void doAndLogException(final Runnable r) {
     try {
       r.run();
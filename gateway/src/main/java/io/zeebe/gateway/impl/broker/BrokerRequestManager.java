@@ -45,8 +45,11 @@ final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final int id;
+  private final String actorName;
 
   BrokerRequestManager(
+      final int id,
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
@@ -55,6 +58,13 @@ final class BrokerRequestManager extends Actor {
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.id = id;
+    actorName = "BrokerRequestManager-" + id;
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -102,6 +112,10 @@ final class BrokerRequestManager extends Actor {
       final Duration requestTimeout) {
     final CompletableFuture<BrokerResponse<T>> responseFuture = new CompletableFuture<>();
     request.serializeValue();
+
+    GatewayMetrics.incPendingRequests(id);
+    responseFuture.whenComplete((response, error) -> GatewayMetrics.decPendingRequests(id));
+
     actor.run(() -> sendRequestInternal(request, responseFuture, sender, requestTimeout));
     return responseFuture;
   }
@@ -24,17 +24,28 @@ public final class PartitionIdIterator implements Iterator<Integer> {
       final int startPartitionId,
       final int partitionsCount,
       final BrokerTopologyManager topologyManager) {
-    iterator =
+    this(
         IntStream.range(0, partitionsCount)
             .map(
                 index ->
                     (index + startPartitionId - START_PARTITION_ID) % partitionsCount
                         + START_PARTITION_ID)
             .filter(p -> hasLeader(topologyManager, p))
-            .iterator();
+            .iterator());
   }
 
-  private boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
+  private PartitionIdIterator(final OfInt iterator) {
+    this.iterator = iterator;
+  }
+
+  /** @return an iterator which returns only the given partition, if it has a leader */
+  public static PartitionIdIterator ofPartition(
+      final int partitionId, final BrokerTopologyManager topologyManager) {
+    return new PartitionIdIterator(
+        IntStream.of(partitionId).filter(p -> hasLeader(topologyManager, p)).iterator());
+  }
+
+  private static boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
     final var topology = topologyManager.getTopology();
     return topology != null && topology.getLeaderForPartition(p) != BrokerClusterState.NODE_ID_NULL;
   }
@@ -15,6 +15,7 @@ import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
@@ -49,6 +50,19 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * @return a new request with the same values, e.g. to send the request to several partitions
+   *     concurrently
+   */
+  public BrokerActivateJobsRequest copy() {
+    final var buffer = new UnsafeBuffer(new byte[requestDto.getLength()]);
+    requestDto.write(buffer, 0);
+
+    final var copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(buffer);
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
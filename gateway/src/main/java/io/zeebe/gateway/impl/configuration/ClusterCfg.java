@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.impl.configuration;
 
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_ACTIVATE_JOBS_PARALLELISM;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_HOST;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_MEMBER_ID;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_NAME;
@@ -22,6 +23,7 @@ public final class ClusterCfg {
   private String contactPoint = DEFAULT_CONTACT_POINT_HOST + ":" + DEFAULT_CONTACT_POINT_PORT;
 
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private int activateJobsParallelism = DEFAULT_ACTIVATE_JOBS_PARALLELISM;
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   private String host = DEFAULT_CLUSTER_HOST;
@@ -73,6 +75,15 @@ public final class ClusterCfg {
     return this;
   }
 
+  public int getActivateJobsParallelism() {
+    return activateJobsParallelism;
+  }
+
+  public ClusterCfg setActivateJobsParallelism(final int activateJobsParallelism) {
+    this.activateJobsParallelism = activateJobsParallelism;
+    return this;
+  }
+
   public String getClusterName() {
     return clusterName;
   }
@@ -92,7 +103,8 @@ public final class ClusterCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(contactPoint, requestTimeout, clusterName, memberId, host, port);
+    return Objects.hash(
+        contactPoint, requestTimeout, activateJobsParallelism, clusterName, memberId, host, port);
   }
 
   @Override
@@ -105,6 +117,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && activateJobsParallelism == that.activateJobsParallelism
         && Objects.equals(contactPoint, that.contactPoint)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -120,6 +133,8 @@ public final class ClusterCfg {
         + '\''
         + ", requestTimeout='"
         + requestTimeout
+        + ", activateJobsParallelism="
+        + activateJobsParallelism
         + ", clusterName='"
         + clusterName
         + '\''
@@ -20,6 +20,7 @@ public final class ConfigurationDefaults {
   public static final String DEFAULT_MAX_MESSAGE_SIZE = "4M";
   public static final int DEFAULT_MAX_MESSAGE_COUNT = 16;
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
+  public static final int DEFAULT_ACTIVATE_JOBS_PARALLELISM = 1;
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final boolean DEFAULT_TLS_ENABLED = false;
 
@@ -32,6 +33,7 @@ public final class ConfigurationDefaults {
   public static final int DEFAULT_MONITORING_PORT = 9600;
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
+  public static final int DEFAULT_REQUEST_MANAGERS = 1;
 
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
@@ -19,10 +19,12 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.encoding.JobsAvailableNotification;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,10 +34,12 @@ import org.slf4j.Logger;
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>Partition leaders notify the gateway when jobs became available on their partition. Blocked
+ * requests are then sent only to the notifying partition, instead of to all partitions.
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -56,9 +60,10 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int activateJobsParallelism) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, activateJobsParallelism);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -72,7 +77,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    brokerClient.subscribeJobAvailableNotification(
+        JobsAvailableNotification.TOPIC, this::onNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -124,10 +130,55 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     }
   }
 
-  private void onNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+  private void activateJobsOnPartition(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int partitionId) {
+    state.addActiveRequest(request);
+
+    activateJobsHandler.activateJobsOnPartition(
+        partitionId,
+        request.getRequest(),
+        request.getMaxJobsToActivate(),
+        request.getType(),
+        response -> onResponse(request, response),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            onCompletedOnPartition(state, request, partitionId, remainingAmount));
+  }
+
+  private void onNotification(final String payload) {
+    final JobsAvailableNotification notification = JobsAvailableNotification.decode(payload);
+    LOG.trace("Received {}.", notification);
+
+    actor.run(
+        () ->
+            resetFailedAttemptsAndHandlePendingRequestsOnPartition(
+                notification.getJobType(), notification.getPartitionId()));
+  }
+
+  private void onCompletedOnPartition(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int partitionId,
+      final int remainingAmount) {
+    actor.submit(
+        () -> {
+          final boolean shouldBeRepeated = state.shouldBeRepeated(request);
+          state.removeActiveRequest(request);
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+          if (remainingAmount < request.getMaxJobsToActivate()) {
+            request.complete();
+            // the partition may have more jobs available for the other blocked requests
+            handlePendingRequestsOnPartition(state, partitionId);
+          } else if (shouldBeRepeated) {
+            activateJobs(request);
+          } else {
+            // the jobs were already activated by another request, so wait for the next
+            // notification; this is not counted as a failed attempt since only one partition
+            // was asked
+            completeOrEnqueueRequest(getJobTypeState(request.getType()), request);
+          }
+        });
   }
 
   private void onCompleted(
@@ -203,6 +254,37 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     }
   }
 
+  private void resetFailedAttemptsAndHandlePendingRequestsOnPartition(
+      final String jobType, final int partitionId) {
+    final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
+
+    state.resetFailedAttempts();
+
+    if (!handlePendingRequestsOnPartition(state, partitionId) && !state.hasActiveRequests()) {
+      jobTypeState.remove(jobType);
+    }
+  }
+
+  private boolean handlePendingRequestsOnPartition(
+      final InFlightLongPollingActivateJobsRequestsState state, final int partitionId) {
+    final Queue<LongPollingActivateJobsRequest> pendingRequests = state.getPendingRequests();
+    if (pendingRequests.isEmpty()) {
+      return false;
+    }
+
+    // copy the requests, since activating a request removes it from the pending requests
+    new ArrayList<>(pendingRequests)
+        .forEach(
+            nextPendingRequest -> {
+              LOG.trace(
+                  "Unblocking ActivateJobsRequest {} on partition {}",
+                  nextPendingRequest.getRequest(),
+                  partitionId);
+              activateJobsOnPartition(state, nextPendingRequest, partitionId);
+            });
+    return true;
+  }
+
   private void completeOrEnqueueRequest(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request) {
@@ -278,6 +360,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int activateJobsParallelism = 1;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -299,10 +382,19 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    public Builder setActivateJobsParallelism(final int activateJobsParallelism) {
+      this.activateJobsParallelism = activateJobsParallelism;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          activateJobsParallelism);
     }
   }
 }
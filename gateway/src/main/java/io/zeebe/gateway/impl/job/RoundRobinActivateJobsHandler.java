@@ -19,10 +19,17 @@ import io.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.zeebe.protocol.record.ErrorCode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -30,16 +37,30 @@ import java.util.function.Consumer;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If the parallelism is greater than one, then the jobs are activated on several partitions
+ * concurrently. The partitions which returned jobs of the type the last time are asked first.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final Map<String, Set<Integer>> jobTypeToPartitionsWithJobs = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final int parallelism;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, 1);
+  }
+
+  /**
+   * @param brokerClient the client to send the requests to the brokers
+   * @param parallelism the number of partitions which are asked concurrently for jobs
+   */
+  public RoundRobinActivateJobsHandler(final BrokerClient brokerClient, final int parallelism) {
     this.brokerClient = brokerClient;
+    this.parallelism = parallelism;
     topologyManager = brokerClient.getTopologyManager();
   }
 
@@ -67,6 +88,18 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final String type,
       final Consumer<ActivateJobsResponse> onResponse,
       final BiConsumer<Integer, Boolean> onCompleted) {
+    if (parallelism > 1) {
+      new ParallelActivation(
+              request,
+              partitionIdsForType(type, partitionsCount),
+              maxJobsToActivate,
+              type,
+              onResponse,
+              onCompleted)
+          .sendRequests();
+      return;
+    }
+
     activateJobs(
         request,
         partitionIdIteratorForType(type, partitionsCount),
@@ -76,6 +109,26 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         onCompleted);
   }
 
+  /**
+   * Activates jobs only on the given partition, e.g. after the partition notified that jobs of the
+   * type became available. This avoids empty round-trips to the other partitions.
+   */
+  public void activateJobsOnPartition(
+      final int partitionId,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    activateJobs(
+        request,
+        PartitionIdIterator.ofPartition(partitionId, topologyManager),
+        maxJobsToActivate,
+        type,
+        onResponse,
+        onCompleted);
+  }
+
   private void activateJobs(
       final BrokerActivateJobsRequest request,
       final PartitionIdIterator partitionIdIterator,
@@ -138,7 +191,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                 } else {
                   final boolean wasResourceExhausted = wasResourceExhausted(error);
                   if (!wasResourceExhausted) {
-                    logErrorResponse(partitionIdIterator, jobType, error);
+                    logErrorResponse(partitionIdIterator.getCurrentPartitionId(), jobType, error);
                   }
 
                   activateJobs(
@@ -168,12 +221,9 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
   }
 
   private void logErrorResponse(
-      final PartitionIdIterator partitionIdIterator, final String jobType, final Throwable error) {
+      final int partitionId, final String jobType, final Throwable error) {
     Loggers.GATEWAY_LOGGER.warn(
-        "Failed to activate jobs for type {} from partition {}",
-        jobType,
-        partitionIdIterator.getCurrentPartitionId(),
-        error);
+        "Failed to activate jobs for type {} from partition {}", jobType, partitionId, error);
   }
 
   private PartitionIdIterator partitionIdIteratorForType(
@@ -184,4 +234,139 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     return new PartitionIdIterator(
         nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
   }
+
+  /**
+   * Returns the partitions with a leader in round-robin order, but starts with the partitions which
+   * returned jobs of the type the last time.
+   */
+  private Deque<Integer> partitionIdsForType(final String jobType, final int partitionsCount) {
+    final Set<Integer> partitionsWithJobs = partitionsWithJobs(jobType);
+    final PartitionIdIterator partitionIdIterator =
+        partitionIdIteratorForType(jobType, partitionsCount);
+
+    final Deque<Integer> partitionIds = new ArrayDeque<>(partitionsCount);
+    final List<Integer> otherPartitionIds = new ArrayList<>(partitionsCount);
+    while (partitionIdIterator.hasNext()) {
+      final int partitionId = partitionIdIterator.next();
+      if (partitionsWithJobs.contains(partitionId)) {
+        partitionIds.add(partitionId);
+      } else {
+        otherPartitionIds.add(partitionId);
+      }
+    }
+
+    partitionIds.addAll(otherPartitionIds);
+    return partitionIds;
+  }
+
+  private Set<Integer> partitionsWithJobs(final String jobType) {
+    return jobTypeToPartitionsWithJobs.computeIfAbsent(jobType, t -> ConcurrentHashMap.newKeySet());
+  }
+
+  /**
+   * Activates jobs on up to {@link #parallelism} partitions concurrently. The remaining amount of
+   * jobs is split between the concurrent requests, so that never more jobs are activated than
+   * requested. The amount which a partition didn't fill is requested from the next partitions. A
+   * partition which filled its amount is asked again, as it may have more jobs.
+   *
+   * <p>The responses are handled one at a time, as they may be completed on different threads.
+   */
+  private final class ParallelActivation {
+
+    private final BrokerActivateJobsRequest request;
+    private final Deque<Integer> partitionIds;
+    private final String jobType;
+    private final Set<Integer> partitionsWithJobs;
+    private final Consumer<ActivateJobsResponse> onResponse;
+    private final BiConsumer<Integer, Boolean> onCompleted;
+
+    // the amount of jobs which is not requested yet
+    private int unrequestedAmount;
+    private int inFlightRequests;
+    private boolean resourceExhaustedWasPresent;
+    private boolean completed;
+
+    private ParallelActivation(
+        final BrokerActivateJobsRequest request,
+        final Deque<Integer> partitionIds,
+        final int maxJobsToActivate,
+        final String jobType,
+        final Consumer<ActivateJobsResponse> onResponse,
+        final BiConsumer<Integer, Boolean> onCompleted) {
+      this.request = request;
+      this.partitionIds = partitionIds;
+      this.jobType = jobType;
+      this.onResponse = onResponse;
+      this.onCompleted = onCompleted;
+      unrequestedAmount = maxJobsToActivate;
+      partitionsWithJobs = partitionsWithJobs(jobType);
+    }
+
+    private synchronized void sendRequests() {
+      while (inFlightRequests < parallelism && unrequestedAmount > 0 && !partitionIds.isEmpty()) {
+        final int concurrentRequests =
+            Math.min(parallelism - inFlightRequests, partitionIds.size());
+        final int amount = (unrequestedAmount + concurrentRequests - 1) / concurrentRequests;
+        final int partitionId = partitionIds.poll();
+
+        unrequestedAmount -= amount;
+        inFlightRequests++;
+        sendRequest(partitionId, amount);
+      }
+
+      if (inFlightRequests == 0 && !completed) {
+        // enough jobs activated or no more partitions left to check
+        completed = true;
+        onCompleted.accept(unrequestedAmount, resourceExhaustedWasPresent);
+      }
+    }
+
+    private void sendRequest(final int partitionId, final int amount) {
+      final BrokerActivateJobsRequest partitionRequest = request.copy();
+      partitionRequest.setPartitionId(partitionId);
+      partitionRequest.setMaxJobsToActivate(amount);
+
+      brokerClient
+          .sendRequest(partitionRequest)
+          .whenComplete((response, error) -> onResponse(partitionId, amount, response, error));
+    }
+
+    private synchronized void onResponse(
+        final int partitionId,
+        final int amount,
+        final BrokerResponse<JobBatchRecord> response,
+        final Throwable error) {
+      inFlightRequests--;
+
+      if (error == null) {
+        final ActivateJobsResponse grpcResponse =
+            ResponseMapper.toActivateJobsResponse(response.getKey(), response.getResponse());
+        final int jobsCount = grpcResponse.getJobsCount();
+        unrequestedAmount += amount - jobsCount;
+
+        if (jobsCount > 0) {
+          partitionsWithJobs.add(partitionId);
+          onResponse.accept(grpcResponse);
+        } else {
+          partitionsWithJobs.remove(partitionId);
+        }
+
+        if (jobsCount == amount || response.getResponse().getTruncated()) {
+          // the partition may have more jobs
+          partitionIds.addFirst(partitionId);
+        }
+      } else {
+        unrequestedAmount += amount;
+
+        final boolean wasResourceExhausted = wasResourceExhausted(error);
+        if (wasResourceExhausted) {
+          resourceExhaustedWasPresent = true;
+        } else {
+          logErrorResponse(partitionId, jobType, error);
+        }
+      }
+
+      sendRequests();
+    }
+  }
 }
@@ -8,6 +8,7 @@
 package io.zeebe.gateway.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public final class GatewayMetrics {
@@ -36,6 +37,14 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Gauge PENDING_REQUESTS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_pending_requests")
+          .help("Number of requests of a request manager which wait for a response")
+          .labelNames("requestManager")
+          .register();
+
   private GatewayMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +58,12 @@ public final class GatewayMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  public static void incPendingRequests(final int requestManager) {
+    PENDING_REQUESTS.labels(Integer.toString(requestManager)).inc();
+  }
+
+  public static void decPendingRequests(final int requestManager) {
+    PENDING_REQUESTS.labels(Integer.toString(requestManager)).dec();
+  }
 }
@@ -10,6 +10,7 @@ package io.zeebe.gateway.api.job;
 import static io.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
@@ -38,6 +39,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -101,7 +103,7 @@ public final class LongPollingActivateJobsTest {
     waitUntil(request::hasScheduledTimer);
     stub.addAvailableJobs(TYPE, 1);
     verify(responseSpy, times(0)).onCompleted();
-    brokerClient.notifyJobsAvailable(TYPE);
+    brokerClient.notifyJobsAvailable(TYPE, 1);
 
     // then
     verify(responseSpy, timeout(2000).times(1)).onNext(any());
@@ -136,27 +138,77 @@ public final class LongPollingActivateJobsTest {
   @Test
   public void shouldUnblockAllRequestsWhenJobsAvailable() throws Exception {
     // given
+    final int partitionId = 1;
     final int amount = 3;
-    activateJobsAndWaitUntilBlocked(amount);
+    final List<LongPollingActivateJobsRequest> requests = activateJobsAndWaitUntilBlocked(amount);
     final int firstRound = amount * partitionsCount;
 
     verify(stub, times(firstRound)).handle(any());
 
     // when
     stub.addAvailableJobs(TYPE, 1);
-    brokerClient.notifyJobsAvailable(TYPE);
+    brokerClient.notifyJobsAvailable(TYPE, partitionId);
 
     // then
+    // the job available notification triggers all three requests again on the notified partition
+    verify(stub, timeout(2000).atLeast(firstRound + amount)).handle(any());
+    waitUntil(() -> requests.stream().anyMatch(LongPollingActivateJobsRequest::isCompleted));
+  }
+
+  @Test
+  public void shouldActivateJobsOnlyOnNotifiedPartition() throws Exception {
+    // given
+    final int partitionId = 2;
+    final int amount = FAILED_RESPONSE_THRESHOLD;
+    final List<LongPollingActivateJobsRequest> requests = activateJobsAndWaitUntilBlocked(amount);
+    final int firstRound = amount * partitionsCount;
+    verify(stub, times(firstRound)).handle(any());
 
-    // the job available notification triggers all three requests again
-    final int invTriggeredByNotification = amount * partitionsCount;
-    // the one request which has a result, re-triggers the remaining requests
-    final int invTriggeredBySuccessfulRequest = (amount - 1) * partitionsCount;
-    verify(
-            stub,
-            timeout(2000)
-                .times(firstRound + invTriggeredByNotification + invTriggeredBySuccessfulRequest))
+    final List<Integer> requestedPartitions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final BrokerActivateJobsRequest request = invocation.getArgument(0);
+              requestedPartitions.add(request.getPartitionId());
+              return invocation.callRealMethod();
+            })
+        .when(stub)
         .handle(any());
+
+    // when
+    stub.addAvailableJobs(TYPE, amount);
+    brokerClient.notifyJobsAvailable(TYPE, partitionId);
+
+    // then
+    // each request activates up to two jobs
+    final int requestsWithJobs = (amount + 1) / 2;
+    waitUntil(
+        () ->
+            requests.stream().filter(LongPollingActivateJobsRequest::isCompleted).count()
+                == requestsWithJobs);
+    assertThat(requestedPartitions).hasSizeGreaterThanOrEqualTo(amount).containsOnly(partitionId);
+  }
+
+  @Test
+  public void shouldKeepRequestBlockedIfNotifiedPartitionHasNoJobs() throws Exception {
+    // given
+    final int partitionId = 2;
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+    verify(stub, times(partitionsCount)).handle(any());
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, partitionId);
+
+    // then
+    verify(stub, timeout(2000).times(partitionsCount + 1)).handle(any());
+    verify(request.getResponseObserver(), never()).onCompleted();
+
+    // and the request is still unblocked by the next notification
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE, partitionId);
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onNext(any());
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onCompleted();
   }
 
   @Test
@@ -185,7 +237,7 @@ public final class LongPollingActivateJobsTest {
     // when
     final LongPollingActivateJobsRequest successRequest = getLongPollingActivateJobsRequest();
     stub.addAvailableJobs(TYPE, 1);
-    brokerClient.notifyJobsAvailable(TYPE);
+    brokerClient.notifyJobsAvailable(TYPE, 1);
     handler.activateJobs(successRequest);
 
     // then
@@ -319,7 +371,7 @@ public final class LongPollingActivateJobsTest {
     actorClock.addTime(Duration.ofMillis(requestTimeout));
     waitUntil(shortRequest::isTimedOut);
     stub.addAvailableJobs(TYPE, 2);
-    brokerClient.notifyJobsAvailable(TYPE);
+    brokerClient.notifyJobsAvailable(TYPE, 1);
 
     // then
     assertThat(longRequest.isTimedOut()).isFalse();
@@ -391,7 +443,7 @@ public final class LongPollingActivateJobsTest {
               requestsPerPartitionCount.put(partitionId, requestsPerPartition + 1);
 
               if (partitionId == 3) {
-                brokerClient.notifyJobsAvailable(TYPE);
+                brokerClient.notifyJobsAvailable(TYPE, partitionId);
               }
               return noJobsAvailableStub.handle(request);
             } else {
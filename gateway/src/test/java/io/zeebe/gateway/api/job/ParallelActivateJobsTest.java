@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class ParallelActivateJobsTest extends GatewayTest {
+
+  private static final int PARALLELISM = 2;
+
+  public ParallelActivateJobsTest(final boolean isLongPollingEnabled) {
+    super(getConfig(isLongPollingEnabled));
+  }
+
+  @Parameters(name = "{index}: longPolling.enabled[{0}]")
+  public static Iterable<Object[]> data() {
+    return Arrays.asList(new Object[][] {{true}, {false}});
+  }
+
+  private static GatewayCfg getConfig(final boolean isLongPollingEnabled) {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(isLongPollingEnabled);
+    config.getCluster().setActivateJobsParallelism(PARALLELISM);
+    return config;
+  }
+
+  @Test
+  public void shouldSplitRequestedAmountBetweenPartitions() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String type = "test";
+    stub.addAvailableJobs(type, 1);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(type)
+            .setWorker("worker")
+            .setMaxJobsToActivate(4)
+            .addFetchVariable("foo")
+            .build();
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs(request);
+
+    // then
+    assertThat(jobs).hasSize(1);
+
+    final BrokerActivateJobsRequest firstRequest =
+        (BrokerActivateJobsRequest) brokerClient.getBrokerRequests().get(0);
+    assertThat(firstRequest.getRequestWriter().getMaxJobsToActivate()).isEqualTo(2);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .allSatisfy(
+            brokerRequest -> {
+              final var value = ((BrokerActivateJobsRequest) brokerRequest).getRequestWriter();
+              assertThat(value.getType()).isEqualTo(type);
+              assertThat(value.getWorker()).isEqualTo("worker");
+              assertThat(value.variables())
+                  .extracting(v -> BufferUtil.bufferAsString(v.getValue()))
+                  .containsExactly("foo");
+            });
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(BrokerActivateJobsRequest.class::cast)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .contains(Protocol.START_PARTITION_ID, Protocol.START_PARTITION_ID + 1);
+  }
+
+  @Test
+  public void shouldActivateRequestedAmountOfJobs() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String type = "test";
+    final int maxJobsToActivate = 7;
+    stub.addAvailableJobs(type, 20);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(type)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs(request);
+
+    // then
+    assertThat(jobs).hasSize(maxJobsToActivate);
+  }
+
+  @Test
+  public void shouldActivateAllAvailableJobs() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String type = "test";
+    final int maxJobsToActivate = 6;
+    stub.addAvailableJobs(type, 5);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(type)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs(request);
+
+    // then
+    assertThat(jobs).hasSize(5);
+  }
+
+  private List<ActivatedJob> activateJobs(final ActivateJobsRequest request) {
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    final var responses = client.activateJobs(request);
+    while (responses.hasNext()) {
+      final ActivateJobsResponse response = responses.next();
+      jobs.addAll(response.getJobsList());
+    }
+    return jobs;
+  }
+}
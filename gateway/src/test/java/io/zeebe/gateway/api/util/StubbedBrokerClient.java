@@ -19,6 +19,7 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.JobsAvailableNotification;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -116,8 +117,12 @@ public final class StubbedBrokerClient implements BrokerClient {
     requestHandlers.put(requestType, requestHandler);
   }
 
-  public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    jobsAvailableHandler.accept(JobsAvailableNotification.encode(partitionId, type));
+  }
+
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
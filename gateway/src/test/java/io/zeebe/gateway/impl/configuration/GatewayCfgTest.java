@@ -36,6 +36,7 @@ public final class GatewayCfgTest {
         .getCluster()
         .setContactPoint("foobar:1234")
         .setRequestTimeout(Duration.ofHours(123))
+        .setActivateJobsParallelism(8)
         .setClusterName("testCluster")
         .setMemberId("testMember")
         .setHost("1.2.3.4")
@@ -46,7 +47,7 @@ public final class GatewayCfgTest {
         .setCertificateChainPath("certificateChainPath")
         .setPrivateKeyPath("privateKeyPath");
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
-    CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG.getThreads().setManagementThreads(100).setRequestManagers(10);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
   }
 
@@ -144,7 +145,9 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.port", "5432");
     setEnv("zeebe.gateway.cluster.contactPoint", "broker:432");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
+    setEnv("zeebe.gateway.threads.requestManagers", "4");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
+    setEnv("zeebe.gateway.cluster.activateJobsParallelism", "3");
     setEnv("zeebe.gateway.cluster.longPollingEnabled", "false");
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
@@ -178,11 +181,12 @@ public final class GatewayCfgTest {
         .getCluster()
         .setContactPoint("broker:432")
         .setRequestTimeout(Duration.ofMinutes(43))
+        .setActivateJobsParallelism(3)
         .setClusterName("envCluster")
         .setMemberId("envMember")
         .setHost("envHost")
         .setPort(12345);
-    expected.getThreads().setManagementThreads(32);
+    expected.getThreads().setManagementThreads(32).setRequestManagers(4);
     expected.getMonitoring().setEnabled(true).setHost("monitorHost").setPort(231);
     expected
         .getSecurity()
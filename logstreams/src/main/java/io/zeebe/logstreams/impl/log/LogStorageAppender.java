@@ -22,7 +22,6 @@ import io.zeebe.logstreams.impl.backpressure.BackpressureConstants;
 import io.zeebe.logstreams.impl.backpressure.NoopAppendLimiter;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.util.Environment;
-import io.zeebe.util.collection.Tuple;
 import io.zeebe.util.health.FailureListener;
 import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.health.HealthStatus;
@@ -32,7 +31,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.LongConsumer;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 /** Consume the write buffer and append the blocks to the distributedlog. */
@@ -54,6 +53,8 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
   private final LongConsumer commitPositionListener;
+  private long lowestPosition;
+  private long highestPosition;
 
   public LogStorageAppender(
       final String name,
@@ -108,16 +109,19 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void appendBlock(final BlockPeek blockPeek) {
-    final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
-    final int bytes = rawBuffer.remaining();
-    final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Tuple<Long, Long> positions = readLowestHighestPosition(copiedBuffer);
+    final DirectBuffer block = blockPeek.getBuffer();
+    readLowestHighestPosition(block);
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
-    if (appendEntryLimiter.tryAcquire(positions.getRight())) {
-      final var listener = new Listener(this, positions.getRight());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
+    if (appendEntryLimiter.tryAcquire(highestPosition)) {
+      // the block is released when it is marked as completed, so it is copied once before the
+      // append; it is not copied again while it is deferred by the back pressure
+      final ByteBuffer copiedBuffer = ByteBuffer.allocate(block.capacity());
+      block.getBytes(0, copiedBuffer, 0, block.capacity());
+
+      final var listener = new Listener(this, highestPosition);
+      logStorage.append(lowestPosition, highestPosition, copiedBuffer, listener);
 
       blockPeek.markCompleted();
     } else {
@@ -173,20 +177,18 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
-  private Tuple<Long, Long> readLowestHighestPosition(final ByteBuffer buffer) {
-    final var view = new UnsafeBuffer(buffer);
-    final var positions = new Tuple<>(Long.MAX_VALUE, Long.MIN_VALUE);
+  private void readLowestHighestPosition(final DirectBuffer block) {
+    lowestPosition = Long.MAX_VALUE;
+    highestPosition = Long.MIN_VALUE;
     var offset = 0;
 
     do {
-      positionReader.wrap(view, offset);
+      positionReader.wrap(block, offset);
       final long pos = positionReader.getPosition();
-      positions.setLeft(Math.min(positions.getLeft(), pos));
-      positions.setRight(Math.max(positions.getRight(), pos));
+      lowestPosition = Math.min(lowestPosition, pos);
+      highestPosition = Math.max(highestPosition, pos);
       offset += positionReader.getLength();
-    } while (offset < view.capacity());
-
-    return positions;
+    } while (offset < block.capacity());
   }
 
   @Override
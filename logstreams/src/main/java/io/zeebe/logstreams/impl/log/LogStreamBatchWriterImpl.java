@@ -8,6 +8,7 @@
 package io.zeebe.logstreams.impl.log;
 
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedBatchLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.HEADER_BLOCK_LENGTH;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.headerLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.metadataOffset;
@@ -85,6 +86,13 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int count = eventCount + 1;
+    final int batchLength = eventLength + length + (count * HEADER_BLOCK_LENGTH);
+    return claimedBatchLength(count, batchLength) < logWriteBuffer.getMaxFragmentLength();
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -165,6 +173,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putLong(eventBufferOffset, key, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_LONG;
 
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -233,6 +244,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_LONG;
 
+      final long eventSourcePosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -254,7 +268,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       if (sourceIndex >= 0 && sourceIndex < i) {
         setSourceEventPosition(writeBuffer, bufferOffset, firstPosition + sourceIndex);
       } else {
-        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setSourceEventPosition(writeBuffer, bufferOffset, eventSourcePosition);
       }
 
       setKey(writeBuffer, bufferOffset, key);
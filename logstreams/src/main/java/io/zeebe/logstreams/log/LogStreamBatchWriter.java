@@ -17,7 +17,11 @@ import org.agrona.DirectBuffer;
  * <p>Note that the log entry data is buffered until {@link #tryWrite()} is called.
  */
 public interface LogStreamBatchWriter extends LogStreamWriter {
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for all log entries which are added afterwards. Entries which were added
+   * to the batch before keep their source event, which allows to write follow-up events of
+   * different source events in one batch.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Returns the builder to add a new log entry to the batch. */
@@ -25,6 +29,15 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Returns true if an additional event with the given length (metadata and value) can be added to
+   * the current batch, without exceeding the maximum fragment length.
+   *
+   * @param length the length of the additional event
+   * @return true if the event would still fit into the batch, false otherwise
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
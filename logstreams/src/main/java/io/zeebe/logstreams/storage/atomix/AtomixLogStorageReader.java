@@ -66,16 +66,35 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   }
 
   /**
-   * This is currently a quite slow implementation as Atomix does not support navigating backwards;
-   * it would require a refactor there if this is ever too slow.
+   * Reads the last ZeebeEntry, whose index is known by the index mapping, so usually only a single
+   * entry is read. If the index is not known, e.g. after the log was truncated, then the log is
+   * walked backwards; this is quite slow as Atomix does not support navigating backwards.
    *
    * <p>{@inheritDoc}
    */
   @Override
   public long readLastBlock(final DirectBuffer readBuffer) {
     final var firstIndex = reader.getFirstIndex();
-    var index = reader.getLastIndex();
+    final var lastZeebeEntryIndex = zeebeIndexMapping.lookupLastZeebeEntryIndex();
+
+    if (lastZeebeEntryIndex >= firstIndex && lastZeebeEntryIndex <= reader.getLastIndex()) {
+      // the index may be lower than the index of the last ZeebeEntry, so read until the end
+      Indexed<ZeebeEntry> lastEntry = null;
+      reader.reset(lastZeebeEntryIndex);
+      while (reader.hasNext()) {
+        final var indexed = reader.next();
+        if (indexed.type() == ZeebeEntry.class) {
+          lastEntry = indexed.cast();
+        }
+      }
 
+      if (lastEntry != null) {
+        wrapEntryData(lastEntry, readBuffer);
+        return lastEntry.index() + 1;
+      }
+    }
+
+    var index = reader.getLastIndex();
     do {
       reader.reset(index);
       if (!reader.hasNext()) {
@@ -95,7 +114,8 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   }
 
   /**
-   * Performs binary search over all known Atomix entries to find the entry containing our position.
+   * Looks up the index of the entry containing the given position in the index mapping, which
+   * returns the closest indexed entry with a lower or equal position.
    *
    * <p>{@inheritDoc}
    */
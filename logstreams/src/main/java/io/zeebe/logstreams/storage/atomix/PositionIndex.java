@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.atomix.storage.journal.index.SortedLongMap;
+
+/**
+ * Maps the lowest position of a {@link io.atomix.raft.zeebe.ZeebeEntry} to its index. As the
+ * positions grow with the indexes, both are kept in a {@link SortedLongMap}, which can be searched
+ * by index as well as by position.
+ */
+final class PositionIndex {
+
+  static final long NO_INDEX = SortedLongMap.NO_KEY;
+
+  private final SortedLongMap positions = new SortedLongMap();
+
+  void add(final long index, final long lowestPosition) {
+    positions.put(index, lowestPosition);
+  }
+
+  /**
+   * @param position the position to look up
+   * @return the index of the entry with the highest lowest position which is lower or equal to the
+   *     given position, or {@link #NO_INDEX} if there is none
+   */
+  long lookupPosition(final long position) {
+    return positions.floorKeyByValue(position);
+  }
+
+  /**
+   * @param index the index to look up
+   * @return the highest index which is lower or equal to the given index, or {@link #NO_INDEX} if
+   *     there is none
+   */
+  long floorIndex(final long index) {
+    return positions.floorKey(index);
+  }
+
+  /** Removes all entries with a higher index than the given index. */
+  void truncate(final long index) {
+    positions.truncate(index);
+  }
+
+  /** Removes all entries which are lower than the highest index lower than the given index. */
+  void compact(final long index) {
+    positions.compact(index - 1);
+  }
+}
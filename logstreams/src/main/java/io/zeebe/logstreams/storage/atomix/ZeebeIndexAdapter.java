@@ -12,20 +12,14 @@ import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
 import io.atomix.storage.journal.index.SparseJournalIndex;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
-      new ConcurrentSkipListMap<>();
+  private final PositionIndex positionIndex = new PositionIndex();
   private final SparseJournalIndex sparseJournalIndex;
-  private final int density;
+  private volatile long lastZeebeEntryIndex = PositionIndex.NO_INDEX;
 
   private ZeebeIndexAdapter(final int density) {
-    this.density = density;
     sparseJournalIndex = new SparseJournalIndex(density);
   }
 
@@ -36,19 +30,26 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
   @Override
   public void index(final Indexed indexedEntry, final int position) {
     final var index = indexedEntry.index();
-    if (index % density == 0) {
-      if (indexedEntry.type() == ZeebeEntry.class) {
+    if (indexedEntry.type() == ZeebeEntry.class) {
+      if (isIndexed(index)) {
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
-        final var lowestPosition = zeebeEntry.lowestPosition();
+        positionIndex.add(index, zeebeEntry.lowestPosition());
+      }
 
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+      // the segments may be loaded in any order
+      if (index > lastZeebeEntryIndex) {
+        lastZeebeEntryIndex = index;
       }
     }
 
     sparseJournalIndex.index(indexedEntry, position);
   }
 
+  @Override
+  public boolean isIndexed(final long index) {
+    return sparseJournalIndex.isIndexed(index);
+  }
+
   @Override
   public Position lookup(final long index) {
     return sparseJournalIndex.lookup(index);
@@ -56,15 +57,10 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
-
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+    positionIndex.truncate(index);
+    if (lastZeebeEntryIndex > index) {
+      // the last indexed entry is not necessarily the last ZeebeEntry, but it is a lower bound
+      lastZeebeEntryIndex = positionIndex.floorIndex(index);
     }
 
     sparseJournalIndex.truncate(index);
@@ -72,29 +68,17 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
-
-    if (lowerEntry != null) {
-
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
-
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
-    }
-
+    positionIndex.compact(index);
     sparseJournalIndex.compact(index);
   }
 
   @Override
   public long lookupPosition(final long position) {
-    long index = -1L;
-
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
-    }
+    return positionIndex.lookupPosition(position);
+  }
 
-    return index;
+  @Override
+  public long lookupLastZeebeEntryIndex() {
+    return lastZeebeEntryIndex;
   }
 }
@@ -17,4 +17,13 @@ public interface ZeebeIndexMapping {
    * @return
    */
   long lookupPosition(long position);
+
+  /**
+   * Returns the index of the last ZeebeEntry, so that the last entry can be read without walking
+   * backwards through the log. If the log was truncated, the index may be lower than the index of
+   * the last ZeebeEntry.
+   *
+   * @return the index of the last ZeebeEntry, or -1 if it is not known
+   */
+  long lookupLastZeebeEntryIndex();
 }
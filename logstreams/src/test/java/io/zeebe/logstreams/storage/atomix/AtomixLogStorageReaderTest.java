@@ -140,6 +140,22 @@ public final class AtomixLogStorageReaderTest {
     assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
   }
 
+  @Test
+  public void shouldReadLastOfManyZeebeEntries() {
+    // given
+    final var reader = storageRule.get().newReader();
+    append(1, 4, allocateData(1));
+    append(5, 8, allocateData(2));
+    final var expected = append(9, 12, allocateData(3));
+
+    // when
+    final var address = reader.readLastBlock(buffer);
+
+    // then
+    assertThat(address).isEqualTo(expected.index() + 1);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(3);
+  }
+
   @Test
   public void shouldReturnEmptyIfLogIsEmpty() {
     // given
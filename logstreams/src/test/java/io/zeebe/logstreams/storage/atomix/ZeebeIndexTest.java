@@ -220,6 +220,60 @@ public class ZeebeIndexTest {
     assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
   }
 
+  @Test
+  public void shouldFindIndexWhenIndexedOutOfOrder() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+
+    // when - the second segment is loaded before the first one
+    zeebeIndexAdapter.index(asZeebeEntry(10, 45), 20);
+    zeebeIndexAdapter.index(asZeebeEntry(15, 70), 30);
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(19)).isEqualTo(-1);
+    assertThat(zeebeIndexAdapter.lookupPosition(21)).isEqualTo(5);
+    assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
+    assertThat(zeebeIndexAdapter.lookupPosition(70)).isEqualTo(15);
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(15);
+  }
+
+  @Test
+  public void shouldLookupLastZeebeEntryIndex() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+
+    // when
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+    zeebeIndexAdapter.index(asZeebeEntry(6, 25), 12);
+    zeebeIndexAdapter.index(
+        new Indexed<>(7, new InitializeEntry(0, System.currentTimeMillis()), 10), 14);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldLookupLowerLastZeebeEntryIndexAfterTruncate() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+    zeebeIndexAdapter.index(asZeebeEntry(6, 25), 12);
+    zeebeIndexAdapter.index(asZeebeEntry(7, 30), 14);
+
+    // when
+    zeebeIndexAdapter.truncate(6);
+
+    // then - the last indexed entry is known
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(5);
+
+    // when
+    zeebeIndexAdapter.truncate(4);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(-1);
+  }
+
   private static Indexed asZeebeEntry(final long index, final long lowestPos) {
     return new Indexed(
         index,
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+/**
+ * Notification which is published by a partition leader when jobs of a type became activatable on
+ * its partition. It is encoded as {@code <partitionId>:<jobType>}, which allows the gateway to send
+ * the blocked activate jobs requests of this type directly to the notifying partition, instead of
+ * fanning them out to all partitions.
+ *
+ * <p>The notification is published on its own topic. The legacy topic, which only contains the job
+ * type, is still published for the gateways of older versions, but isn't subscribed to anymore.
+ */
+public final class JobsAvailableNotification {
+
+  public static final String TOPIC = "jobsAvailableOnPartition";
+  public static final String LEGACY_TOPIC = "jobsAvailable";
+
+  private static final char SEPARATOR = ':';
+
+  private final int partitionId;
+  private final String jobType;
+
+  private JobsAvailableNotification(final int partitionId, final String jobType) {
+    this.partitionId = partitionId;
+    this.jobType = jobType;
+  }
+
+  public static String encode(final int partitionId, final String jobType) {
+    return partitionId + String.valueOf(SEPARATOR) + jobType;
+  }
+
+  public static JobsAvailableNotification decode(final String payload) {
+    // the job type may contain the separator, but the partition id doesn't
+    final int separatorIndex = payload.indexOf(SEPARATOR);
+    final int partitionId = Integer.parseInt(payload.substring(0, separatorIndex));
+    return new JobsAvailableNotification(partitionId, payload.substring(separatorIndex + 1));
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public String getJobType() {
+    return jobType;
+  }
+
+  @Override
+  public String toString() {
+    return "JobsAvailableNotification{"
+        + "partitionId="
+        + partitionId
+        + ", jobType='"
+        + jobType
+        + '\''
+        + '}';
+  }
+}
@@ -8,23 +8,23 @@
 package io.zeebe.snapshots.broker.impl;
 
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
 import io.zeebe.snapshots.raft.SnapshotChunk;
-import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
-import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.SortedMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,7 +61,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
+    final var id = getFile(chunkId);
+    final var file = directory.resolve(SnapshotChunkUtil.getFileName(id));
+    final var position = SnapshotChunkUtil.getFileBlockPosition(id);
+
+    // the chunks of a file are written in order, so the file contains the chunk if it goes beyond
+    // the position of the chunk
+    return Files.exists(file) && (position == 0 || file.toFile().length() > position);
   }
 
   @Override
@@ -80,18 +86,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   @Override
   public boolean apply(final SnapshotChunk snapshotChunk) throws IOException {
-    final var currentSnapshotChecksum = snapshotChunk.getSnapshotChecksum();
-
-    if (isSnapshotIdInvalid(snapshotChunk.getSnapshotId())) {
-      return FAILED;
-    }
-
-    if (isSnapshotChecksumInvalid(currentSnapshotChecksum)) {
-      return FAILED;
-    }
-
-    final var currentTotalCount = snapshotChunk.getTotalCount();
-    if (isTotalCountInvalid(currentTotalCount)) {
+    if (isChunkInvalid(snapshotChunk)) {
       return FAILED;
     }
 
@@ -123,15 +118,96 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    final var fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    if (fileBlockPosition == 0 && Files.exists(snapshotFile)) {
       LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
       return FAILED;
     }
 
-    LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    if (fileBlockPosition > 0
+        && (!Files.exists(snapshotFile) || Files.size(snapshotFile) != fileBlockPosition)) {
+      LOGGER.warn(
+          "Expected to write snapshot chunk {} at the end of '{}', but it doesn't end at position {}.",
+          chunkName,
+          snapshotFile,
+          fileBlockPosition);
+      return FAILED;
+    }
+
+    LOGGER.debug(
+        "Consume snapshot snapshotChunk {} at position {} of snapshot {}",
+        chunkName,
+        fileBlockPosition,
+        snapshotId);
     return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
   }
 
+  @Override
+  public boolean reuse(final SnapshotChunk snapshotChunk) throws IOException {
+    if (isChunkInvalid(snapshotChunk)) {
+      return FAILED;
+    }
+
+    final String snapshotId = snapshotChunk.getSnapshotId();
+    final String chunkName = snapshotChunk.getChunkName();
+
+    if (snapshotStore.hasSnapshotId(snapshotId)) {
+      LOGGER.debug(
+          "Ignore snapshot snapshotChunk {}, because snapshot {} already exists.",
+          chunkName,
+          snapshotId);
+      return SUCCESS;
+    }
+
+    final var latestSnapshot = snapshotStore.getLatestFileBasedSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return FAILED;
+    }
+
+    // the checksum of the file is known from when the latest snapshot was persisted, such that the
+    // file isn't read again
+    final var latestSnapshotFile = latestSnapshot.get().getPath().resolve(chunkName);
+    final var latestSnapshotChecksum = latestSnapshot.get().getFileChecksums().get(chunkName);
+    if (latestSnapshotChecksum == null
+        || latestSnapshotChecksum != snapshotChunk.getChecksum()
+        || !Files.exists(latestSnapshotFile)
+        || Files.size(latestSnapshotFile) != snapshotChunk.getTotalFileSize()) {
+      LOGGER.debug(
+          "Expected to reuse snapshot chunk {} of snapshot {}, but latest snapshot {} doesn't contain it.",
+          chunkName,
+          snapshotId,
+          latestSnapshot.get().getId());
+      return FAILED;
+    }
+
+    FileUtil.ensureDirectoryExists(directory);
+
+    final var snapshotFile = directory.resolve(chunkName);
+    if (Files.exists(snapshotFile)) {
+      LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
+      return FAILED;
+    }
+
+    LOGGER.debug(
+        "Reuse snapshot snapshotChunk {} of snapshot {} from {}",
+        chunkName,
+        snapshotId,
+        latestSnapshotFile);
+    try {
+      Files.createLink(snapshotFile, latestSnapshotFile);
+    } catch (final UnsupportedOperationException | IOException e) {
+      LOGGER.debug("Failed to link {}, copy it instead.", latestSnapshotFile, e);
+      Files.copy(latestSnapshotFile, snapshotFile);
+    }
+    return SUCCESS;
+  }
+
+  private boolean isChunkInvalid(final SnapshotChunk snapshotChunk) {
+    return isSnapshotIdInvalid(snapshotChunk.getSnapshotId())
+        || isSnapshotChecksumInvalid(snapshotChunk.getSnapshotChecksum())
+        || isTotalCountInvalid(snapshotChunk.getTotalCount());
+  }
+
   private boolean isSnapshotChecksumInvalid(final long currentSnapshotChecksum) {
     if (expectedSnapshotChecksum == Long.MIN_VALUE) {
       expectedSnapshotChecksum = currentSnapshotChecksum;
@@ -172,8 +248,18 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private boolean writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
-    Files.write(snapshotFile, snapshotChunk.getContent(), CREATE_NEW, StandardOpenOption.WRITE);
-    LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
+    final var position = snapshotChunk.getFileBlockPosition();
+    final var content = ByteBuffer.wrap(snapshotChunk.getContent());
+    final var openOptions =
+        position == 0 ? new OpenOption[] {CREATE_NEW, WRITE} : new OpenOption[] {WRITE};
+
+    try (final var channel = FileChannel.open(snapshotFile, openOptions)) {
+      while (content.hasRemaining()) {
+        channel.write(content, position + content.position());
+      }
+    }
+    LOGGER.trace(
+        "Wrote replicated snapshot chunk to file {} at position {}", snapshotFile, position);
     return SUCCESS;
   }
 
@@ -209,15 +295,14 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               expectedSnapshotChecksum, files.length, Arrays.toString(files)));
     }
 
-    final var filePaths =
-        Arrays.stream(files).sorted().map(File::toPath).collect(Collectors.toList());
-    final long actualSnapshotChecksum;
+    final SortedMap<String, Long> fileChecksums;
     try {
-      actualSnapshotChecksum = ChecksumUtil.createCombinedChecksum(filePaths);
+      fileChecksums = SnapshotChunkUtil.createFileChecksums(directory);
     } catch (final IOException e) {
       throw new UncheckedIOException("Unexpected exception on calculating snapshot checksum.", e);
     }
 
+    final long actualSnapshotChecksum = SnapshotChunkUtil.createSnapshotChecksum(fileChecksums);
     if (actualSnapshotChecksum != expectedSnapshotChecksum) {
       throw new IllegalStateException(
           String.format(
@@ -225,7 +310,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               expectedSnapshotChecksum, actualSnapshotChecksum));
     }
 
-    return snapshotStore.newSnapshot(metadata, directory);
+    return snapshotStore.newSnapshot(metadata, directory, fileChecksums);
   }
 
   public Path getPath() {
@@ -7,6 +7,8 @@
  */
 package io.zeebe.snapshots.broker.impl;
 
+import static io.zeebe.snapshots.broker.impl.SnapshotChunkUtil.createFileChecksums;
+
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
@@ -15,7 +17,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.SortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,10 +30,19 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final FileBasedSnapshotMetadata metadata;
-
-  FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+  private final int maxChunkSize;
+  // the checksums of the files, computed once; null until then if the snapshot was loaded from disk
+  private volatile SortedMap<String, Long> fileChecksums;
+
+  FileBasedSnapshot(
+      final Path directory,
+      final FileBasedSnapshotMetadata metadata,
+      final int maxChunkSize,
+      final SortedMap<String, Long> fileChecksums) {
     this.directory = directory;
     this.metadata = metadata;
+    this.maxChunkSize = maxChunkSize;
+    this.fileChecksums = fileChecksums;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -60,10 +73,23 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return metadata.getTerm();
   }
 
+  /**
+   * Returns the checksums of the files of this snapshot, ordered by their name. They are computed
+   * when the snapshot is persisted, or only once on the first call if it was loaded from disk.
+   *
+   * @return the checksums of the files by their name
+   */
+  SortedMap<String, Long> getFileChecksums() throws IOException {
+    if (fileChecksums == null) {
+      fileChecksums = Collections.unmodifiableSortedMap(createFileChecksums(directory));
+    }
+    return fileChecksums;
+  }
+
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, getFileChecksums(), maxChunkSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -10,60 +10,95 @@ package io.zeebe.snapshots.broker.impl;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
-import io.zeebe.util.ChecksumUtil;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.SortedMap;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each file in a root directory is split into chunks of a bounded
+ * size. Files are then ordered lexicographically, and the chunks of a file by their position in the
+ * file. The files are assumed to be immutable, i.e. no more are added to the directory once this is
+ * created. The chunks are read from the files when they are requested, such that only one chunk is
+ * held in memory at a time.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  // RocksDB never modifies its SST files, so consecutive checkpoints share most of them
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+  private static final byte[] NO_CONTENT = new byte[0];
 
   private final Path directory;
-  private final NavigableSet<CharSequence> chunks;
+  private final int maxChunkSize;
+  private final NavigableSet<FileBlock> chunks;
   private final CharSequenceView chunkIdView;
+  private final SortedMap<String, Long> fileChecksums;
 
-  private NavigableSet<CharSequence> chunksView;
+  private NavigableSet<FileBlock> chunksView;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
 
-  FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this.directory = directory;
-    chunks = collectChunks(directory);
-    totalCount = chunks.size();
-    chunksView = chunks;
-    chunkIdView = new CharSequenceView();
+  FileBasedSnapshotChunkReader(final Path directory, final int maxChunkSize) throws IOException {
+    this(directory, SnapshotChunkUtil.createFileChecksums(directory), maxChunkSize);
+  }
 
-    try (final var fileStream = Files.list(directory).sorted()) {
-      snapshotChecksum =
-          ChecksumUtil.createCombinedChecksum(fileStream.collect(Collectors.toList()));
+  /**
+   * @param fileChecksums the checksums of the files in the directory, which are passed such that a
+   *     reusable chunk doesn't read its file again
+   */
+  FileBasedSnapshotChunkReader(
+      final Path directory, final SortedMap<String, Long> fileChecksums, final int maxChunkSize)
+      throws IOException {
+    if (maxChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max chunk size to be positive, but was " + maxChunkSize);
     }
 
+    this.directory = directory;
+    this.fileChecksums = fileChecksums;
+    this.maxChunkSize = maxChunkSize;
+    chunks = new TreeSet<>(FileBlock.COMPARATOR);
+    totalCount = collectChunks(directory);
+    chunksView = chunks;
+    chunkIdView = new CharSequenceView();
+    snapshotChecksum = SnapshotChunkUtil.createSnapshotChecksum(fileChecksums);
     snapshotID = directory.getFileName().toString();
   }
 
-  private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
-    final var set = new TreeSet<>(CharSequence::compare);
+  private int collectChunks(final Path directory) throws IOException {
+    int fileCount = 0;
     try (final var stream = Files.list(directory).sorted()) {
-      stream.map(directory::relativize).map(Path::toString).forEach(set::add);
+      for (final var path : (Iterable<Path>) stream::iterator) {
+        final var fileName = directory.relativize(path).toString();
+        final long fileSize = Files.size(path);
+
+        // an empty file consists of one empty chunk
+        long position = 0;
+        do {
+          chunks.add(new FileBlock(fileName, position, fileSize));
+          position += maxChunkSize;
+        } while (position < fileSize);
+
+        fileCount++;
+      }
     }
-    return set;
+    return fileCount;
   }
 
   @Override
@@ -72,8 +107,13 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id).toString();
+    final var block =
+        new FileBlock(
+            SnapshotChunkUtil.getFileName(chunkId),
+            SnapshotChunkUtil.getFileBlockPosition(chunkId),
+            0);
+    chunksView = chunks.tailSet(block, true);
   }
 
   @Override
@@ -85,10 +125,38 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return encodeChunkId(chunksView.first());
   }
 
+  @Override
+  public Optional<SnapshotChunk> nextReusable() {
+    if (chunksView.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var block = chunksView.first();
+    if (block.position != 0 || !block.fileName.endsWith(IMMUTABLE_FILE_SUFFIX)) {
+      return Optional.empty();
+    }
+
+    final long checksum = fileChecksums.get(block.fileName);
+
+    // skip the remaining chunks of the file
+    chunksView = chunks.tailSet(new FileBlock(block.fileName, Long.MAX_VALUE, 0), false);
+
+    return Optional.of(
+        SnapshotChunkUtil.createSnapshotChunk(
+            snapshotID,
+            totalCount,
+            block.fileName,
+            checksum,
+            NO_CONTENT,
+            snapshotChecksum,
+            block.position,
+            block.fileSize));
+  }
+
   @Override
   public void close() {
     chunks.clear();
-    chunksView.clear();
+    chunksView = chunks;
   }
 
   @Override
@@ -98,29 +166,74 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    // the chunk is not removed, such that the reader can seek back to it
+    final var block = chunksView.first();
+    chunksView = chunks.tailSet(block, false);
 
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path.toFile(), snapshotID, totalCount, snapshotChecksum);
+      final byte[] content = readBlock(block);
+      return SnapshotChunkUtil.createSnapshotChunk(
+          snapshotID,
+          totalCount,
+          block.fileName,
+          SnapshotChunkUtil.createChecksum(content),
+          content,
+          snapshotChecksum,
+          block.position,
+          block.fileSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private byte[] readBlock(final FileBlock block) throws IOException {
+    final var content = new byte[(int) Math.min(maxChunkSize, block.fileSize - block.position)];
+    final var buffer = ByteBuffer.wrap(content);
+
+    try (final var channel =
+        FileChannel.open(directory.resolve(block.fileName), StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, block.position + buffer.position()) < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes of %s at position %d, but reached the end of the file",
+                  content.length, block.fileName, block.position));
+        }
+      }
+    }
+
+    return content;
+  }
+
+  private ByteBuffer encodeChunkId(final FileBlock block) {
+    final var chunkId = SnapshotChunkUtil.createChunkId(block.fileName, block.position);
+    return ByteBuffer.wrap(chunkId.getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
   }
 
   private CharSequence decodeChunkId(final ByteBuffer id) {
     return chunkIdView.wrap(id);
   }
 
+  private static final class FileBlock {
+    private static final Comparator<FileBlock> COMPARATOR =
+        Comparator.<FileBlock, String>comparing(block -> block.fileName)
+            .thenComparingLong(block -> block.position);
+
+    private final String fileName;
+    private final long position;
+    private final long fileSize;
+
+    private FileBlock(final String fileName, final long position, final long fileSize) {
+      this.fileName = fileName;
+      this.position = position;
+      this.fileSize = fileSize;
+    }
+  }
+
   private static final class CharSequenceView {
     private final DirectBuffer wrapper = new UnsafeBuffer();
     private final AsciiSequenceView view = new AsciiSequenceView();
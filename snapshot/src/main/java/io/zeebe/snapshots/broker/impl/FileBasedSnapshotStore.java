@@ -23,9 +23,11 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -47,6 +49,8 @@ public final class FileBasedSnapshotStore
   private final Set<PersistedSnapshotListener> listeners;
 
   private final SnapshotMetrics snapshotMetrics;
+  // the max size of the chunks into which the snapshot files are split on replication
+  private final int maxChunkSize;
 
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef;
   // used to write concurrently received snapshots in different pending directories
@@ -55,8 +59,10 @@ public final class FileBasedSnapshotStore
   public FileBasedSnapshotStore(
       final SnapshotMetrics snapshotMetrics,
       final Path snapshotsDirectory,
-      final Path pendingDirectory) {
+      final Path pendingDirectory,
+      final int maxChunkSize) {
     this.snapshotsDirectory = snapshotsDirectory;
+    this.maxChunkSize = maxChunkSize;
     this.pendingDirectory = pendingDirectory;
     this.snapshotMetrics = snapshotMetrics;
     receivingSnapshotStartCount = new AtomicLong();
@@ -83,7 +89,7 @@ public final class FileBasedSnapshotStore
     final var optionalMeta = FileBasedSnapshotMetadata.ofPath(path);
     if (optionalMeta.isPresent()) {
       final var metadata = optionalMeta.get();
-      return new FileBasedSnapshot(path, metadata);
+      return new FileBasedSnapshot(path, metadata, maxChunkSize, null);
     } else {
       LOGGER.warn("Expected snapshot file format to be %d-%d-%d-%d, but was {}", path);
     }
@@ -106,6 +112,10 @@ public final class FileBasedSnapshotStore
     return Optional.ofNullable(currentPersistedSnapshotRef.get());
   }
 
+  Optional<FileBasedSnapshot> getLatestFileBasedSnapshot() {
+    return Optional.ofNullable(currentPersistedSnapshotRef.get());
+  }
+
   @Override
   public void purgePendingSnapshots() throws IOException {
     try (final var files = Files.list(pendingDirectory)) {
@@ -255,7 +265,10 @@ public final class FileBasedSnapshotStore
     return (persistedSnapshot != null && persistedSnapshot.getMetadata().compareTo(metadata) >= 0);
   }
 
-  PersistedSnapshot newSnapshot(final FileBasedSnapshotMetadata metadata, final Path directory) {
+  PersistedSnapshot newSnapshot(
+      final FileBasedSnapshotMetadata metadata,
+      final Path directory,
+      final SortedMap<String, Long> fileChecksums) {
     final var currentPersistedSnapshot = currentPersistedSnapshotRef.get();
 
     if (isCurrentSnapshotNewer(metadata)) {
@@ -277,7 +290,9 @@ public final class FileBasedSnapshotStore
       throw new UncheckedIOException(e);
     }
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot =
+        new FileBasedSnapshot(
+            destination, metadata, maxChunkSize, Collections.unmodifiableSortedMap(fileChecksums));
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -31,8 +31,22 @@ public final class FileBasedSnapshotStoreFactory
     implements SnapshotStoreSupplier, ReceivableSnapshotStoreFactory {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
+  public static final int DEFAULT_MAX_CHUNK_SIZE = 4 * 1024 * 1024;
 
   private final Map<String, FileBasedSnapshotStore> partitionSnapshotStores = new HashMap();
+  private final int maxChunkSize;
+
+  public FileBasedSnapshotStoreFactory() {
+    this(DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * @param maxChunkSize the max size of the chunks into which the snapshot files are split on
+   *     replication
+   */
+  public FileBasedSnapshotStoreFactory(final int maxChunkSize) {
+    this.maxChunkSize = maxChunkSize;
+  }
 
   @Override
   public ReceivableSnapshotStore createReceivableSnapshotStore(
@@ -47,7 +61,10 @@ public final class FileBasedSnapshotStoreFactory
         partitionName,
         p ->
             new FileBasedSnapshotStore(
-                new SnapshotMetrics(partitionName), snapshotDirectory, pendingDirectory));
+                new SnapshotMetrics(partitionName),
+                snapshotDirectory,
+                pendingDirectory,
+                maxChunkSize));
   }
 
   @Override
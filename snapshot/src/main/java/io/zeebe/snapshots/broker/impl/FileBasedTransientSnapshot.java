@@ -11,7 +11,9 @@ import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.TransientSnapshot;
 import io.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,7 +71,16 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   @Override
   public PersistedSnapshot persist() {
-    return snapshotStore.newSnapshot(metadata, directory);
+    // the checksums are computed here rather than when the snapshot is replicated, which happens
+    // on the Raft thread
+    final SortedMap<String, Long> fileChecksums;
+    try {
+      fileChecksums = SnapshotChunkUtil.createFileChecksums(directory);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unexpected exception on calculating file checksums.", e);
+    }
+
+    return snapshotStore.newSnapshot(metadata, directory, fileChecksums);
   }
 
   public Path getPath() {
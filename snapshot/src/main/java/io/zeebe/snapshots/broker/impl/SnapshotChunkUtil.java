@@ -8,13 +8,22 @@
 package io.zeebe.snapshots.broker.impl;
 
 import io.zeebe.snapshots.raft.SnapshotChunk;
-import java.io.File;
+import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
 
+  // a file name can't contain a slash, so it separates the file name from the position of the
+  // chunk in the chunk ID
+  private static final char POSITION_SEPARATOR = '/';
+
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
@@ -23,17 +32,63 @@ final class SnapshotChunkUtil {
     return crc32.getValue();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
-      final File snapshotChunkFile,
+  /** @return the checksums of the files in the directory, ordered by their name */
+  static SortedMap<String, Long> createFileChecksums(final Path directory) throws IOException {
+    final List<Path> files;
+    try (final var stream = Files.list(directory).sorted()) {
+      files = stream.collect(Collectors.toList());
+    }
+
+    final long[] checksums = ChecksumUtil.createChecksums(files);
+    final SortedMap<String, Long> fileChecksums = new TreeMap<>();
+    for (int i = 0; i < checksums.length; i++) {
+      fileChecksums.put(files.get(i).getFileName().toString(), checksums[i]);
+    }
+    return fileChecksums;
+  }
+
+  /** @return the checksum of the snapshot, combined of the checksums of its files */
+  static long createSnapshotChecksum(final SortedMap<String, Long> fileChecksums) {
+    return ChecksumUtil.combineChecksums(
+        fileChecksums.values().stream().mapToLong(Long::longValue).toArray());
+  }
+
+  /**
+   * @return the ID of the chunk at the given position of the file; the ID of the first chunk is the
+   *     file name
+   */
+  static String createChunkId(final String fileName, final long fileBlockPosition) {
+    return fileBlockPosition == 0 ? fileName : fileName + POSITION_SEPARATOR + fileBlockPosition;
+  }
+
+  static String getFileName(final String chunkId) {
+    final int separatorIndex = chunkId.lastIndexOf(POSITION_SEPARATOR);
+    return separatorIndex < 0 ? chunkId : chunkId.substring(0, separatorIndex);
+  }
+
+  static long getFileBlockPosition(final String chunkId) {
+    final int separatorIndex = chunkId.lastIndexOf(POSITION_SEPARATOR);
+    return separatorIndex < 0 ? 0 : Long.parseLong(chunkId.substring(separatorIndex + 1));
+  }
+
+  static SnapshotChunk createSnapshotChunk(
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
-      throws IOException {
-    final byte[] content;
-    content = Files.readAllBytes(snapshotChunkFile.toPath());
-    final long checksum = createChecksum(content);
+      final String chunkName,
+      final long checksum,
+      final byte[] content,
+      final long snapshotChecksum,
+      final long fileBlockPosition,
+      final long totalFileSize) {
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
+        snapshotId,
+        totalCount,
+        chunkName,
+        checksum,
+        content,
+        snapshotChecksum,
+        fileBlockPosition,
+        totalFileSize);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -43,6 +98,8 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -50,13 +107,17 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -79,6 +140,16 @@ final class SnapshotChunkUtil {
       return checksum;
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
     @Override
     public byte[] getContent() {
       return content;
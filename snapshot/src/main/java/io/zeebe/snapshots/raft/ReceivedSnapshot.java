@@ -54,4 +54,17 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @return returns true if everything succeeds, false otherwise
    */
   boolean apply(SnapshotChunk chunk) throws IOException;
+
+  /**
+   * Applies the given {@link SnapshotChunk} without its content, by reusing the whole file with the
+   * same name and checksum of the latest persisted snapshot; see {@link
+   * SnapshotChunkReader#nextReusable()}. If there is no such file, then the chunks of the file must
+   * be applied with their content via {@link #apply(SnapshotChunk)}.
+   *
+   * @param chunk the {@link SnapshotChunk} which should be reused
+   * @return returns true if the chunk was reused, false otherwise
+   */
+  default boolean reuse(final SnapshotChunk chunk) throws IOException {
+    return false;
+  }
 }
@@ -13,12 +13,21 @@ public interface SnapshotChunk {
   /** @return a unique snapshot identifier * */
   String getSnapshotId();
 
-  /** @return the total count of snapshot chunks, which correspond to the same snapshot */
+  /**
+   * @return the total count of snapshot files, which correspond to the same snapshot; each file
+   *     consists of one or more chunks
+   */
   int getTotalCount();
 
-  /** @return the name of the current chunk (e.g. file name) */
+  /** @return the name of the current chunk, i.e. the name of its file */
   String getChunkName();
 
+  /** @return the position of the content of the current chunk in its file */
+  long getFileBlockPosition();
+
+  /** @return the total size of the file of the current chunk */
+  long getTotalFileSize();
+
   /** @return the checksum of the content, can be use to verify the integrity of the content */
   long getChecksum();
 
@@ -10,6 +10,7 @@ package io.zeebe.snapshots.raft;
 import io.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Optional;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,18 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Returns a chunk without content which stands for the whole file of the next chunk, if the file
+   * is never modified once written, such that the receiver may already hold the same file in its
+   * latest snapshot and can reuse it instead of receiving its content; see {@link
+   * ReceivedSnapshot#reuse(SnapshotChunk)}. The checksum of the returned chunk is the checksum of
+   * the whole file. If a chunk is returned, then the remaining chunks of the file are skipped.
+   *
+   * @return the chunk which stands for the whole next file, or empty if the next chunk can't be
+   *     reused
+   */
+  default Optional<SnapshotChunk> nextReusable() {
+    return Optional.empty();
+  }
 }
@@ -10,6 +10,7 @@ package io.zeebe.snapshots.broker.impl;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -21,13 +22,16 @@ import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
+import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -587,6 +591,142 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseChunkOfLatestSnapshot() throws Exception {
+    // given
+    final var term = 0L;
+    receiveSnapshot(
+            takeSnapshot(1L, term, List.of("1.sst", "CURRENT"), List.of("immutable", "MANIFEST-1")))
+        .persist();
+    final var persistedSnapshot =
+        takeSnapshot(
+            2L,
+            term,
+            List.of("1.sst", "2.sst", "CURRENT"),
+            List.of("immutable", "new", "MANIFEST-2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    final var reusedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunkId = snapshotChunkReader.nextId();
+        final var reusableChunk = snapshotChunkReader.nextReusable();
+        if (reusableChunk.isPresent() && receivedSnapshot.reuse(reusableChunk.get())) {
+          reusedChunks.add(reusableChunk.get().getChunkName());
+        } else {
+          snapshotChunkReader.seek(chunkId);
+          assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+        }
+      }
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(reusedChunks).containsExactly("1.sst");
+    assertThat(snapshot.getPath().toFile().listFiles())
+        .isNotNull()
+        .extracting(File::getName)
+        .containsExactlyInAnyOrder("1.sst", "2.sst", "CURRENT");
+    assertThat(snapshot.getPath().resolve("1.sst")).hasContent("immutable");
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() throws Exception {
+    // given
+    final var term = 0L;
+    receiveSnapshot(takeSnapshot(1L, term, List.of("1.sst"), List.of("immutable"))).persist();
+    final var persistedSnapshot = takeSnapshot(2L, term, List.of("1.sst"), List.of("other"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      final var reused = receivedSnapshot.reuse(snapshotChunkReader.nextReusable().orElseThrow());
+
+      // then
+      assertThat(reused).isFalse();
+      snapshotChunkReader.seek(ByteBuffer.wrap("1.sst".getBytes()));
+      assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+    }
+    assertThat(receivedSnapshot.persist().getPath().resolve("1.sst")).hasContent("other");
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithoutLatestSnapshot() throws Exception {
+    // given
+    final var persistedSnapshot = takeSnapshot(1L, 0L, List.of("1.sst"), List.of("immutable"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      final var reused = receivedSnapshot.reuse(snapshotChunkReader.nextReusable().orElseThrow());
+
+      // then
+      assertThat(reused).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldReceiveFileSplitIntoSeveralChunks() throws Exception {
+    // given
+    final var senderRoot = temporaryFolder.newFolder("splitting-sender");
+    final var senderFactory = new FileBasedSnapshotStoreFactory(4);
+    senderFactory.createReceivableSnapshotStore(senderRoot.toPath(), "1");
+    senderSnapshotStore = senderFactory.getConstructableSnapshotStore("1");
+    final var persistedSnapshot =
+        takeSnapshot(1L, 0L, List.of("1.sst", "CURRENT"), List.of("0123456789", "MANIFEST-1"));
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        chunks.add(chunk);
+        assertThat(receivedSnapshot.apply(chunk)).isTrue();
+      }
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getFileBlockPosition)
+        .containsExactly(
+            tuple("1.sst", 0L),
+            tuple("1.sst", 4L),
+            tuple("1.sst", 8L),
+            tuple("CURRENT", 0L),
+            tuple("CURRENT", 4L),
+            tuple("CURRENT", 8L));
+    assertThat(snapshot.getPath().resolve("1.sst")).hasContent("0123456789");
+    assertThat(snapshot.getPath().resolve("CURRENT")).hasContent("MANIFEST-1");
+  }
+
+  @Test
+  public void shouldNotApplyChunkOutOfOrder() throws Exception {
+    // given
+    final var senderRoot = temporaryFolder.newFolder("splitting-sender");
+    final var senderFactory = new FileBasedSnapshotStoreFactory(4);
+    senderFactory.createReceivableSnapshotStore(senderRoot.toPath(), "1");
+    senderSnapshotStore = senderFactory.getConstructableSnapshotStore("1");
+    final var persistedSnapshot = takeSnapshot(1L, 0L, List.of("1.sst"), List.of("0123456789"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      // when
+      snapshotChunkReader.seek(ByteBuffer.wrap("1.sst/4".getBytes()));
+      final var applied = receivedSnapshot.apply(snapshotChunkReader.next());
+
+      // then
+      assertThat(applied).isFalse();
+    }
+  }
+
   private ReceivedSnapshot takeAndReceiveSnapshot(final long index, final long term)
       throws IOException {
     final PersistedSnapshot persistedSnapshot = takeSnapshot(index, term);
@@ -601,6 +741,17 @@ public class FileBasedReceivedSnapshotTest {
     return transientSnapshot.persist();
   }
 
+  private PersistedSnapshot takeSnapshot(
+      final long index,
+      final long term,
+      final List<String> fileNames,
+      final List<String> fileContents) {
+    final var transientSnapshot =
+        senderSnapshotStore.newTransientSnapshot(index, term, 1, 0).orElseThrow();
+    transientSnapshot.take(p -> takeSnapshot(p, fileNames, fileContents));
+    return transientSnapshot.persist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot)
       throws IOException {
     final var receivedSnapshot =
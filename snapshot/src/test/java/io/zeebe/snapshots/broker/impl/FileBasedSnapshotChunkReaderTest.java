@@ -10,6 +10,7 @@ package io.zeebe.snapshots.broker.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.snapshots.raft.SnapshotChunk;
+import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -70,6 +71,80 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldOnlyReuseSstFiles() {
+    // given
+    final var reader = newReader(chunksOf("000012.sst", "CURRENT", "MANIFEST-000014"));
+
+    // when - then
+    assertThat(reader.nextReusable())
+        .hasValueSatisfying(chunk -> assertThat(chunk.getChunkName()).isEqualTo("000012.sst"));
+    assertThat(reader.nextId()).isEqualTo(asBuffer("CURRENT"));
+    assertThat(reader.nextReusable()).isEmpty();
+    assertThat(reader.next().getChunkName()).isEqualTo("CURRENT");
+    assertThat(reader.nextReusable()).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseFileWithChecksumComputedOnCreation() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    final var file = directory.resolve("000012.sst");
+    Files.writeString(file, "immutable");
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+    final long expectedChecksum = ChecksumUtil.createChecksum(file);
+
+    // when
+    Files.delete(file);
+
+    // then
+    assertThat(reader.nextReusable())
+        .hasValueSatisfying(chunk -> assertThat(chunk.getChecksum()).isEqualTo(expectedChecksum));
+  }
+
+  @Test
+  public void shouldSplitFileIntoChunksOfMaxSize() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("file"), "0123456789");
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+
+    // when
+    final var chunkIds = new ArrayList<ByteBuffer>();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunkIds.add(reader.nextId());
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunkIds).containsExactly(asBuffer("file"), asBuffer("file/4"), asBuffer("file/8"));
+    assertThat(chunks)
+        .extracting(chunk -> new String(chunk.getContent()))
+        .containsExactly("0123", "4567", "89");
+    assertThat(chunks).extracting(SnapshotChunk::getFileBlockPosition).containsExactly(0L, 4L, 8L);
+    assertThat(chunks).extracting(SnapshotChunk::getTotalFileSize).containsOnly(10L);
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(1);
+  }
+
+  @Test
+  public void shouldSeekToChunkWithinFile() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("file"), "0123456789");
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+    reader.next();
+    reader.next();
+
+    // when
+    reader.seek(asBuffer("file/4"));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(4L);
+    assertThat(chunk.getContent()).isEqualTo("4567".getBytes());
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
     return ByteBuffer.wrap(chunk.toString().getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
   }
@@ -92,7 +167,8 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
 
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(
+          directory, FileBasedSnapshotStoreFactory.DEFAULT_MAX_CHUNK_SIZE);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -9,29 +9,70 @@ package io.zeebe.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.zip.CRC32;
 
 public final class ChecksumUtil {
 
+  // files are read in blocks of this size, such that the memory use doesn't grow with the files
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
   private ChecksumUtil() {}
 
   /** computes a checksum for the files, in the order they're presented */
   public static long createCombinedChecksum(final List<Path> paths) throws IOException {
+    return combineChecksums(createChecksums(paths));
+  }
+
+  /** computes a checksum for the content of each file, in the order they're presented */
+  public static long[] createChecksums(final List<Path> paths) throws IOException {
     final CRC32 checksumGenerator = new CRC32();
-    final List<Long> chunkChecksum = new ArrayList<>();
+    final long[] checksums = new long[paths.size()];
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
 
-    for (final var path : paths) {
-      checksumGenerator.update(Files.readAllBytes(path));
-      chunkChecksum.add(checksumGenerator.getValue());
+    for (int i = 0; i < checksums.length; i++) {
+      update(checksumGenerator, paths.get(i), buffer);
+      checksums[i] = checksumGenerator.getValue();
       checksumGenerator.reset();
     }
 
-    chunkChecksum.forEach(
-        c -> checksumGenerator.update(ByteBuffer.allocate(Long.BYTES).putLong(0, c)));
+    return checksums;
+  }
+
+  /**
+   * combines the checksums of files, as computed by {@link #createChecksums(List)}, to the same
+   * checksum as {@link #createCombinedChecksum(List)}
+   */
+  public static long combineChecksums(final long[] checksums) {
+    final CRC32 checksumGenerator = new CRC32();
+    final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+    for (final long checksum : checksums) {
+      checksumGenerator.update(buffer.putLong(0, checksum));
+      buffer.clear();
+    }
     return checksumGenerator.getValue();
   }
+
+  /** computes a checksum for the content of the file */
+  public static long createChecksum(final Path path) throws IOException {
+    final CRC32 checksumGenerator = new CRC32();
+    update(checksumGenerator, path, ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+    return checksumGenerator.getValue();
+  }
+
+  private static void update(
+      final CRC32 checksumGenerator, final Path path, final ByteBuffer buffer) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer.clear();
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        checksumGenerator.update(buffer);
+        buffer.clear();
+      }
+    }
+  }
 }
@@ -9,13 +9,20 @@ package io.zeebe.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ChecksumUtilTest {
 
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private Path thirdExampleFile;
   private Path exampleFile;
   private Path otherExampleFile;
@@ -95,4 +102,39 @@ public class ChecksumUtilTest {
     // then
     assertThat(actual).isNotEqualTo(expectedChecksum);
   }
+
+  @Test
+  public void shouldCombineChecksumsOfFilesToCombinedChecksum() throws Exception {
+    // given
+    final var files = List.of(exampleFile, otherExampleFile, thirdExampleFile);
+    final var expectedChecksum = ChecksumUtil.createCombinedChecksum(files);
+
+    // when
+    final var checksums = ChecksumUtil.createChecksums(files);
+
+    // then
+    assertThat(checksums)
+        .containsExactly(
+            ChecksumUtil.createChecksum(exampleFile),
+            ChecksumUtil.createChecksum(otherExampleFile),
+            ChecksumUtil.createChecksum(thirdExampleFile));
+    assertThat(ChecksumUtil.combineChecksums(checksums)).isEqualTo(expectedChecksum);
+  }
+
+  @Test
+  public void shouldCreateChecksumOfFileLargerThanReadBuffer() throws Exception {
+    // given
+    final var content = new byte[1024 * 1024 + 17];
+    new Random(42).nextBytes(content);
+    final var file = temporaryFolder.newFile().toPath();
+    Files.write(file, content);
+    final var expectedChecksum = new CRC32();
+    expectedChecksum.update(content);
+
+    // when
+    final var actual = ChecksumUtil.createChecksum(file);
+
+    // then
+    assertThat(actual).isEqualTo(expectedChecksum.getValue());
+  }
 }
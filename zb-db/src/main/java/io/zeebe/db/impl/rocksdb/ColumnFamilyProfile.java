@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+/**
+ * Describes how a column family is used, which determines the table options the {@link
+ * ZeebeRocksDbFactory} applies to it. All profiles share the same block cache.
+ */
+public enum ColumnFamilyProfile {
+  /** Plain block based table with the RocksDB defaults. */
+  DEFAULT,
+
+  /**
+   * Small and frequently scanned column families, e.g. deadlines or activatable jobs. Uses small
+   * blocks, bloom filters and keeps index and filter blocks in the block cache.
+   */
+  INDEX,
+
+  /**
+   * Large values which are mostly read by point lookups, e.g. variables or stored events. Uses
+   * larger blocks and compression, as well as bloom filters.
+   */
+  BLOB
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/** Configuration of the RocksDB instances created by the {@link ZeebeRocksDbFactory}. */
+public final class RocksDbConfiguration {
+
+  public static final long DEFAULT_BLOCK_CACHE_SIZE = 32 * 1024 * 1024L;
+
+  private Properties columnFamilyOptions = new Properties();
+  private long blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
+  private final Map<String, ColumnFamilyProfile> columnFamilyProfiles = new HashMap<>();
+  private final Map<String, Integer> columnFamilyPrefixLengths = new HashMap<>();
+
+  public Properties getColumnFamilyOptions() {
+    return columnFamilyOptions;
+  }
+
+  /**
+   * @param columnFamilyOptions additional column family options, which are applied to all column
+   *     families and overwrite the defaults of the profiles
+   * @return this configuration
+   */
+  public RocksDbConfiguration setColumnFamilyOptions(final Properties columnFamilyOptions) {
+    this.columnFamilyOptions = Objects.requireNonNull(columnFamilyOptions);
+    return this;
+  }
+
+  public long getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  /**
+   * @param blockCacheSize the size in bytes of the block cache, which is shared by all column
+   *     families of a database
+   * @return this configuration
+   */
+  public RocksDbConfiguration setBlockCacheSize(final long blockCacheSize) {
+    if (blockCacheSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected block cache size to be positive, but was %d", blockCacheSize));
+    }
+    this.blockCacheSize = blockCacheSize;
+    return this;
+  }
+
+  /**
+   * Returns the profile of the given column family, or {@link ColumnFamilyProfile#DEFAULT} if no
+   * profile is configured.
+   *
+   * @param columnFamilyName the name of the column family, case insensitive
+   * @return the profile of the column family
+   */
+  public ColumnFamilyProfile getColumnFamilyProfile(final String columnFamilyName) {
+    return columnFamilyProfiles.getOrDefault(
+        columnFamilyName.toLowerCase(), ColumnFamilyProfile.DEFAULT);
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return Map.copyOf(columnFamilyProfiles);
+  }
+
+  /**
+   * Sets the profile of the given column family, replacing a previously set profile.
+   *
+   * @param columnFamilyName the name of the column family, case insensitive
+   * @param profile the profile to use for the column family
+   * @return this configuration
+   */
+  public RocksDbConfiguration setColumnFamilyProfile(
+      final String columnFamilyName, final ColumnFamilyProfile profile) {
+    columnFamilyProfiles.put(columnFamilyName.toLowerCase(), Objects.requireNonNull(profile));
+    return this;
+  }
+
+  /**
+   * Sets the profile of the given column family, if no profile was set for it before. Used to apply
+   * defaults without overwriting the profiles configured by the user.
+   *
+   * @param columnFamilyName the name of the column family, case insensitive
+   * @param profile the profile to use for the column family
+   * @return this configuration
+   */
+  public RocksDbConfiguration setColumnFamilyProfileIfAbsent(
+      final String columnFamilyName, final ColumnFamilyProfile profile) {
+    columnFamilyProfiles.putIfAbsent(
+        columnFamilyName.toLowerCase(), Objects.requireNonNull(profile));
+    return this;
+  }
+
+  /**
+   * Returns the length of the key prefix of the given column family, which is used for the prefix
+   * extractor and the prefix bloom filters, or 0 if the column family has no prefix.
+   *
+   * @param columnFamilyName the name of the column family, case insensitive
+   * @return the length of the key prefix
+   */
+  public int getColumnFamilyPrefixLength(final String columnFamilyName) {
+    return columnFamilyPrefixLengths.getOrDefault(columnFamilyName.toLowerCase(), 0);
+  }
+
+  /**
+   * Sets the length of the key prefix of the given column family. All keys of the column family
+   * should start with a fixed-length part of this length, e.g. a {@code DbLong} scope key, and
+   * prefix iterations should use at least this prefix. Shorter prefix iterations are still correct,
+   * but can't make use of the prefix bloom filters.
+   *
+   * @param columnFamilyName the name of the column family, case insensitive
+   * @param prefixLength the length of the key prefix, or 0 to disable the prefix extractor
+   * @return this configuration
+   */
+  public RocksDbConfiguration setColumnFamilyPrefixLength(
+      final String columnFamilyName, final int prefixLength) {
+    if (prefixLength < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected prefix length to be non-negative, but was %d", prefixLength));
+    }
+    columnFamilyPrefixLengths.put(columnFamilyName.toLowerCase(), prefixLength);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbConfiguration{"
+        + "columnFamilyOptions="
+        + columnFamilyOptions
+        + ", blockCacheSize="
+        + blockCacheSize
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
+        + ", columnFamilyPrefixLengths="
+        + columnFamilyPrefixLengths
+        + '}';
+  }
+}
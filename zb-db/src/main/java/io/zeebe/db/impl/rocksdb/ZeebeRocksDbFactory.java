@@ -11,70 +11,85 @@ import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  static final long INDEX_BLOCK_SIZE = 4 * 1024L;
+  static final long BLOB_BLOCK_SIZE = 32 * 1024L;
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
   static {
     RocksDB.loadLibrary();
   }
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
-  private final Properties userProvidedColumnFamilyOptions;
+  private final RocksDbConfiguration configuration;
 
   private ZeebeRocksDbFactory(
       final Class<ColumnFamilyType> columnFamilyTypeClass,
-      final Properties userProvidedColumnFamilyOptions) {
+      final RocksDbConfiguration configuration) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
-    this.userProvidedColumnFamilyOptions = Objects.requireNonNull(userProvidedColumnFamilyOptions);
+    this.configuration = Objects.requireNonNull(configuration);
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
-    final var columnFamilyOptions = new Properties();
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, columnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, new RocksDbConfiguration());
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass,
           final Properties userProvidedColumnFamilyOptions) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, userProvidedColumnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass,
+        new RocksDbConfiguration().setColumnFamilyOptions(userProvidedColumnFamilyOptions));
+  }
+
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, configuration);
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
-    return open(
-        pathName,
-        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
-            .collect(Collectors.toList()));
+    return open(pathName);
   }
 
-  private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+  private ZeebeTransactionDb<ColumnFamilyType> open(final File dbDirectory) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
-      // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
+      // the block cache is shared by all column families and has to be closed as last
+      final Cache blockCache = new LRUCache(configuration.getBlockCacheSize());
+      closeables.add(blockCache);
 
+      // column family options have to be closed after the db options
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(blockCache, closeables);
+      final int[] prefixLengths = getPrefixLengths();
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
@@ -88,6 +103,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               dbOptions,
               dbDirectory.getAbsolutePath(),
               columnFamilyDescriptors,
+              prefixLengths,
               closeables,
               columnFamilyTypeClass);
 
@@ -98,28 +114,101 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final Cache blockCache, final List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
-
-    if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
-        final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
-        columnFamilyDescriptors.add(columnFamilyDescriptor);
-      }
+    final Map<ColumnFamilyProfile, Int2ObjectHashMap<ColumnFamilyOptions>> optionsByProfile =
+        new EnumMap<>(ColumnFamilyProfile.class);
+
+    for (final ColumnFamilyType columnFamily : columnFamilyTypeClass.getEnumConstants()) {
+      final var name = columnFamily.name().toLowerCase();
+      final var profile = configuration.getColumnFamilyProfile(name);
+      final var prefixLength = configuration.getColumnFamilyPrefixLength(name);
+      final var columnFamilyOptions =
+          optionsByProfile
+              .computeIfAbsent(profile, p -> new Int2ObjectHashMap<>())
+              .computeIfAbsent(
+                  prefixLength,
+                  length -> createColumnFamilyOptions(profile, length, blockCache, closeables));
+
+      columnFamilyDescriptors.add(new ColumnFamilyDescriptor(name.getBytes(), columnFamilyOptions));
     }
     return columnFamilyDescriptors;
   }
 
-  /** @return Options which are used on all column families */
+  private int[] getPrefixLengths() {
+    final ColumnFamilyType[] columnFamilies = columnFamilyTypeClass.getEnumConstants();
+    final int[] prefixLengths = new int[columnFamilies.length];
+    for (int i = 0; i < columnFamilies.length; i++) {
+      prefixLengths[i] = configuration.getColumnFamilyPrefixLength(columnFamilies[i].name());
+    }
+    return prefixLengths;
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyProfile profile,
+      final int prefixLength,
+      final Cache blockCache,
+      final List<AutoCloseable> closeables) {
+    final var tableConfig = new BlockBasedTableConfig().setBlockCache(blockCache);
+
+    if (profile != ColumnFamilyProfile.DEFAULT || prefixLength > 0) {
+      final var filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
+
+    switch (profile) {
+      case INDEX:
+        tableConfig
+            .setBlockSize(INDEX_BLOCK_SIZE)
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true);
+        break;
+      case BLOB:
+        tableConfig.setBlockSize(BLOB_BLOCK_SIZE);
+        break;
+      default:
+        break;
+    }
+
+    // the filters have to be closed after the column family options
+    final var columnFamilyOptions = createColumnFamilyOptions(profile);
+    if (prefixLength > 0) {
+      // the filters contain the prefixes in addition to the whole keys, which lets prefix seeks
+      // skip files and memtables that don't contain the prefix
+      columnFamilyOptions
+          .useCappedPrefixExtractor(prefixLength)
+          .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+    }
+    columnFamilyOptions.setTableFormatConfig(tableConfig);
+    closeables.add(columnFamilyOptions);
+    return columnFamilyOptions;
+  }
+
+  /** @return Options which are used on all column families with the default profile */
   public ColumnFamilyOptions createColumnFamilyOptions() {
+    return createColumnFamilyOptions(ColumnFamilyProfile.DEFAULT);
+  }
+
+  /**
+   * @param profile the profile of the column family
+   * @return Options which are used on all column families with the given profile, without the table
+   *     options
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(final ColumnFamilyProfile profile) {
     // start with some defaults
     final var columnFamilyOptionProps = new Properties();
     // look for cf_options.h to find available keys
     // look for options_helper.cc to find available values
     columnFamilyOptionProps.put("compaction_pri", "kOldestSmallestSeqFirst");
 
+    if (profile == ColumnFamilyProfile.BLOB) {
+      columnFamilyOptionProps.put("compression", "kLZ4Compression");
+      columnFamilyOptionProps.put("bottommost_compression", "kZSTD");
+    }
+
     // apply custom options
+    final var userProvidedColumnFamilyOptions = configuration.getColumnFamilyOptions();
     columnFamilyOptionProps.putAll(userProvidedColumnFamilyOptions);
 
     final var columnFamilyOptions =
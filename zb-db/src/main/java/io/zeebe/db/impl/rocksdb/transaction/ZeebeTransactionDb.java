@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -51,6 +52,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final List<AutoCloseable> closables;
   private final EnumMap<ColumnFamilyNames, Long> columnFamilyMap;
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
+  private final Long2LongHashMap handleToPrefixLengthMap;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
@@ -59,15 +61,18 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final OptimisticTransactionDB optimisticTransactionDB,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
+      final Long2LongHashMap handleToPrefixLengthMap,
       final List<AutoCloseable> closables) {
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
+    this.handleToPrefixLengthMap = handleToPrefixLengthMap;
     this.closables = closables;
 
     prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
     closables.add(prefixReadOptions);
-    defaultReadOptions = new ReadOptions();
+    // iterations which are not bound to a prefix must ignore the prefix extractor
+    defaultReadOptions = new ReadOptions().setTotalOrderSeek(true);
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
@@ -78,6 +83,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final DBOptions options,
           final String path,
           final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+          final int[] prefixLengths,
           final List<AutoCloseable> closables,
           final Class<ColumnFamilyNames> columnFamilyTypeClass)
           throws RocksDBException {
@@ -90,15 +96,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
     final ColumnFamilyNames[] enumConstants = columnFamilyTypeClass.getEnumConstants();
     final Long2ObjectHashMap<ColumnFamilyHandle> handleToEnumMap = new Long2ObjectHashMap<>();
+    final Long2LongHashMap handleToPrefixLengthMap = new Long2LongHashMap(0);
     for (int i = 0; i < handles.size(); i++) {
       final ColumnFamilyHandle columnFamilyHandle = handles.get(i);
       closables.add(columnFamilyHandle);
       columnFamilyMap.put(enumConstants[i], getNativeHandle(columnFamilyHandle));
       handleToEnumMap.put(getNativeHandle(handles.get(i)), handles.get(i));
+      if (prefixLengths[i] > 0) {
+        handleToPrefixLengthMap.put(getNativeHandle(columnFamilyHandle), prefixLengths[i]);
+      }
     }
 
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        optimisticTransactionDB,
+        columnFamilyMap,
+        handleToEnumMap,
+        handleToPrefixLengthMap,
+        closables);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -334,11 +348,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
+   * NOTE: the prefix extractor of a column family has a fixed length, which is configured when the
+   * database is opened. If the given prefix is at least as long, the iterator is bound to the
+   * extracted prefix and can skip files and memtables via the prefix bloom filters. Otherwise, the
+   * iterator has to seek in total order. In both cases the iterator can still return keys which
+   * don't match the given prefix, e.g. if it is longer than the extracted one.
    *
    * <p>While iterating over subsequent keys we have to validate it.
    */
@@ -355,7 +369,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
                 context,
                 transaction -> {
                   try (final RocksIterator iterator =
-                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
+                      newIterator(
+                          columnFamilyHandle,
+                          context,
+                          prefixReadOptions(columnFamilyHandle, prefix))) {
                     prefix.write(prefixKeyBuffer, 0);
                     final int prefixLength = prefix.getLength();
 
@@ -386,6 +403,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
                 }));
   }
 
+  private ReadOptions prefixReadOptions(final long columnFamilyHandle, final DbKey prefix) {
+    final long extractedPrefixLength = handleToPrefixLengthMap.get(columnFamilyHandle);
+    return prefix.getLength() >= extractedPrefixLength ? prefixReadOptions : defaultReadOptions;
+  }
+
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
       final DbContext context,
       final KeyType keyInstance,
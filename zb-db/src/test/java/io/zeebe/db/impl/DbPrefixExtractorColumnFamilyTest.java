@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class DbPrefixExtractorColumnFamilyTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Parameter public boolean flushToFiles;
+
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      ZeebeRocksDbFactory.newFactory(
+          DefaultColumnFamily.class,
+          new RocksDbConfiguration()
+              .setColumnFamilyPrefixLength(DefaultColumnFamily.DEFAULT.name(), Long.BYTES));
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+
+  @Parameters(name = "flush to files: {0}")
+  public static Object[] parameters() {
+    return new Object[] {false, true};
+  }
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb = dbFactory.createDb(temporaryFolder.newFolder());
+    createColumnFamily();
+
+    for (long first = 1; first <= 3; first++) {
+      for (long second = 1; second <= 3; second++) {
+        firstKey.wrapLong(first);
+        secondKey.wrapLong(second);
+        value.wrapLong(first * 10 + second);
+        columnFamily.put(compositeKey, value);
+      }
+    }
+
+    if (flushToFiles) {
+      // a snapshot flushes the memtables, so the reopened database reads only from files
+      final var snapshotDirectory = temporaryFolder.newFolder();
+      snapshotDirectory.delete();
+      zeebeDb.createSnapshot(snapshotDirectory);
+      zeebeDb.close();
+
+      zeebeDb = dbFactory.createDb(snapshotDirectory);
+      createColumnFamily();
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldIterateOverExtractedPrefix() {
+    // given
+    firstKey.wrapLong(2);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).containsExactly(21L, 22L, 23L);
+  }
+
+  @Test
+  public void shouldIterateOverLongerPrefix() {
+    // given
+    firstKey.wrapLong(2);
+    secondKey.wrapLong(3);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        compositeKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).containsExactly(23L);
+  }
+
+  @Test
+  public void shouldIterateOverShorterPrefix() {
+    // given
+    final var prefix = new DbByte();
+    prefix.wrapByte((byte) 0);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).containsExactly(11L, 12L, 13L, 21L, 22L, 23L, 31L, 32L, 33L);
+  }
+
+  @Test
+  public void shouldNotIterateOverMissingPrefix() {
+    // given
+    firstKey.wrapLong(4);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldIterateOverAllKeys() {
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.forEach((key, value) -> values.add(value.getValue()));
+
+    // then
+    assertThat(values).containsExactly(11L, 12L, 13L, 21L, 22L, 23L, 31L, 32L, 33L);
+  }
+
+  private void createColumnFamily() {
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), compositeKey, value);
+  }
+}
@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.util.ByteValue;
 import java.io.File;
@@ -20,6 +22,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompressionType;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -90,4 +93,96 @@ public final class ZeebeRocksDbFactoryTest {
         .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize);
   }
+
+  @Test
+  public void shouldCreateDbWithColumnFamilyProfiles() throws Exception {
+    // given
+    final var configuration =
+        new RocksDbConfiguration()
+            .setBlockCacheSize(ByteValue.ofMegabytes(8))
+            .setColumnFamilyProfile(ProfiledColumnFamilies.INDEX.name(), ColumnFamilyProfile.INDEX)
+            .setColumnFamilyProfile(ProfiledColumnFamilies.BLOB.name(), ColumnFamilyProfile.BLOB);
+    final ZeebeDbFactory<ProfiledColumnFamilies> dbFactory =
+        ZeebeRocksDbFactory.newFactory(ProfiledColumnFamilies.class, configuration);
+    final var key = new DbLong();
+    final var value = new DbString();
+
+    // when
+    try (final ZeebeDb<ProfiledColumnFamilies> db =
+        dbFactory.createDb(temporaryFolder.newFolder())) {
+      for (final ProfiledColumnFamilies columnFamilyName : ProfiledColumnFamilies.values()) {
+        final var columnFamily =
+            db.createColumnFamily(columnFamilyName, db.createContext(), key, value);
+        key.wrapLong(1);
+        value.wrapString(columnFamilyName.name());
+        columnFamily.put(key, value);
+
+        // then
+        assertThat(columnFamily.get(key).toString()).isEqualTo(columnFamilyName.name());
+      }
+    }
+  }
+
+  @Test
+  public void shouldApplyColumnFamilyProfile() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+
+    // when
+    final var defaults = factory.createColumnFamilyOptions(ColumnFamilyProfile.DEFAULT);
+    final var blobOptions = factory.createColumnFamilyOptions(ColumnFamilyProfile.BLOB);
+
+    // then
+    assertThat(defaults.compressionType()).isNotEqualTo(CompressionType.LZ4_COMPRESSION);
+    assertThat(blobOptions)
+        .extracting(
+            ColumnFamilyOptions::compressionType,
+            ColumnFamilyOptions::bottommostCompressionType,
+            ColumnFamilyOptions::compactionPriority)
+        .containsExactly(
+            CompressionType.LZ4_COMPRESSION,
+            CompressionType.ZSTD_COMPRESSION,
+            CompactionPriority.OldestSmallestSeqFirst);
+  }
+
+  @Test
+  public void shouldOverwriteColumnFamilyProfileOptions() {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("compression", "kNoCompression");
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration().setColumnFamilyOptions(customProperties));
+
+    // when
+    final var blobOptions = factory.createColumnFamilyOptions(ColumnFamilyProfile.BLOB);
+
+    // then
+    assertThat(blobOptions.compressionType()).isEqualTo(CompressionType.NO_COMPRESSION);
+  }
+
+  @Test
+  public void shouldUseDefaultProfileIfNotConfigured() {
+    // given
+    final var configuration =
+        new RocksDbConfiguration().setColumnFamilyProfile("index", ColumnFamilyProfile.INDEX);
+
+    // when
+    configuration.setColumnFamilyProfileIfAbsent("INDEX", ColumnFamilyProfile.BLOB);
+
+    // then
+    assertThat(configuration.getColumnFamilyProfile("INDEX")).isEqualTo(ColumnFamilyProfile.INDEX);
+    assertThat(configuration.getColumnFamilyProfile("other"))
+        .isEqualTo(ColumnFamilyProfile.DEFAULT);
+  }
+
+  private enum ProfiledColumnFamilies {
+    DEFAULT,
+    INDEX,
+    BLOB
+  }
 }